@@ -21,6 +21,7 @@ indra {
 
   javaVersions {
     target(17)
+    testWith(17, 21)
   }
 
   configurePublications {
@@ -36,6 +37,15 @@ indra {
   }
 }
 
+sourceSets {
+  main {
+    multirelease {
+      alternateVersions(21)
+      moduleName("com.seiama.functional")
+    }
+  }
+}
+
 indraSonatype {
   useAlternateSonatypeOSSHost("s01")
 }
@@ -0,0 +1,199 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The structure shared by the chunk types: a range of an array, or the lazy concatenation of two chunks.
+ *
+ * <p>Concatenations are kept balanced in the manner of a conc-tree: the depths of the two sides of a concatenation
+ * differ by at most one, so a chunk built from {@code n} pieces is at most {@code O(log n)} deep, and concatenating
+ * costs {@code O(log n)} however the pieces are appended.</p>
+ *
+ * <p>A concatenation is flattened into a new array the first time its elements are read, and then lets go of the
+ * chunks it was made from. Two threads may both flatten the same concatenation, but they produce equal arrays, so the
+ * race is benign.</p>
+ *
+ * @param <C> the chunk type
+ */
+abstract class AbstractChunk<C extends AbstractChunk<C>> {
+  final int size;
+  final int depth;
+  private final @Nullable Object array;
+  private final int offset;
+  // for a concatenation, its children until it is flattened and then the flattened array, so that a flattened
+  // concatenation does not keep its parts alive; a single field, so that it is never seen without either
+  private volatile @Nullable Object state;
+
+  AbstractChunk(final Object array, final int offset, final int size) {
+    this.array = array;
+    this.offset = offset;
+    this.size = size;
+    this.depth = 0;
+  }
+
+  AbstractChunk(final C left, final C right) {
+    this.array = null;
+    this.offset = 0;
+    this.size = Math.addExact(left.size, right.size);
+    this.depth = Math.max(left.level(), right.level()) + 1;
+    this.state = new Children(left, right);
+  }
+
+  abstract C leaf(final Object array, final int offset, final int size);
+
+  abstract C node(final C left, final C right);
+
+  abstract Object newArray(final int length);
+
+  // the array holding the elements of this chunk, starting at start()
+  final Object elements() {
+    final Object array = this.array;
+    return array != null ? array : this.flat();
+  }
+
+  final int start() {
+    return this.array != null ? this.offset : 0;
+  }
+
+  final C slice0(final int from, final int to) {
+    Objects.checkFromToIndex(from, to, this.size);
+    if (from == 0 && to == this.size) {
+      return this.self();
+    } else if (this.array != null) {
+      return this.leaf(this.array, this.offset + from, to - from);
+    }
+    if (this.state instanceof Children children) {
+      final C left = this.cast(children.left());
+      final int split = left.size;
+      if (to <= split) {
+        return left.slice0(from, to);
+      } else if (from >= split) {
+        return this.cast(children.right()).slice0(from - split, to - split);
+      }
+    }
+    return this.leaf(this.flat(), from, to - from);
+  }
+
+  final C concat0(final C that) {
+    requireNonNull(that, "that");
+    if (that.size == 0) {
+      return this.self();
+    } else if (this.size == 0) {
+      return that;
+    }
+    return this.join(this.self(), that);
+  }
+
+  final void copyTo(final Object destination, final int position) {
+    final ArrayDeque<AbstractChunk<C>> pending = new ArrayDeque<>();
+    pending.push(this);
+    int at = position;
+    while (!pending.isEmpty()) {
+      final AbstractChunk<C> chunk = pending.pop();
+      final Object source = chunk.array != null ? chunk.array : chunk.state;
+      if (source instanceof Children children) {
+        pending.push(this.cast(children.right()));
+        pending.push(this.cast(children.left()));
+      } else {
+        System.arraycopy(requireNonNull(source), chunk.start(), destination, at, chunk.size);
+        at += chunk.size;
+      }
+    }
+  }
+
+  // joins two chunks into a tree whose sides differ in depth by at most one, rotating along the spine of the deeper one
+  private C join(final C xs, final C ys) {
+    final int difference = ys.level() - xs.level();
+    final Children x = children(xs);
+    final Children y = children(ys);
+    if (difference >= -1 && difference <= 1) {
+      return this.node(xs, ys);
+    } else if (difference < -1 && x != null) {
+      final C xl = this.cast(x.left());
+      final C xr = this.cast(x.right());
+      final Children r = children(xr);
+      if (xl.level() >= xr.level() || r == null) {
+        return this.node(xl, this.join(xr, ys));
+      }
+      final C joined = this.join(this.cast(r.right()), ys);
+      if (joined.level() == xs.level() - 3) {
+        return this.node(xl, this.node(this.cast(r.left()), joined));
+      }
+      return this.node(this.node(xl, this.cast(r.left())), joined);
+    } else if (difference > 1 && y != null) {
+      final C yl = this.cast(y.left());
+      final C yr = this.cast(y.right());
+      final Children l = children(yl);
+      if (yr.level() >= yl.level() || l == null) {
+        return this.node(this.join(xs, yl), yr);
+      }
+      final C joined = this.join(xs, this.cast(l.left()));
+      if (joined.level() == ys.level() - 3) {
+        return this.node(this.node(joined, this.cast(l.right())), yr);
+      }
+      return this.node(joined, this.node(this.cast(l.right()), yr));
+    }
+    // the deeper side was flattened since its level was read
+    return this.node(xs, ys);
+  }
+
+  // the depth of this chunk's tree, which is zero once it has been flattened
+  final int level() {
+    return this.state instanceof Children ? this.depth : 0;
+  }
+
+  private static @Nullable Children children(final AbstractChunk<?> chunk) {
+    return chunk.state instanceof Children children ? children : null;
+  }
+
+  private Object flat() {
+    final Object state = this.state;
+    if (!(state instanceof Children)) {
+      return requireNonNull(state);
+    }
+    final Object flat = this.newArray(this.size);
+    this.copyTo(flat, 0);
+    this.state = flat;
+    return flat;
+  }
+
+  @SuppressWarnings("unchecked")
+  private C cast(final Object chunk) {
+    return (C) chunk;
+  }
+
+  @SuppressWarnings("unchecked")
+  private C self() {
+    return (C) this;
+  }
+
+  private record Children(Object left, Object right) {
+  }
+}
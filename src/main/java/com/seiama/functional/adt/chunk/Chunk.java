@@ -0,0 +1,345 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.adt.either.Partition;
+import com.seiama.functional.function.exceptional.Function1E;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, array-backed sequence of elements.
+ *
+ * <p>Chunks can be shared freely between threads and stages without defensive copies. {@link #slice(int, int)
+ * Slicing} a chunk shares its array, and {@link #concat(Chunk) concatenating} chunks builds a balanced tree that is
+ * only flattened into a single array when its elements are first read, so building a chunk from {@code n} pieces
+ * costs {@code O(n log n)} however they are appended.</p>
+ *
+ * @param <T> the element type
+ * @see IntChunk
+ * @see LongChunk
+ * @see ByteChunk
+ * @since 1.0.0
+ */
+public final class Chunk<T> extends AbstractChunk<Chunk<T>> implements Iterable<T> {
+  private static final Chunk<?> EMPTY = new Chunk<>(new Object[0], 0, 0);
+
+  private Chunk(final Object[] array, final int offset, final int size) {
+    super(array, offset, size);
+  }
+
+  private Chunk(final Chunk<T> left, final Chunk<T> right) {
+    super(left, right);
+  }
+
+  /**
+   * Gets an empty chunk.
+   *
+   * @param <T> the element type
+   * @return an empty chunk
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> @NotNull Chunk<T> empty() {
+    return (Chunk<T>) EMPTY;
+  }
+
+  /**
+   * Creates a chunk of {@code elements}.
+   *
+   * @param elements the elements
+   * @param <T> the element type
+   * @return a chunk
+   * @since 1.0.0
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <T> @NotNull Chunk<T> of(final @UnknownNullability T @NotNull... elements) {
+    return elements.length == 0 ? empty() : new Chunk<>(Arrays.copyOf(elements, elements.length, Object[].class), 0, elements.length);
+  }
+
+  /**
+   * Creates a chunk of the elements of {@code collection}, in iteration order.
+   *
+   * @param collection the collection
+   * @param <T> the element type
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Chunk<T> copyOf(final @NotNull Collection<? extends T> collection) {
+    final Object[] elements = collection.toArray();
+    return elements.length == 0 ? empty() : new Chunk<>(elements, 0, elements.length);
+  }
+
+  static <T> Chunk<T> wrap(final Object[] elements) {
+    return new Chunk<>(elements, 0, elements.length);
+  }
+
+  /**
+   * Gets the number of elements in this chunk.
+   *
+   * @return the number of elements
+   * @since 1.0.0
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Checks if this chunk has no elements.
+   *
+   * @return {@code true} if this chunk has no elements
+   * @since 1.0.0
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Gets the element at {@code index}.
+   *
+   * @param index the index
+   * @return the element
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @UnknownNullability T get(final int index) {
+    Objects.checkIndex(index, this.size);
+    return (T) ((Object[]) this.elements())[this.start() + index];
+  }
+
+  /**
+   * Gets the elements of this chunk from {@code from}, inclusive, to {@code to}, exclusive, sharing this chunk's array.
+   *
+   * @param from the start index, inclusive
+   * @param to the end index, exclusive
+   * @return a chunk
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.0.0
+   */
+  public @NotNull Chunk<T> slice(final int from, final int to) {
+    return this.slice0(from, to);
+  }
+
+  /**
+   * Creates a chunk of the elements of this chunk followed by the elements of {@code that}.
+   *
+   * @param that the chunk to append
+   * @return a chunk
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // chunks are immutable, so widening the element type is safe
+  public @NotNull Chunk<T> concat(final @NotNull Chunk<? extends T> that) {
+    return this.concat0((Chunk<T>) that);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each element.
+   *
+   * @param fn the function
+   * @param <R> the new element type
+   * @param <E> the exception type
+   * @return a chunk
+   * @throws E if {@code fn} throws
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <R, E extends Throwable> @NotNull Chunk<R> map(final @NotNull Function1E<? super T, ? extends R, E> fn) throws E {
+    requireNonNull(fn, "fn");
+    final Object[] elements = (Object[]) this.elements();
+    final int start = this.start();
+    final Object[] result = new Object[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.apply((T) elements[start + i]);
+    }
+    return new Chunk<>(result, 0, result.length);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each element.
+   *
+   * @param fn the function
+   * @return a chunk
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull IntChunk mapToInt(final @NotNull ToIntFunction<? super T> fn) {
+    requireNonNull(fn, "fn");
+    final Object[] elements = (Object[]) this.elements();
+    final int start = this.start();
+    final int[] result = new int[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.applyAsInt((T) elements[start + i]);
+    }
+    return IntChunk.wrap(result);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each element.
+   *
+   * @param fn the function
+   * @return a chunk
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull LongChunk mapToLong(final @NotNull ToLongFunction<? super T> fn) {
+    requireNonNull(fn, "fn");
+    final Object[] elements = (Object[]) this.elements();
+    final int start = this.start();
+    final long[] result = new long[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.applyAsLong((T) elements[start + i]);
+    }
+    return LongChunk.wrap(result);
+  }
+
+  /**
+   * Applies {@code fn} to each element, separating the left and right values of the returned eithers.
+   *
+   * <p>The lists of the partition are views of chunks, see {@link #asList()}.</p>
+   *
+   * @param fn the function
+   * @param <L> the left value type
+   * @param <R> the right value type
+   * @return the partitioned values
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <L, R> @NotNull Partition<L, R> partition(final @NotNull Function<? super T, ? extends Either<? extends L, ? extends R>> fn) {
+    requireNonNull(fn, "fn");
+    final Object[] elements = (Object[]) this.elements();
+    final int start = this.start();
+    final Object[] lefts = new Object[this.size];
+    final Object[] rights = new Object[this.size];
+    int leftCount = 0;
+    int rightCount = 0;
+    for (int i = 0; i < this.size; i++) {
+      final Either<? extends L, ? extends R> either = fn.apply((T) elements[start + i]);
+      final @Nullable Object left = either.left().orElse(null);
+      if (left != null) {
+        lefts[leftCount++] = left;
+      } else {
+        rights[rightCount++] = either.right().orElseThrow();
+      }
+    }
+    // trimmed, so that neither list holds on to an array sized for every element
+    return new Partition<>(new Chunk<L>(Arrays.copyOf(lefts, leftCount), 0, leftCount).asList(), new Chunk<R>(Arrays.copyOf(rights, rightCount), 0, rightCount).asList());
+  }
+
+  /**
+   * Gets an unmodifiable list view of this chunk.
+   *
+   * @return a list
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull List<T> asList() {
+    final int start = this.start();
+    return Collections.unmodifiableList(Arrays.asList((T[]) this.elements()).subList(start, start + this.size));
+  }
+
+  /**
+   * Creates a sequential stream of the elements of this chunk.
+   *
+   * @return a stream
+   * @since 1.0.0
+   */
+  public @NotNull Stream<T> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(final @NotNull Consumer<? super T> action) {
+    requireNonNull(action, "action");
+    final Object[] elements = (Object[]) this.elements();
+    final int start = this.start();
+    for (int i = start, end = start + this.size; i < end; i++) {
+      action.accept((T) elements[i]);
+    }
+  }
+
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    return Spliterators.iterator(this.spliterator());
+  }
+
+  @Override
+  public @NotNull Spliterator<T> spliterator() {
+    final int start = this.start();
+    return Spliterators.spliterator((Object[]) this.elements(), start, start + this.size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+  }
+
+  @Override
+  Chunk<T> leaf(final Object array, final int offset, final int size) {
+    return new Chunk<>((Object[]) array, offset, size);
+  }
+
+  @Override
+  Chunk<T> node(final Chunk<T> left, final Chunk<T> right) {
+    return new Chunk<>(left, right);
+  }
+
+  @Override
+  Object newArray(final int length) {
+    return new Object[length];
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof Chunk<?> that && this.asList().equals(that.asList());
+  }
+
+  @Override
+  public int hashCode() {
+    return this.asList().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.asList().toString();
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, array-backed sequence of {@code int} values.
+ *
+ * <p>This is the {@code int} specialization of {@link Chunk}, holding its values without boxing.</p>
+ *
+ * @since 1.0.0
+ */
+public final class IntChunk extends AbstractChunk<IntChunk> {
+  private static final IntChunk EMPTY = new IntChunk(new int[0], 0, 0);
+
+  private IntChunk(final int[] array, final int offset, final int size) {
+    super(array, offset, size);
+  }
+
+  private IntChunk(final IntChunk left, final IntChunk right) {
+    super(left, right);
+  }
+
+  /**
+   * Gets an empty chunk.
+   *
+   * @return an empty chunk
+   * @since 1.0.0
+   */
+  public static @NotNull IntChunk empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a chunk of {@code values}.
+   *
+   * @param values the values
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public static @NotNull IntChunk of(final int @NotNull... values) {
+    return values.length == 0 ? EMPTY : wrap(values.clone());
+  }
+
+  static IntChunk wrap(final int[] values) {
+    return new IntChunk(values, 0, values.length);
+  }
+
+  /**
+   * Gets the number of values in this chunk.
+   *
+   * @return the number of values
+   * @since 1.0.0
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Checks if this chunk has no values.
+   *
+   * @return {@code true} if this chunk has no values
+   * @since 1.0.0
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Gets the value at {@code index}.
+   *
+   * @param index the index
+   * @return the value
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+   * @since 1.0.0
+   */
+  public int get(final int index) {
+    Objects.checkIndex(index, this.size);
+    return ((int[]) this.elements())[this.start() + index];
+  }
+
+  /**
+   * Gets the values of this chunk from {@code from}, inclusive, to {@code to}, exclusive, sharing this chunk's array.
+   *
+   * @param from the start index, inclusive
+   * @param to the end index, exclusive
+   * @return a chunk
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.0.0
+   */
+  public @NotNull IntChunk slice(final int from, final int to) {
+    return this.slice0(from, to);
+  }
+
+  /**
+   * Creates a chunk of the values of this chunk followed by the values of {@code that}.
+   *
+   * @param that the chunk to append
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public @NotNull IntChunk concat(final @NotNull IntChunk that) {
+    return this.concat0(that);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each value.
+   *
+   * @param fn the function
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public @NotNull IntChunk map(final @NotNull IntUnaryOperator fn) {
+    requireNonNull(fn, "fn");
+    final int[] values = (int[]) this.elements();
+    final int start = this.start();
+    final int[] result = new int[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.applyAsInt(values[start + i]);
+    }
+    return wrap(result);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each value.
+   *
+   * @param fn the function
+   * @param <R> the element type
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public <R> @NotNull Chunk<R> mapToObj(final @NotNull IntFunction<? extends R> fn) {
+    requireNonNull(fn, "fn");
+    final int[] values = (int[]) this.elements();
+    final int start = this.start();
+    final Object[] result = new Object[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.apply(values[start + i]);
+    }
+    return Chunk.wrap(result);
+  }
+
+  /**
+   * Sums the values of this chunk.
+   *
+   * @return the sum, which does not overflow
+   * @since 1.0.0
+   */
+  public long sum() {
+    final int[] values = (int[]) this.elements();
+    final int start = this.start();
+    long sum = 0;
+    for (int i = start, end = start + this.size; i < end; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Copies the values of this chunk into a new array.
+   *
+   * @return an array
+   * @since 1.0.0
+   */
+  public int @NotNull [] toArray() {
+    final int start = this.start();
+    return Arrays.copyOfRange((int[]) this.elements(), start, start + this.size);
+  }
+
+  /**
+   * Creates a sequential stream of the values of this chunk.
+   *
+   * @return a stream
+   * @since 1.0.0
+   */
+  public @NotNull IntStream stream() {
+    final int start = this.start();
+    return Arrays.stream((int[]) this.elements(), start, start + this.size);
+  }
+
+  /**
+   * Runs {@code action} against each value, in order.
+   *
+   * @param action the action
+   * @since 1.0.0
+   */
+  public void forEach(final @NotNull IntConsumer action) {
+    requireNonNull(action, "action");
+    final int[] values = (int[]) this.elements();
+    final int start = this.start();
+    for (int i = start, end = start + this.size; i < end; i++) {
+      action.accept(values[i]);
+    }
+  }
+
+  /**
+   * Creates a spliterator over the values of this chunk.
+   *
+   * @return a spliterator
+   * @since 1.0.0
+   */
+  public Spliterator.@NotNull OfInt spliterator() {
+    final int start = this.start();
+    return Spliterators.spliterator((int[]) this.elements(), start, start + this.size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+  }
+
+  @Override
+  IntChunk leaf(final Object array, final int offset, final int size) {
+    return new IntChunk((int[]) array, offset, size);
+  }
+
+  @Override
+  IntChunk node(final IntChunk left, final IntChunk right) {
+    return new IntChunk(left, right);
+  }
+
+  @Override
+  Object newArray(final int length) {
+    return new int[length];
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof IntChunk that)) {
+      return false;
+    }
+    final int start = this.start();
+    final int thatStart = that.start();
+    return Arrays.equals((int[]) this.elements(), start, start + this.size, (int[]) that.elements(), thatStart, thatStart + that.size);
+  }
+
+  @Override
+  public int hashCode() {
+    final int[] values = (int[]) this.elements();
+    final int start = this.start();
+    int hash = 1;
+    for (int i = start, end = start + this.size; i < end; i++) {
+      hash = 31 * hash + Integer.hashCode(values[i]);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    final int[] values = (int[]) this.elements();
+    final int start = this.start();
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = start, end = start + this.size; i < end; i++) {
+      if (i > start) {
+        builder.append(", ");
+      }
+      builder.append(values[i]);
+    }
+    return builder.append(']').toString();
+  }
+}
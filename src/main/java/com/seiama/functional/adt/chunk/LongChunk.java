@@ -0,0 +1,292 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, array-backed sequence of {@code long} values.
+ *
+ * <p>This is the {@code long} specialization of {@link Chunk}, holding its values without boxing.</p>
+ *
+ * @since 1.0.0
+ */
+public final class LongChunk extends AbstractChunk<LongChunk> {
+  private static final LongChunk EMPTY = new LongChunk(new long[0], 0, 0);
+
+  private LongChunk(final long[] array, final int offset, final int size) {
+    super(array, offset, size);
+  }
+
+  private LongChunk(final LongChunk left, final LongChunk right) {
+    super(left, right);
+  }
+
+  /**
+   * Gets an empty chunk.
+   *
+   * @return an empty chunk
+   * @since 1.0.0
+   */
+  public static @NotNull LongChunk empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a chunk of {@code values}.
+   *
+   * @param values the values
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public static @NotNull LongChunk of(final long @NotNull... values) {
+    return values.length == 0 ? EMPTY : wrap(values.clone());
+  }
+
+  static LongChunk wrap(final long[] values) {
+    return new LongChunk(values, 0, values.length);
+  }
+
+  /**
+   * Gets the number of values in this chunk.
+   *
+   * @return the number of values
+   * @since 1.0.0
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Checks if this chunk has no values.
+   *
+   * @return {@code true} if this chunk has no values
+   * @since 1.0.0
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Gets the value at {@code index}.
+   *
+   * @param index the index
+   * @return the value
+   * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+   * @since 1.0.0
+   */
+  public long get(final int index) {
+    Objects.checkIndex(index, this.size);
+    return ((long[]) this.elements())[this.start() + index];
+  }
+
+  /**
+   * Gets the values of this chunk from {@code from}, inclusive, to {@code to}, exclusive, sharing this chunk's array.
+   *
+   * @param from the start index, inclusive
+   * @param to the end index, exclusive
+   * @return a chunk
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.0.0
+   */
+  public @NotNull LongChunk slice(final int from, final int to) {
+    return this.slice0(from, to);
+  }
+
+  /**
+   * Creates a chunk of the values of this chunk followed by the values of {@code that}.
+   *
+   * @param that the chunk to append
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public @NotNull LongChunk concat(final @NotNull LongChunk that) {
+    return this.concat0(that);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each value.
+   *
+   * @param fn the function
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public @NotNull LongChunk map(final @NotNull LongUnaryOperator fn) {
+    requireNonNull(fn, "fn");
+    final long[] values = (long[]) this.elements();
+    final int start = this.start();
+    final long[] result = new long[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.applyAsLong(values[start + i]);
+    }
+    return wrap(result);
+  }
+
+  /**
+   * Creates a chunk of the results of applying {@code fn} to each value.
+   *
+   * @param fn the function
+   * @param <R> the element type
+   * @return a chunk
+   * @since 1.0.0
+   */
+  public <R> @NotNull Chunk<R> mapToObj(final @NotNull LongFunction<? extends R> fn) {
+    requireNonNull(fn, "fn");
+    final long[] values = (long[]) this.elements();
+    final int start = this.start();
+    final Object[] result = new Object[this.size];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fn.apply(values[start + i]);
+    }
+    return Chunk.wrap(result);
+  }
+
+  /**
+   * Sums the values of this chunk, wrapping on overflow.
+   *
+   * @return the sum
+   * @since 1.0.0
+   */
+  public long sum() {
+    final long[] values = (long[]) this.elements();
+    final int start = this.start();
+    long sum = 0;
+    for (int i = start, end = start + this.size; i < end; i++) {
+      sum += values[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Copies the values of this chunk into a new array.
+   *
+   * @return an array
+   * @since 1.0.0
+   */
+  public long @NotNull [] toArray() {
+    final int start = this.start();
+    return Arrays.copyOfRange((long[]) this.elements(), start, start + this.size);
+  }
+
+  /**
+   * Creates a sequential stream of the values of this chunk.
+   *
+   * @return a stream
+   * @since 1.0.0
+   */
+  public @NotNull LongStream stream() {
+    final int start = this.start();
+    return Arrays.stream((long[]) this.elements(), start, start + this.size);
+  }
+
+  /**
+   * Runs {@code action} against each value, in order.
+   *
+   * @param action the action
+   * @since 1.0.0
+   */
+  public void forEach(final @NotNull LongConsumer action) {
+    requireNonNull(action, "action");
+    final long[] values = (long[]) this.elements();
+    final int start = this.start();
+    for (int i = start, end = start + this.size; i < end; i++) {
+      action.accept(values[i]);
+    }
+  }
+
+  /**
+   * Creates a spliterator over the values of this chunk.
+   *
+   * @return a spliterator
+   * @since 1.0.0
+   */
+  public Spliterator.@NotNull OfLong spliterator() {
+    final int start = this.start();
+    return Spliterators.spliterator((long[]) this.elements(), start, start + this.size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+  }
+
+  @Override
+  LongChunk leaf(final Object array, final int offset, final int size) {
+    return new LongChunk((long[]) array, offset, size);
+  }
+
+  @Override
+  LongChunk node(final LongChunk left, final LongChunk right) {
+    return new LongChunk(left, right);
+  }
+
+  @Override
+  Object newArray(final int length) {
+    return new long[length];
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof LongChunk that)) {
+      return false;
+    }
+    final int start = this.start();
+    final int thatStart = that.start();
+    return Arrays.equals((long[]) this.elements(), start, start + this.size, (long[]) that.elements(), thatStart, thatStart + that.size);
+  }
+
+  @Override
+  public int hashCode() {
+    final long[] values = (long[]) this.elements();
+    final int start = this.start();
+    int hash = 1;
+    for (int i = start, end = start + this.size; i < end; i++) {
+      hash = 31 * hash + Long.hashCode(values[i]);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    final long[] values = (long[]) this.elements();
+    final int start = this.start();
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = start, end = start + this.size; i < end; i++) {
+      if (i > start) {
+        builder.append(", ");
+      }
+      builder.append(values[i]);
+    }
+    return builder.append(']').toString();
+  }
+}
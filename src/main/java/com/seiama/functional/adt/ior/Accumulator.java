@@ -0,0 +1,86 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.ior;
+
+import com.seiama.functional.algebra.Semigroup;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+// collects right values into a single growable list, folding left values as they arrive
+final class Accumulator<L, R> {
+  private final Semigroup<L> lefts;
+  private final ArrayList<R> rights = new ArrayList<>();
+  private @Nullable L left;
+  private boolean stopped;
+
+  Accumulator(final Semigroup<L> lefts) {
+    this.lefts = lefts;
+  }
+
+  // returns false once a lone left has been seen, after which nothing more is accepted
+  boolean accept(final Ior<L, ? extends R> ior) {
+    if (this.stopped) {
+      return false;
+    }
+    if (ior instanceof Right<L, ? extends R> right) {
+      this.rights.add(right.value());
+    } else if (ior instanceof Both<L, ? extends R> both) {
+      this.combineLeft(both.leftValue());
+      this.rights.add(both.rightValue());
+    } else {
+      this.combineLeft(((Left<L, ? extends R>) ior).value());
+      this.stopped = true;
+    }
+    return !this.stopped;
+  }
+
+  Accumulator<L, R> merge(final Accumulator<L, R> that) {
+    if (this.stopped) {
+      return this;
+    }
+    if (that.left != null) {
+      this.combineLeft(that.left);
+    }
+    if (that.stopped) {
+      this.stopped = true;
+    } else {
+      this.rights.addAll(that.rights);
+    }
+    return this;
+  }
+
+  Ior<L, List<R>> result() {
+    if (this.stopped) {
+      return new Left<>(this.left);
+    }
+    final List<R> values = Collections.unmodifiableList(this.rights);
+    return this.left != null ? new Both<>(this.left, values) : new Right<>(values);
+  }
+
+  private void combineLeft(final L value) {
+    this.left = this.left == null ? value : this.lefts.combine(this.left, value);
+  }
+}
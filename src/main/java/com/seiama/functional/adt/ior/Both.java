@@ -0,0 +1,88 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.ior;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.algebra.Semigroup;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+record Both<L, R>(L leftValue, R rightValue) implements Ior<L, R> {
+  @Override
+  public @NotNull Optional<L> left() {
+    return Optional.of(this.leftValue);
+  }
+
+  @Override
+  public @NotNull Optional<R> right() {
+    return Optional.of(this.rightValue);
+  }
+
+  @Override
+  public @NotNull Ior<L, R> ifLeft(final @NotNull Consumer<? super L> consumer) {
+    consumer.accept(this.leftValue);
+    return this;
+  }
+
+  @Override
+  public @NotNull Ior<L, R> ifRight(final @NotNull Consumer<? super R> consumer) {
+    consumer.accept(this.rightValue);
+    return this;
+  }
+
+  @Override
+  public <C, D> @NotNull Ior<C, D> map(final @NotNull Function<? super L, ? extends C> left, final @NotNull Function<? super R, ? extends D> right) {
+    return Ior.both(left.apply(this.leftValue), right.apply(this.rightValue));
+  }
+
+  @Override
+  public <T> @NotNull Ior<L, T> flatMap(final @NotNull Semigroup<L> lefts, final @NotNull Function<? super R, ? extends Ior<L, ? extends T>> fn) {
+    final Ior<L, ? extends T> next = fn.apply(this.rightValue);
+    if (next instanceof Left<L, ? extends T> left) {
+      return Ior.left(lefts.combine(this.leftValue, left.value()));
+    } else if (next instanceof Both<L, ? extends T> both) {
+      return Ior.both(lefts.combine(this.leftValue, both.leftValue()), both.rightValue());
+    }
+    return new Both<>(this.leftValue, ((Right<L, ? extends T>) next).value());
+  }
+
+  @Override
+  public <V> @UnknownNullability V fold(final @NotNull Function<? super L, ? extends V> ifLeft, final @NotNull Function<? super R, ? extends V> ifRight, final @NotNull BiFunction<? super L, ? super R, ? extends V> ifBoth) {
+    return ifBoth.apply(this.leftValue, this.rightValue);
+  }
+
+  @Override
+  public @NotNull Ior<R, L> swap() {
+    return new Both<>(this.rightValue, this.leftValue);
+  }
+
+  @Override
+  public @NotNull Either<L, R> toEither() {
+    return Either.right(this.rightValue);
+  }
+}
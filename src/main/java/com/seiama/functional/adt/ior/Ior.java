@@ -0,0 +1,325 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.ior;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.algebra.Semigroup;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An inclusive or: a left value, a right value, or both.
+ *
+ * <p>Where an {@link Either} is either a failure or a success, an ior can also be a success that carries
+ * warnings alongside its value. {@link #flatMap(Semigroup, Function)} keeps going past such warnings, combining
+ * them as it goes, and stops only at a left without a right.</p>
+ *
+ * @param <L> the type of the left value
+ * @param <R> the type of the right value
+ * @since 1.0.0
+ */
+public sealed interface Ior<L, R> permits Both, Left, Right {
+  /**
+   * Creates a new ior with a left value.
+   *
+   * @param value the left value
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Ior<L, R> left(final @NotNull L value) {
+    return new Left<>(requireNonNull(value));
+  }
+
+  /**
+   * Creates a new ior with a right value.
+   *
+   * @param value the right value
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Ior<L, R> right(final @NotNull R value) {
+    return new Right<>(requireNonNull(value));
+  }
+
+  /**
+   * Creates a new ior with both a left and a right value.
+   *
+   * @param left the left value
+   * @param right the right value
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Ior<L, R> both(final @NotNull L left, final @NotNull R right) {
+    return new Both<>(requireNonNull(left), requireNonNull(right));
+  }
+
+  /**
+   * Creates a new ior with the value of {@code either}.
+   *
+   * @param either the either
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Ior<L, R> fromEither(final @NotNull Either<L, R> either) {
+    return either.fold(Left::new, Right::new);
+  }
+
+  /**
+   * Applies {@code fn} to each of {@code values} in turn, collecting the right values and combining the left values
+   * with {@code lefts}.
+   *
+   * <p>Iteration stops at the first result with only a left value, and the result is a left holding every left
+   * value combined. Otherwise the result holds the right values in encounter order, alongside the combined left
+   * values if there were any.</p>
+   *
+   * @param values the values
+   * @param lefts the semigroup for left values
+   * @param fn the function
+   * @param <T> the type of the values
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  static <T, L, R> @NotNull Ior<L, List<R>> traverse(final @NotNull Iterable<? extends T> values, final @NotNull Semigroup<L> lefts, final @NotNull Function<? super T, ? extends Ior<L, ? extends R>> fn) {
+    requireNonNull(values, "values");
+    requireNonNull(fn, "fn");
+    final Accumulator<L, R> accumulator = new Accumulator<>(requireNonNull(lefts, "lefts"));
+    for (final T value : values) {
+      if (!accumulator.accept(fn.apply(value))) {
+        break;
+      }
+    }
+    return accumulator.result();
+  }
+
+  /**
+   * Collects the right values of {@code iors}, combining the left values with {@code lefts}.
+   *
+   * @param iors the iors
+   * @param lefts the semigroup for left values
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a new ior
+   * @see #traverse(Iterable, Semigroup, Function)
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Ior<L, List<R>> sequence(final @NotNull Iterable<? extends Ior<L, ? extends R>> iors, final @NotNull Semigroup<L> lefts) {
+    return traverse(iors, lefts, Function.identity());
+  }
+
+  /**
+   * Creates a collector that collects the right values of iors, combining the left values with {@code lefts}.
+   *
+   * <p>The collector behaves like {@link #sequence(Iterable, Semigroup)}, except that elements after the first
+   * with only a left value are still consumed, and ignored.</p>
+   *
+   * @param lefts the semigroup for left values
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a collector
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Collector<Ior<L, ? extends R>, ?, Ior<L, List<R>>> collector(final @NotNull Semigroup<L> lefts) {
+    requireNonNull(lefts, "lefts");
+    return Collector.of(
+      () -> new Accumulator<L, R>(lefts),
+      Accumulator::accept,
+      Accumulator::merge,
+      Accumulator::result
+    );
+  }
+
+  /**
+   * Creates a semigroup over iors that combines lefts with {@code lefts} and rights with {@code rights}.
+   *
+   * <p>The result holds a left if either ior holds one, and a right if either ior holds one.</p>
+   *
+   * @param lefts the semigroup for left values
+   * @param rights the semigroup for right values
+   * @param <L> the type of the left value
+   * @param <R> the type of the right value
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Semigroup<Ior<L, R>> semigroup(final @NotNull Semigroup<L> lefts, final @NotNull Semigroup<R> rights) {
+    requireNonNull(lefts, "lefts");
+    requireNonNull(rights, "rights");
+    return (a, b) -> {
+      if (a instanceof Left<L, R> left) {
+        if (b instanceof Left<L, R> other) {
+          return Ior.left(lefts.combine(left.value(), other.value()));
+        } else if (b instanceof Right<L, R> other) {
+          return Ior.both(left.value(), other.value());
+        }
+        final Both<L, R> other = (Both<L, R>) b;
+        return Ior.both(lefts.combine(left.value(), other.leftValue()), other.rightValue());
+      } else if (a instanceof Right<L, R> right) {
+        if (b instanceof Left<L, R> other) {
+          return Ior.both(other.value(), right.value());
+        } else if (b instanceof Right<L, R> other) {
+          return Ior.right(rights.combine(right.value(), other.value()));
+        }
+        final Both<L, R> other = (Both<L, R>) b;
+        return Ior.both(other.leftValue(), rights.combine(right.value(), other.rightValue()));
+      }
+      final Both<L, R> both = (Both<L, R>) a;
+      if (b instanceof Left<L, R> other) {
+        return Ior.both(lefts.combine(both.leftValue(), other.value()), both.rightValue());
+      } else if (b instanceof Right<L, R> other) {
+        return Ior.both(both.leftValue(), rights.combine(both.rightValue(), other.value()));
+      }
+      final Both<L, R> other = (Both<L, R>) b;
+      return Ior.both(lefts.combine(both.leftValue(), other.leftValue()), rights.combine(both.rightValue(), other.rightValue()));
+    };
+  }
+
+  /**
+   * Gets the left value.
+   *
+   * @return the left value
+   * @since 1.0.0
+   */
+  @NotNull Optional<L> left();
+
+  /**
+   * Gets the right value.
+   *
+   * @return the right value
+   * @since 1.0.0
+   */
+  @NotNull Optional<R> right();
+
+  /**
+   * Runs an action against the left value, if present.
+   *
+   * @param consumer the action to run if the left value is present
+   * @return this ior
+   * @since 1.0.0
+   */
+  @NotNull Ior<L, R> ifLeft(final @NotNull Consumer<? super L> consumer);
+
+  /**
+   * Runs an action against the right value, if present.
+   *
+   * @param consumer the action to run if the right value is present
+   * @return this ior
+   * @since 1.0.0
+   */
+  @NotNull Ior<L, R> ifRight(final @NotNull Consumer<? super R> consumer);
+
+  /**
+   * Applies {@code fn} to the left value, returning a new ior with the returned value.
+   *
+   * @param fn the function to apply to the left value
+   * @param <T> the type of the new left value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  default <T> @NotNull Ior<T, R> mapLeft(final @NotNull Function<? super L, ? extends T> fn) {
+    return this.map(fn, Function.identity());
+  }
+
+  /**
+   * Applies {@code fn} to the right value, returning a new ior with the returned value.
+   *
+   * @param fn the function to apply to the right value
+   * @param <T> the type of the new right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  default <T> @NotNull Ior<L, T> mapRight(final @NotNull Function<? super R, ? extends T> fn) {
+    return this.map(Function.identity(), fn);
+  }
+
+  /**
+   * Applies {@code left} to the left value and {@code right} to the right value, returning a new ior with the returned values.
+   *
+   * @param left the function to apply to the left value
+   * @param right the function to apply to the right value
+   * @param <C> the type of the new left value
+   * @param <D> the type of the new right value
+   * @return a new ior
+   * @since 1.0.0
+   */
+  <C, D> @NotNull Ior<C, D> map(final @NotNull Function<? super L, ? extends C> left, final @NotNull Function<? super R, ? extends D> right);
+
+  /**
+   * Applies {@code fn} to the right value, returning the returned ior with any left value of this ior combined into
+   * it with {@code lefts}.
+   *
+   * <p>An ior with only a left value is returned as is.</p>
+   *
+   * @param lefts the semigroup for left values
+   * @param fn the function to apply to the right value
+   * @param <T> the type of the new right value
+   * @return an ior
+   * @since 1.0.0
+   */
+  <T> @NotNull Ior<L, T> flatMap(final @NotNull Semigroup<L> lefts, final @NotNull Function<? super R, ? extends Ior<L, ? extends T>> fn);
+
+  /**
+   * Applies {@code ifLeft}, {@code ifRight} or {@code ifBoth} to the values of this ior, returning the value.
+   *
+   * @param ifLeft the function to apply to a lone left value
+   * @param ifRight the function to apply to a lone right value
+   * @param ifBoth the function to apply to both values
+   * @param <V> the type of the value
+   * @return a value
+   * @since 1.0.0
+   */
+  <V> @UnknownNullability V fold(final @NotNull Function<? super L, ? extends V> ifLeft, final @NotNull Function<? super R, ? extends V> ifRight, final @NotNull BiFunction<? super L, ? super R, ? extends V> ifBoth);
+
+  /**
+   * Swaps the order of this ior.
+   *
+   * @return a new ior
+   * @since 1.0.0
+   */
+  @NotNull Ior<R, L> swap();
+
+  /**
+   * Converts this ior to an either, discarding the left value if there is a right value.
+   *
+   * @return an either
+   * @since 1.0.0
+   */
+  @NotNull Either<L, R> toEither();
+}
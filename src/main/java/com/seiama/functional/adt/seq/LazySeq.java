@@ -0,0 +1,589 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.seq;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.adt.either.Partition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lazily evaluated sequence.
+ *
+ * <p>Consecutive {@link #map(Function)}, {@link #filter(Predicate)}, {@link #collectLeft(Function)} and
+ * {@link #collectRight(Function)} operations are fused into a single stage that is applied to each element as it is
+ * pulled from the source, so no intermediate sequences or per-element wrappers are created.</p>
+ *
+ * <p>Sequences are re-evaluated each time they are traversed, unless {@link #memoize() memoized}.</p>
+ *
+ * @param <T> the element type
+ * @since 1.0.0
+ */
+public final class LazySeq<T> implements Iterable<T> {
+  private static final LazySeq<?> EMPTY = new LazySeq<>(new ArraySource(new Object[0], 0, 0), Stage.IDENTITY);
+  private final Source source;
+  private final Stage stage;
+
+  private LazySeq(final Source source, final Stage stage) {
+    this.source = source;
+    this.stage = stage;
+  }
+
+  /**
+   * Gets an empty sequence.
+   *
+   * @param <T> the element type
+   * @return an empty sequence
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> @NotNull LazySeq<T> empty() {
+    return (LazySeq<T>) EMPTY;
+  }
+
+  /**
+   * Creates a sequence of {@code elements}.
+   *
+   * <p>The array is not copied, and must not be modified while the sequence is in use.</p>
+   *
+   * @param elements the elements
+   * @param <T> the element type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <T> @NotNull LazySeq<T> of(final @NotNull T @NotNull... elements) {
+    return new LazySeq<>(new ArraySource(elements, 0, elements.length), Stage.IDENTITY);
+  }
+
+  /**
+   * Creates a sequence of the elements of {@code iterable}.
+   *
+   * @param iterable the iterable
+   * @param <T> the element type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public static <T> @NotNull LazySeq<T> from(final @NotNull Iterable<? extends T> iterable) {
+    requireNonNull(iterable, "iterable");
+    if (iterable instanceof LazySeq<?> seq) {
+      @SuppressWarnings("unchecked")
+      final LazySeq<T> result = (LazySeq<T>) seq;
+      return result;
+    } else if (iterable instanceof List<?> list && list instanceof RandomAccess) {
+      return new LazySeq<>(new ListSource(list), Stage.IDENTITY);
+    }
+    return new LazySeq<>(() -> iteratorCursor(iterable.iterator()), Stage.IDENTITY);
+  }
+
+  /**
+   * Creates an infinite sequence of {@code seed}, {@code fn(seed)}, {@code fn(fn(seed))}, and so on.
+   *
+   * @param seed the first element
+   * @param fn the function producing the next element from the previous
+   * @param <T> the element type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public static <T> @NotNull LazySeq<T> iterate(final @NotNull T seed, final @NotNull UnaryOperator<T> fn) {
+    requireNonNull(fn, "fn");
+    return new LazySeq<>(() -> new Cursor() {
+      private @Nullable Object current = seed;
+      private boolean started;
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public @Nullable Object next() {
+        if (this.started) {
+          this.current = fn.apply((T) this.current);
+        } else {
+          this.started = true;
+        }
+        return this.current;
+      }
+    }, Stage.IDENTITY);
+  }
+
+  /**
+   * Creates a sequence that applies {@code fn} to each element.
+   *
+   * @param fn the function
+   * @param <U> the new element type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public <U> @NotNull LazySeq<U> map(final @NotNull Function<? super T, ? extends U> fn) {
+    return new LazySeq<>(this.source, this.stage.then(Stage.MAP, requireNonNull(fn, "fn")));
+  }
+
+  /**
+   * Creates a sequence of the elements that match {@code predicate}.
+   *
+   * @param predicate the predicate
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public @NotNull LazySeq<T> filter(final @NotNull Predicate<? super T> predicate) {
+    return new LazySeq<>(this.source, this.stage.then(Stage.FILTER, requireNonNull(predicate, "predicate")));
+  }
+
+  /**
+   * Creates a sequence of the left values of the eithers returned by applying {@code fn} to each element.
+   *
+   * @param fn the function
+   * @param <L> the left value type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public <L> @NotNull LazySeq<L> collectLeft(final @NotNull Function<? super T, ? extends Either<? extends L, ?>> fn) {
+    return new LazySeq<>(this.source, this.stage.then(Stage.COLLECT_LEFT, requireNonNull(fn, "fn")));
+  }
+
+  /**
+   * Creates a sequence of the right values of the eithers returned by applying {@code fn} to each element.
+   *
+   * @param fn the function
+   * @param <R> the right value type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public <R> @NotNull LazySeq<R> collectRight(final @NotNull Function<? super T, ? extends Either<?, ? extends R>> fn) {
+    return new LazySeq<>(this.source, this.stage.then(Stage.COLLECT_RIGHT, requireNonNull(fn, "fn")));
+  }
+
+  /**
+   * Creates a sequence that concatenates the sequences returned by applying {@code fn} to each element.
+   *
+   * @param fn the function
+   * @param <U> the new element type
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public <U> @NotNull LazySeq<U> flatMap(final @NotNull Function<? super T, ? extends Iterable<? extends U>> fn) {
+    requireNonNull(fn, "fn");
+    return new LazySeq<>(() -> new Cursor() {
+      private final Cursor outer = LazySeq.this.cursor();
+      private @Nullable Cursor inner;
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public @Nullable Object next() {
+        while (true) {
+          if (this.inner != null) {
+            final Object value = this.inner.next();
+            if (value != Cursor.END) {
+              return value;
+            }
+            this.inner = null;
+          }
+          final Object value = this.outer.next();
+          if (value == Cursor.END) {
+            return Cursor.END;
+          }
+          this.inner = LazySeq.from(fn.apply((T) value)).cursor();
+        }
+      }
+    }, Stage.IDENTITY);
+  }
+
+  /**
+   * Creates a sequence of at most the first {@code count} elements.
+   *
+   * @param count the maximum number of elements
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public @NotNull LazySeq<T> take(final long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative: " + count);
+    }
+    return new LazySeq<>(() -> new Cursor() {
+      private final Cursor delegate = LazySeq.this.cursor();
+      private long remaining = count;
+
+      @Override
+      public @Nullable Object next() {
+        if (this.remaining == 0) {
+          return Cursor.END;
+        }
+        this.remaining--;
+        return this.delegate.next();
+      }
+    }, Stage.IDENTITY);
+  }
+
+  /**
+   * Creates a sequence that evaluates each element of this sequence at most once, no matter how many times it is traversed.
+   *
+   * <p>The returned sequence may be traversed concurrently.</p>
+   *
+   * @return a sequence
+   * @since 1.0.0
+   */
+  public @NotNull LazySeq<T> memoize() {
+    if (this.source instanceof MemoSource && this.stage == Stage.IDENTITY) {
+      return this;
+    }
+    return new LazySeq<>(new MemoSource(this.cursor()), Stage.IDENTITY);
+  }
+
+  /**
+   * Gets the first element, if any.
+   *
+   * @return the first element
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull Optional<T> first() {
+    final Object value = this.cursor().next();
+    return value == Cursor.END ? Optional.empty() : Optional.of((T) value);
+  }
+
+  /**
+   * Combines the elements of this sequence, from first to last.
+   *
+   * @param initial the initial value
+   * @param fn the combining function
+   * @param <A> the result type
+   * @return the result
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <A> @UnknownNullability A fold(final @UnknownNullability A initial, final @NotNull BiFunction<? super A, ? super T, ? extends A> fn) {
+    requireNonNull(fn, "fn");
+    final Cursor cursor = this.cursor();
+    A result = initial;
+    for (Object value = cursor.next(); value != Cursor.END; value = cursor.next()) {
+      result = fn.apply(result, (T) value);
+    }
+    return result;
+  }
+
+  /**
+   * Counts the elements of this sequence.
+   *
+   * @return the number of elements
+   * @since 1.0.0
+   */
+  public long count() {
+    final Cursor cursor = this.cursor();
+    long count = 0;
+    while (cursor.next() != Cursor.END) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Collects the elements of this sequence into an unmodifiable list.
+   *
+   * @return a list
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull List<T> toList() {
+    final Cursor cursor = this.cursor();
+    Object[] elements = new Object[this.source.sizeHint()];
+    int size = 0;
+    for (Object value = cursor.next(); value != Cursor.END; value = cursor.next()) {
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(8, size << 1));
+      }
+      elements[size++] = value;
+    }
+    return (List<T>) Collections.unmodifiableList(Arrays.asList(size == elements.length ? elements : Arrays.copyOf(elements, size)));
+  }
+
+  /**
+   * Applies {@code fn} to each element, separating the left and right values of the returned eithers.
+   *
+   * @param fn the function
+   * @param <L> the left value type
+   * @param <R> the right value type
+   * @return the partitioned values
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <L, R> @NotNull Partition<L, R> partition(final @NotNull Function<? super T, ? extends Either<? extends L, ? extends R>> fn) {
+    requireNonNull(fn, "fn");
+    final List<L> lefts = new ArrayList<>();
+    final List<R> rights = new ArrayList<>();
+    final Cursor cursor = this.cursor();
+    for (Object value = cursor.next(); value != Cursor.END; value = cursor.next()) {
+      fn.apply((T) value).fold(lefts::add, rights::add);
+    }
+    return new Partition<>(Collections.unmodifiableList(lefts), Collections.unmodifiableList(rights));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(final @NotNull Consumer<? super T> action) {
+    requireNonNull(action, "action");
+    final Cursor cursor = this.cursor();
+    for (Object value = cursor.next(); value != Cursor.END; value = cursor.next()) {
+      action.accept((T) value);
+    }
+  }
+
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    return new Iterator<>() {
+      private final Cursor cursor = LazySeq.this.cursor();
+      private @Nullable Object next;
+      private boolean ready;
+
+      @Override
+      public boolean hasNext() {
+        if (!this.ready) {
+          this.next = this.cursor.next();
+          this.ready = true;
+        }
+        return this.next != Cursor.END;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public T next() {
+        if (!this.hasNext()) {
+          throw new NoSuchElementException();
+        }
+        this.ready = false;
+        return (T) this.next;
+      }
+    };
+  }
+
+  private Cursor cursor() {
+    final Cursor cursor = this.source.open();
+    if (this.stage == Stage.IDENTITY) {
+      return cursor;
+    }
+    return new StagedCursor(cursor, this.stage);
+  }
+
+  // a pull-based cursor over raw elements, returning END when exhausted
+  @FunctionalInterface
+  private interface Cursor {
+    Object END = new Object();
+
+    @Nullable Object next();
+  }
+
+  @FunctionalInterface
+  private interface Source {
+    Cursor open();
+
+    default int sizeHint() {
+      return 8;
+    }
+  }
+
+  // a fused sequence of map/filter/collect operations, applied in a single loop
+  private static final class Stage {
+    static final Stage IDENTITY = new Stage(new byte[0], new Object[0]);
+    static final byte MAP = 0;
+    static final byte FILTER = 1;
+    static final byte COLLECT_LEFT = 2;
+    static final byte COLLECT_RIGHT = 3;
+    static final Object SKIP = new Object();
+    static final Function<Object, Object> TO_SKIP = value -> SKIP;
+    private final byte[] kinds;
+    private final Object[] operations;
+
+    private Stage(final byte[] kinds, final Object[] operations) {
+      this.kinds = kinds;
+      this.operations = operations;
+    }
+
+    Stage then(final byte kind, final Object operation) {
+      final int length = this.kinds.length;
+      final byte[] kinds = Arrays.copyOf(this.kinds, length + 1);
+      final Object[] operations = Arrays.copyOf(this.operations, length + 1);
+      kinds[length] = kind;
+      operations[length] = operation;
+      return new Stage(kinds, operations);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable Object apply(@Nullable Object value) {
+      final byte[] kinds = this.kinds;
+      final Object[] operations = this.operations;
+      for (int i = 0; i < kinds.length; i++) {
+        switch (kinds[i]) {
+          case MAP -> value = ((Function<Object, Object>) operations[i]).apply(value);
+          case FILTER -> {
+            if (!((Predicate<Object>) operations[i]).test(value)) {
+              return SKIP;
+            }
+          }
+          case COLLECT_LEFT -> value = ((Function<Object, Either<Object, Object>>) operations[i]).apply(value).fold(Function.identity(), TO_SKIP);
+          case COLLECT_RIGHT -> value = ((Function<Object, Either<Object, Object>>) operations[i]).apply(value).fold(TO_SKIP, Function.identity());
+          default -> throw new IllegalStateException("Unknown stage kind: " + kinds[i]);
+        }
+        if (value == SKIP) {
+          return SKIP;
+        }
+      }
+      return value;
+    }
+  }
+
+  private static final class StagedCursor implements Cursor {
+    private final Cursor source;
+    private final Stage stage;
+
+    StagedCursor(final Cursor source, final Stage stage) {
+      this.source = source;
+      this.stage = stage;
+    }
+
+    @Override
+    public @Nullable Object next() {
+      while (true) {
+        final Object value = this.source.next();
+        if (value == END) {
+          return END;
+        }
+        final Object result = this.stage.apply(value);
+        if (result != Stage.SKIP) {
+          return result;
+        }
+      }
+    }
+  }
+
+  private record ArraySource(Object[] elements, int from, int to) implements Source {
+    @Override
+    public Cursor open() {
+      return new Cursor() {
+        private int index = ArraySource.this.from;
+
+        @Override
+        public @Nullable Object next() {
+          return this.index < ArraySource.this.to ? ArraySource.this.elements[this.index++] : END;
+        }
+      };
+    }
+
+    @Override
+    public int sizeHint() {
+      return this.to - this.from;
+    }
+  }
+
+  private record ListSource(List<?> list) implements Source {
+    @Override
+    public Cursor open() {
+      return new Cursor() {
+        private int index;
+
+        @Override
+        public @Nullable Object next() {
+          return this.index < ListSource.this.list.size() ? ListSource.this.list.get(this.index++) : END;
+        }
+      };
+    }
+
+    @Override
+    public int sizeHint() {
+      return this.list.size();
+    }
+  }
+
+  // adapts an iterable, allocating one iterator per traversal
+  private static Cursor iteratorCursor(final Iterator<?> iterator) {
+    return () -> iterator.hasNext() ? iterator.next() : Cursor.END;
+  }
+
+  private static final class MemoSource implements Source {
+    private @Nullable Cursor delegate;
+    private volatile Object[] cells = new Object[8];
+    private volatile int size;
+    private volatile boolean done;
+
+    MemoSource(final Cursor delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Cursor open() {
+      return new Cursor() {
+        private int index;
+
+        @Override
+        public @Nullable Object next() {
+          return MemoSource.this.cell(this.index++);
+        }
+      };
+    }
+
+    private @Nullable Object cell(final int index) {
+      if (index < this.size) {
+        return this.cells[index];
+      }
+      synchronized (this) {
+        while (index >= this.size) {
+          if (this.done) {
+            return Cursor.END;
+          }
+          this.force();
+        }
+        return this.cells[index];
+      }
+    }
+
+    private void force() {
+      final Object value = this.delegate.next();
+      if (value == Cursor.END) {
+        this.done = true;
+        this.delegate = null;
+        return;
+      }
+      Object[] cells = this.cells;
+      if (this.size == cells.length) {
+        cells = Arrays.copyOf(cells, cells.length << 1);
+      }
+      cells[this.size] = value;
+      this.cells = cells;
+      this.size = this.size + 1;
+    }
+  }
+}
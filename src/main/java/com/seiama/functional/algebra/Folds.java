@@ -0,0 +1,220 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.algebra;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parallel reductions with {@link Monoid}s.
+ *
+ * <p>Each fold splits its input into fork/join tasks until the pieces reach a leaf size derived from the input
+ * size and the parallelism of the pool, so that every worker gets a few pieces to balance the load without
+ * paying for a task per element. Small inputs are folded on the calling thread. Partial results are combined
+ * in encounter order, so the operation only needs to be associative.</p>
+ *
+ * <p>Each leaf is folded with a single {@link Monoid#combineAll(Iterable)}, so monoids that build their result
+ * in one pass there only pay for a {@link Semigroup#combine(Object, Object)} per pair of leaves.</p>
+ *
+ * <p>Folds called from a fork/join task run in that task's pool, and otherwise in the
+ * {@link ForkJoinPool#commonPool() common pool}.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Folds {
+  // below this many elements the overhead of forking outweighs any gain
+  private static final int SEQUENTIAL_THRESHOLD = 1024;
+  // pieces per worker, so that uneven pieces still balance across workers
+  private static final int PIECES_PER_WORKER = 4;
+
+  private Folds() {
+  }
+
+  /**
+   * Maps every element of {@code values} with {@code fn} and combines the results with {@code monoid}.
+   *
+   * @param values the values
+   * @param fn the mapping function
+   * @param monoid the monoid
+   * @param <T> the element type
+   * @param <M> the result type
+   * @return the combined value, or the identity element of {@code monoid} if there are no values
+   * @since 1.0.0
+   */
+  public static <T, M> M foldMap(final T @NotNull [] values, final @NotNull Function<? super T, ? extends M> fn, final @NotNull Monoid<M> monoid) {
+    return foldMap(Arrays.asList(requireNonNull(values, "values")), fn, monoid);
+  }
+
+  /**
+   * Maps every element of {@code values} with {@code fn} and combines the results with {@code monoid}.
+   *
+   * <p>{@link RandomAccess} lists are split by index; other lists are split by their spliterator.</p>
+   *
+   * @param values the values
+   * @param fn the mapping function
+   * @param monoid the monoid
+   * @param <T> the element type
+   * @param <M> the result type
+   * @return the combined value, or the identity element of {@code monoid} if there are no values
+   * @since 1.0.0
+   */
+  public static <T, M> M foldMap(final @NotNull List<? extends T> values, final @NotNull Function<? super T, ? extends M> fn, final @NotNull Monoid<M> monoid) {
+    requireNonNull(values, "values");
+    requireNonNull(fn, "fn");
+    requireNonNull(monoid, "monoid");
+    if (!(values instanceof RandomAccess)) {
+      return foldMap(values.spliterator(), fn, monoid);
+    }
+    final int size = values.size();
+    if (size <= SEQUENTIAL_THRESHOLD) {
+      return foldRange(values, 0, size, fn, monoid);
+    }
+    return new RangeTask<>(values, 0, size, leafSize(size), fn, monoid).invoke();
+  }
+
+  /**
+   * Maps every element of {@code values} with {@code fn} and combines the results with {@code monoid}.
+   *
+   * <p>The spliterator must be {@link Spliterator#ORDERED ordered} for the result to respect encounter order, and
+   * is split for as long as its {@link Spliterator#estimateSize() estimated size} is above the leaf size.</p>
+   *
+   * @param values the values
+   * @param fn the mapping function
+   * @param monoid the monoid
+   * @param <T> the element type
+   * @param <M> the result type
+   * @return the combined value, or the identity element of {@code monoid} if there are no values
+   * @since 1.0.0
+   */
+  public static <T, M> M foldMap(final @NotNull Spliterator<? extends T> values, final @NotNull Function<? super T, ? extends M> fn, final @NotNull Monoid<M> monoid) {
+    requireNonNull(values, "values");
+    requireNonNull(fn, "fn");
+    requireNonNull(monoid, "monoid");
+    final long size = values.estimateSize();
+    if (size <= SEQUENTIAL_THRESHOLD) {
+      return foldRemaining(values, fn, monoid);
+    }
+    return new SpliteratorTask<>(values, leafSize(size), fn, monoid).invoke();
+  }
+
+  private static long leafSize(final long size) {
+    final ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+    return Math.max(size / ((long) pool.getParallelism() * PIECES_PER_WORKER), 1);
+  }
+
+  private static <T, M> M foldRange(final List<? extends T> values, final int from, final int to, final Function<? super T, ? extends M> fn, final Monoid<M> monoid) {
+    return monoid.combineAll(mapped(values.subList(from, to).iterator(), fn));
+  }
+
+  private static <T, M> M foldRemaining(final Spliterator<? extends T> values, final Function<? super T, ? extends M> fn, final Monoid<M> monoid) {
+    return monoid.combineAll(mapped(Spliterators.iterator(values), fn));
+  }
+
+  // a single-use view that applies fn as the monoid iterates
+  private static <T, M> Iterable<M> mapped(final Iterator<? extends T> values, final Function<? super T, ? extends M> fn) {
+    return () -> new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return values.hasNext();
+      }
+
+      @Override
+      public M next() {
+        return fn.apply(values.next());
+      }
+    };
+  }
+
+  private static final class RangeTask<T, M> extends RecursiveTask<M> {
+    private static final long serialVersionUID = 1L;
+    private final transient List<? extends T> values;
+    private final int from;
+    private final int to;
+    private final long leafSize;
+    private final transient Function<? super T, ? extends M> fn;
+    private final transient Monoid<M> monoid;
+
+    RangeTask(final List<? extends T> values, final int from, final int to, final long leafSize, final Function<? super T, ? extends M> fn, final Monoid<M> monoid) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+      this.fn = fn;
+      this.monoid = monoid;
+    }
+
+    @Override
+    protected M compute() {
+      if (this.to - this.from <= this.leafSize) {
+        return foldRange(this.values, this.from, this.to, this.fn, this.monoid);
+      }
+      final int middle = (this.from + this.to) >>> 1;
+      final RangeTask<T, M> right = new RangeTask<>(this.values, middle, this.to, this.leafSize, this.fn, this.monoid);
+      right.fork();
+      final M left = new RangeTask<>(this.values, this.from, middle, this.leafSize, this.fn, this.monoid).compute();
+      return this.monoid.combine(left, right.join());
+    }
+  }
+
+  private static final class SpliteratorTask<T, M> extends RecursiveTask<M> {
+    private static final long serialVersionUID = 1L;
+    private final transient Spliterator<? extends T> values;
+    private final long leafSize;
+    private final transient Function<? super T, ? extends M> fn;
+    private final transient Monoid<M> monoid;
+
+    SpliteratorTask(final Spliterator<? extends T> values, final long leafSize, final Function<? super T, ? extends M> fn, final Monoid<M> monoid) {
+      this.values = values;
+      this.leafSize = leafSize;
+      this.fn = fn;
+      this.monoid = monoid;
+    }
+
+    @Override
+    protected M compute() {
+      final Spliterator<? extends T> suffix = this.values;
+      if (suffix.estimateSize() > this.leafSize) {
+        final Spliterator<? extends T> prefix = suffix.trySplit();
+        if (prefix != null) {
+          final SpliteratorTask<T, M> right = new SpliteratorTask<>(suffix, this.leafSize, this.fn, this.monoid);
+          right.fork();
+          final M left = new SpliteratorTask<>(prefix, this.leafSize, this.fn, this.monoid).compute();
+          return this.monoid.combine(left, right.join());
+        }
+      }
+      return foldRemaining(suffix, this.fn, this.monoid);
+    }
+  }
+}
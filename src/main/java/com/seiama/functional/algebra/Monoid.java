@@ -0,0 +1,263 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.algebra;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Semigroup} with an identity element.
+ *
+ * <p>Implementations must satisfy {@code combine(empty(), a) == a} and {@code combine(a, empty()) == a}.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public interface Monoid<T> extends Semigroup<T> {
+  /**
+   * Creates a monoid from an identity element and an associative operation.
+   *
+   * @param empty the identity element
+   * @param semigroup the operation
+   * @param <T> the value type
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static <T> @NotNull Monoid<T> of(final T empty, final @NotNull Semigroup<T> semigroup) {
+    requireNonNull(semigroup, "semigroup");
+    return new Monoid<>() {
+      @Override
+      public T empty() {
+        return empty;
+      }
+
+      @Override
+      public T combine(final T a, final T b) {
+        return semigroup.combine(a, b);
+      }
+    };
+  }
+
+  /**
+   * Gets the monoid of integer addition.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<Integer> intSum() {
+    return of(0, Integer::sum);
+  }
+
+  /**
+   * Gets the monoid of long addition.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<Long> longSum() {
+    return of(0L, Long::sum);
+  }
+
+  /**
+   * Gets the monoid of double addition.
+   *
+   * <p>Floating point addition is only approximately associative, so parallel folds may differ from sequential
+   * folds in the last bits.</p>
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<Double> doubleSum() {
+    return of(0.0D, Double::sum);
+  }
+
+  /**
+   * Gets the monoid of integer multiplication.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<Integer> intProduct() {
+    return of(1, (a, b) -> a * b);
+  }
+
+  /**
+   * Gets the monoid of long multiplication.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<Long> longProduct() {
+    return of(1L, (a, b) -> a * b);
+  }
+
+  /**
+   * Gets the monoid of {@link BigInteger} addition.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<BigInteger> bigIntegerSum() {
+    return of(BigInteger.ZERO, BigInteger::add);
+  }
+
+  /**
+   * Gets the monoid of {@link BigDecimal} addition.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<BigDecimal> bigDecimalSum() {
+    return of(BigDecimal.ZERO, BigDecimal::add);
+  }
+
+  /**
+   * Gets the monoid of string concatenation.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<String> string() {
+    return of("", String::concat);
+  }
+
+  /**
+   * Gets the monoid of list concatenation.
+   *
+   * <p>Combined lists are unmodifiable. {@link #combine(Object, Object)} copies both lists, so combining many lists
+   * one at a time is quadratic in the total size; {@link #combineAll(Iterable)} copies every list once into a
+   * single result instead.</p>
+   *
+   * @param <T> the element type
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static <T> @NotNull Monoid<List<T>> list() {
+    return new Monoid<>() {
+      @Override
+      public List<T> empty() {
+        return List.of();
+      }
+
+      @Override
+      public List<T> combine(final List<T> a, final List<T> b) {
+        if (a.isEmpty()) {
+          return b;
+        } else if (b.isEmpty()) {
+          return a;
+        }
+        final List<T> result = new ArrayList<>(a.size() + b.size());
+        result.addAll(a);
+        result.addAll(b);
+        return Collections.unmodifiableList(result);
+      }
+
+      @Override
+      public List<T> combineAll(final @NotNull Iterable<? extends List<T>> values) {
+        final List<T> result = new ArrayList<>();
+        for (final List<T> value : values) {
+          result.addAll(value);
+        }
+        return result.isEmpty() ? List.of() : Collections.unmodifiableList(result);
+      }
+    };
+  }
+
+  /**
+   * Gets the trivial monoid over {@link Unit}.
+   *
+   * @return a monoid
+   * @since 1.0.0
+   */
+  static @NotNull Monoid<Unit> unit() {
+    return of(Unit.INSTANCE, (a, b) -> Unit.INSTANCE);
+  }
+
+  /**
+   * Creates a monoid over eithers that stops at the first left and combines rights with {@code rights}.
+   *
+   * <p>The identity element is a right holding the identity element of {@code rights}.</p>
+   *
+   * @param rights the monoid for right values
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a monoid
+   * @see Semigroup#either(Semigroup)
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Monoid<Either<L, R>> either(final @NotNull Monoid<R> rights) {
+    return of(Either.right(rights.empty()), Semigroup.either(rights));
+  }
+
+  /**
+   * Creates a monoid over eithers that combines lefts with {@code lefts} and rights with {@code rights}.
+   *
+   * <p>The identity element is a right holding the identity element of {@code rights}.</p>
+   *
+   * @param lefts the semigroup for left values
+   * @param rights the monoid for right values
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a monoid
+   * @see Semigroup#accumulating(Semigroup, Semigroup)
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Monoid<Either<L, R>> accumulating(final @NotNull Semigroup<L> lefts, final @NotNull Monoid<R> rights) {
+    return of(Either.right(rights.empty()), Semigroup.accumulating(lefts, rights));
+  }
+
+  /**
+   * Gets the identity element.
+   *
+   * @return the identity element
+   * @since 1.0.0
+   */
+  T empty();
+
+  /**
+   * Combines every value of {@code values} in order, or returns the identity element if there are none.
+   *
+   * <p>Monoids whose {@link #combine(Object, Object)} copies its arguments may override this to build the result
+   * in one pass.</p>
+   *
+   * @param values the values
+   * @return the combined value
+   * @since 1.0.0
+   */
+  default T combineAll(final @NotNull Iterable<? extends T> values) {
+    T result = this.empty();
+    for (final T value : values) {
+      result = this.combine(result, value);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.algebra;
+
+import com.seiama.functional.adt.either.Either;
+import java.util.Comparator;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An associative binary operation.
+ *
+ * <p>Implementations must satisfy {@code combine(combine(a, b), c) == combine(a, combine(b, c))}, which is what
+ * allows {@link Folds} to split a reduction across threads and combine the partial results in any grouping. The
+ * operation need not be commutative: partial results are always combined in encounter order.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Semigroup<T> {
+  /**
+   * Creates a semigroup keeping the first of two values.
+   *
+   * @param <T> the value type
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <T> @NotNull Semigroup<T> first() {
+    return (a, b) -> a;
+  }
+
+  /**
+   * Creates a semigroup keeping the last of two values.
+   *
+   * @param <T> the value type
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <T> @NotNull Semigroup<T> last() {
+    return (a, b) -> b;
+  }
+
+  /**
+   * Creates a semigroup keeping the smaller of two values, or the first if they are equal.
+   *
+   * @param comparator the comparator
+   * @param <T> the value type
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <T> @NotNull Semigroup<T> min(final @NotNull Comparator<? super T> comparator) {
+    requireNonNull(comparator, "comparator");
+    return (a, b) -> comparator.compare(b, a) < 0 ? b : a;
+  }
+
+  /**
+   * Creates a semigroup keeping the larger of two values, or the first if they are equal.
+   *
+   * @param comparator the comparator
+   * @param <T> the value type
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <T> @NotNull Semigroup<T> max(final @NotNull Comparator<? super T> comparator) {
+    requireNonNull(comparator, "comparator");
+    return (a, b) -> comparator.compare(b, a) > 0 ? b : a;
+  }
+
+  /**
+   * Creates a semigroup over eithers that stops at the first left and combines rights with {@code rights}.
+   *
+   * @param rights the semigroup for right values
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Semigroup<Either<L, R>> either(final @NotNull Semigroup<R> rights) {
+    requireNonNull(rights, "rights");
+    return (a, b) -> a.fold(
+      left -> a,
+      ra -> b.fold(left -> b, rb -> Either.right(rights.combine(ra, rb)))
+    );
+  }
+
+  /**
+   * Creates a semigroup over eithers that combines lefts with {@code lefts} and rights with {@code rights}.
+   *
+   * <p>A left and a right combine to the left, so the result is a left holding every left combined if there was
+   * any left at all.</p>
+   *
+   * @param lefts the semigroup for left values
+   * @param rights the semigroup for right values
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a semigroup
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Semigroup<Either<L, R>> accumulating(final @NotNull Semigroup<L> lefts, final @NotNull Semigroup<R> rights) {
+    requireNonNull(lefts, "lefts");
+    requireNonNull(rights, "rights");
+    return (a, b) -> a.fold(
+      la -> b.fold(lb -> Either.left(lefts.combine(la, lb)), right -> a),
+      ra -> b.fold(left -> b, rb -> Either.right(rights.combine(ra, rb)))
+    );
+  }
+
+  /**
+   * Combines two values.
+   *
+   * @param a the first value
+   * @param b the second value
+   * @return the combined value
+   * @since 1.0.0
+   */
+  T combine(final T a, final T b);
+
+  /**
+   * Combines {@code value} with itself {@code times} times, by repeated squaring.
+   *
+   * @param value the value
+   * @param times the number of occurrences, at least one
+   * @return the combined value
+   * @since 1.0.0
+   */
+  default T repeat(final T value, final int times) {
+    if (times < 1) {
+      throw new IllegalArgumentException("times must be positive: " + times);
+    }
+    T result = null;
+    T base = value;
+    boolean first = true;
+    for (int n = times; n > 0; n >>>= 1) {
+      if ((n & 1) != 0) {
+        result = first ? base : this.combine(result, base);
+        first = false;
+      }
+      if (n > 1) {
+        base = this.combine(base, base);
+      }
+    }
+    return result;
+  }
+}
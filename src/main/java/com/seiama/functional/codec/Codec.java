@@ -0,0 +1,135 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A binary encoding of values of type {@code T}.
+ *
+ * <p>Codecs read and write directly at the position of a {@link ByteBuffer}, heap or direct, advancing it by
+ * the number of bytes read or written. Multi-byte values use the byte order of the buffer.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public interface Codec<T> {
+  /**
+   * Gets a codec for integers, using four bytes.
+   *
+   * @return a codec
+   * @since 1.0.0
+   */
+  static @NotNull Codec<Integer> int32() {
+    return Codecs.INT32;
+  }
+
+  /**
+   * Gets a codec for longs, using eight bytes.
+   *
+   * @return a codec
+   * @since 1.0.0
+   */
+  static @NotNull Codec<Long> int64() {
+    return Codecs.INT64;
+  }
+
+  /**
+   * Gets a codec for strings, using a four byte length followed by the UTF-8 encoded characters.
+   *
+   * <p>Unpaired surrogates are encoded as {@code '?'}.</p>
+   *
+   * @return a codec
+   * @since 1.0.0
+   */
+  static @NotNull Codec<String> utf8() {
+    return Codecs.UTF8;
+  }
+
+  /**
+   * Gets the number of bytes {@link #encode(Object, ByteBuffer)} writes for {@code value}.
+   *
+   * @param value the value
+   * @return the number of bytes
+   * @since 1.0.0
+   */
+  int size(final @NotNull T value);
+
+  /**
+   * Writes {@code value} to {@code buffer}.
+   *
+   * @param value the value
+   * @param buffer the buffer
+   * @throws BufferOverflowException if {@code buffer} has fewer than {@link #size(Object)} bytes remaining
+   * @since 1.0.0
+   */
+  void encode(final @NotNull T value, final @NotNull ByteBuffer buffer);
+
+  /**
+   * Reads a value from {@code buffer}.
+   *
+   * @param buffer the buffer
+   * @return the value
+   * @throws BufferUnderflowException if {@code buffer} does not contain a complete value
+   * @throws IllegalArgumentException if {@code buffer} does not contain a valid value
+   * @since 1.0.0
+   */
+  @NotNull T decode(final @NotNull ByteBuffer buffer);
+
+  /**
+   * Creates a codec for values of type {@code U} that converts them to and from values of this codec.
+   *
+   * @param to the function converting values to the type of this codec
+   * @param from the function converting values from the type of this codec
+   * @param <U> the new value type
+   * @return a codec
+   * @since 1.0.0
+   */
+  default <U> @NotNull Codec<U> map(final @NotNull Function<? super U, ? extends T> to, final @NotNull Function<? super T, ? extends U> from) {
+    requireNonNull(to, "to");
+    requireNonNull(from, "from");
+    return new Codec<>() {
+      @Override
+      public int size(final @NotNull U value) {
+        return Codec.this.size(to.apply(value));
+      }
+
+      @Override
+      public void encode(final @NotNull U value, final @NotNull ByteBuffer buffer) {
+        Codec.this.encode(to.apply(value), buffer);
+      }
+
+      @Override
+      public @NotNull U decode(final @NotNull ByteBuffer buffer) {
+        return from.apply(Codec.this.decode(buffer));
+      }
+    };
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+
+final class Codecs {
+  static final Codec<Integer> INT32 = new Codec<>() {
+    @Override
+    public int size(final @NotNull Integer value) {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(final @NotNull Integer value, final @NotNull ByteBuffer buffer) {
+      buffer.putInt(value);
+    }
+
+    @Override
+    public @NotNull Integer decode(final @NotNull ByteBuffer buffer) {
+      return buffer.getInt();
+    }
+  };
+  static final Codec<Long> INT64 = new Codec<>() {
+    @Override
+    public int size(final @NotNull Long value) {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void encode(final @NotNull Long value, final @NotNull ByteBuffer buffer) {
+      buffer.putLong(value);
+    }
+
+    @Override
+    public @NotNull Long decode(final @NotNull ByteBuffer buffer) {
+      return buffer.getLong();
+    }
+  };
+  static final Codec<String> UTF8 = new Codec<>() {
+    @Override
+    public int size(final @NotNull String value) {
+      return Integer.BYTES + utf8Length(value);
+    }
+
+    @Override
+    public void encode(final @NotNull String value, final @NotNull ByteBuffer buffer) {
+      final int length = utf8Length(value);
+      if (buffer.remaining() < Integer.BYTES + length) {
+        throw new BufferOverflowException();
+      }
+      buffer.putInt(length);
+      writeUtf8(value, buffer);
+    }
+
+    @Override
+    public @NotNull String decode(final @NotNull ByteBuffer buffer) {
+      final int length = buffer.getInt();
+      if (length < 0) {
+        throw new IllegalArgumentException("Negative string length: " + length);
+      }
+      if (buffer.remaining() < length) {
+        throw new BufferUnderflowException();
+      }
+      final int position = buffer.position();
+      final String value;
+      if (buffer.hasArray()) {
+        value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+      } else {
+        value = StandardCharsets.UTF_8.decode(buffer.slice(position, length)).toString();
+      }
+      buffer.position(position + length);
+      return value;
+    }
+  };
+
+  private Codecs() {
+  }
+
+  static int utf8Length(final String value) {
+    final int chars = value.length();
+    int length = chars;
+    for (int i = 0; i < chars; i++) {
+      final char c = value.charAt(i);
+      if (c >= 0x800) {
+        if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+          length += 2;
+          i++;
+        } else if (!Character.isSurrogate(c)) {
+          length += 2;
+        }
+      } else if (c >= 0x80) {
+        length++;
+      }
+    }
+    return length;
+  }
+
+  private static void writeUtf8(final String value, final ByteBuffer buffer) {
+    final int chars = value.length();
+    for (int i = 0; i < chars; i++) {
+      final char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer.put((byte) c);
+      } else if (c < 0x800) {
+        buffer.put((byte) (0xC0 | (c >> 6)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(c)) {
+        buffer.put((byte) '?');
+      } else {
+        buffer.put((byte) (0xE0 | (c >> 12)));
+        buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+  }
+}
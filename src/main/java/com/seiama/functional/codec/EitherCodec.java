@@ -0,0 +1,205 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.codec;
+
+import com.seiama.functional.adt.either.Either;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A codec for {@link Either} values.
+ *
+ * <p>A single value is written as a one byte tag, {@code 0} for left and {@code 1} for right, followed by the
+ * value as written by the codec for its side.</p>
+ *
+ * <p>A list of values is written as a four byte count, followed by a bitmap holding one tag bit per value,
+ * followed by the values without their tags.</p>
+ *
+ * @param <L> the left type
+ * @param <R> the right type
+ * @since 1.0.0
+ */
+public final class EitherCodec<L, R> implements Codec<Either<L, R>> {
+  private static final byte LEFT = 0;
+  private static final byte RIGHT = 1;
+  private final Codec<L> left;
+  private final Codec<R> right;
+
+  private EitherCodec(final Codec<L> left, final Codec<R> right) {
+    this.left = left;
+    this.right = right;
+  }
+
+  /**
+   * Creates a codec for eithers.
+   *
+   * @param left the codec for left values
+   * @param right the codec for right values
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a codec
+   * @since 1.0.0
+   */
+  public static <L, R> @NotNull EitherCodec<L, R> of(final @NotNull Codec<L> left, final @NotNull Codec<R> right) {
+    return new EitherCodec<>(requireNonNull(left, "left"), requireNonNull(right, "right"));
+  }
+
+  @Override
+  public int size(final @NotNull Either<L, R> value) {
+    return 1 + this.valueSize(value);
+  }
+
+  @Override
+  public void encode(final @NotNull Either<L, R> value, final @NotNull ByteBuffer buffer) {
+    if (buffer.remaining() < this.size(value)) {
+      throw new BufferOverflowException();
+    }
+    value.fold(
+      left -> {
+        buffer.put(LEFT);
+        this.left.encode(left, buffer);
+        return null;
+      },
+      right -> {
+        buffer.put(RIGHT);
+        this.right.encode(right, buffer);
+        return null;
+      }
+    );
+  }
+
+  @Override
+  public @NotNull Either<L, R> decode(final @NotNull ByteBuffer buffer) {
+    final byte tag = buffer.get();
+    if (tag == LEFT) {
+      return Either.left(this.left.decode(buffer));
+    } else if (tag == RIGHT) {
+      return Either.right(this.right.decode(buffer));
+    }
+    throw new IllegalArgumentException("Unknown tag: " + tag);
+  }
+
+  /**
+   * Gets the number of bytes {@link #encodeAll(List, ByteBuffer)} writes for {@code values}.
+   *
+   * @param values the values
+   * @return the number of bytes
+   * @since 1.0.0
+   */
+  public int sizeAll(final @NotNull List<? extends Either<L, R>> values) {
+    final int n = values.size();
+    int size = Integer.BYTES + bitmapSize(n);
+    for (int i = 0; i < n; i++) {
+      size += this.valueSize(values.get(i));
+    }
+    return size;
+  }
+
+  /**
+   * Writes {@code values} to {@code buffer}.
+   *
+   * @param values the values
+   * @param buffer the buffer
+   * @throws BufferOverflowException if {@code buffer} has fewer than {@link #sizeAll(List)} bytes remaining
+   * @since 1.0.0
+   */
+  public void encodeAll(final @NotNull List<? extends Either<L, R>> values, final @NotNull ByteBuffer buffer) {
+    if (buffer.remaining() < this.sizeAll(values)) {
+      throw new BufferOverflowException();
+    }
+    final int n = values.size();
+    buffer.putInt(n);
+    final int bitmap = buffer.position();
+    buffer.position(bitmap + bitmapSize(n));
+    int bits = 0;
+    for (int i = 0; i < n; i++) {
+      final Either<L, R> value = values.get(i);
+      final boolean isRight = value.fold(
+        left -> {
+          this.left.encode(left, buffer);
+          return false;
+        },
+        right -> {
+          this.right.encode(right, buffer);
+          return true;
+        }
+      );
+      if (isRight) {
+        bits |= 1 << (i & 7);
+      }
+      if ((i & 7) == 7 || i == n - 1) {
+        buffer.put(bitmap + (i >>> 3), (byte) bits);
+        bits = 0;
+      }
+    }
+  }
+
+  /**
+   * Reads a list of values from {@code buffer}.
+   *
+   * @param buffer the buffer
+   * @return the values
+   * @throws BufferUnderflowException if {@code buffer} does not contain a complete list
+   * @throws IllegalArgumentException if {@code buffer} does not contain a valid list
+   * @since 1.0.0
+   */
+  public @NotNull List<Either<L, R>> decodeAll(final @NotNull ByteBuffer buffer) {
+    final int n = buffer.getInt();
+    if (n < 0) {
+      throw new IllegalArgumentException("Negative count: " + n);
+    }
+    final int bitmap = buffer.position();
+    if (buffer.remaining() < bitmapSize(n)) {
+      throw new BufferUnderflowException();
+    }
+    buffer.position(bitmap + bitmapSize(n));
+    final List<Either<L, R>> values = new ArrayList<>(n);
+    int bits = 0;
+    for (int i = 0; i < n; i++) {
+      if ((i & 7) == 0) {
+        bits = buffer.get(bitmap + (i >>> 3));
+      }
+      if ((bits & (1 << (i & 7))) != 0) {
+        values.add(Either.right(this.right.decode(buffer)));
+      } else {
+        values.add(Either.left(this.left.decode(buffer)));
+      }
+    }
+    return values;
+  }
+
+  private int valueSize(final Either<L, R> value) {
+    return value.fold(this.left::size, this.right::size);
+  }
+
+  private static int bitmapSize(final int count) {
+    return (count + 7) >>> 3;
+  }
+}
@@ -0,0 +1,393 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Consumer1E;
+import com.seiama.functional.internal.MpscLinkedQueue;
+import com.seiama.functional.internal.Threads;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single-threaded owner of state that processes messages sent to it one at a time.
+ *
+ * <p>Messages are queued in a lock-free mailbox and processed by the actor's behavior on an executor, in the order
+ * each sender sent them. The actor is only scheduled when its mailbox goes from empty to non-empty, and then
+ * processes up to a batch of messages before giving up its thread.</p>
+ *
+ * <p>A mailbox may be bounded, in which case the {@link Overflow overflow policy} decides what happens to messages
+ * sent while it is full.</p>
+ *
+ * @param <M> the message type
+ * @since 1.0.0
+ */
+public final class Actor<M> {
+  private static final Either<Dropped, Unit> ACCEPTED = Either.right(Unit.INSTANCE);
+  private final Consumer1E<? super M, ?> behavior;
+  private final BiConsumer<? super M, ? super Throwable> onError;
+  private final Executor executor;
+  private final int batchSize;
+  private final @Nullable Semaphore capacity;
+  private final Overflow overflow;
+  private final MpscLinkedQueue<M> mailbox = new MpscLinkedQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final AtomicLong processed = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final Runnable drain = this::drain;
+  private volatile boolean stopped;
+
+  private Actor(final Builder<M> builder) {
+    this.behavior = builder.behavior;
+    this.onError = builder.onError;
+    this.executor = builder.executor;
+    this.batchSize = builder.batchSize;
+    this.capacity = builder.capacity == Integer.MAX_VALUE ? null : new Semaphore(builder.capacity);
+    this.overflow = builder.overflow;
+  }
+
+  /**
+   * Creates an actor with an unbounded mailbox, running on virtual threads when available.
+   *
+   * @param behavior the behavior
+   * @param <M> the message type
+   * @return an actor
+   * @since 1.0.0
+   */
+  public static <M> @NotNull Actor<M> of(final @NotNull Consumer1E<? super M, ?> behavior) {
+    return Actor.<M>builder(behavior).build();
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @param behavior the behavior
+   * @param <M> the message type
+   * @return a builder
+   * @since 1.0.0
+   */
+  public static <M> @NotNull Builder<M> builder(final @NotNull Consumer1E<? super M, ?> behavior) {
+    return new Builder<>(requireNonNull(behavior, "behavior"));
+  }
+
+  /**
+   * Sends a message to this actor.
+   *
+   * @param message the message
+   * @return unit if the message was queued, or the reason it was dropped
+   * @since 1.0.0
+   */
+  public @NotNull Either<Dropped, Unit> tell(final @NotNull M message) {
+    requireNonNull(message, "message");
+    if (this.stopped) {
+      return this.drop(Dropped.STOPPED);
+    }
+    final Semaphore capacity = this.capacity;
+    if (capacity != null) {
+      if (this.overflow == Overflow.DROP) {
+        if (!capacity.tryAcquire()) {
+          return this.drop(Dropped.MAILBOX_FULL);
+        }
+      } else {
+        try {
+          capacity.acquire();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return this.drop(Dropped.INTERRUPTED);
+        }
+      }
+    }
+    this.depth.incrementAndGet();
+    this.mailbox.offer(message);
+    this.schedule();
+    return ACCEPTED;
+  }
+
+  /**
+   * Stops this actor from accepting messages.
+   *
+   * <p>Messages queued before this actor was stopped are still processed.</p>
+   *
+   * @since 1.0.0
+   */
+  public void stop() {
+    this.stopped = true;
+  }
+
+  /**
+   * Checks if this actor has been stopped.
+   *
+   * @return {@code true} if this actor has been stopped
+   * @since 1.0.0
+   */
+  public boolean isStopped() {
+    return this.stopped;
+  }
+
+  /**
+   * Gets the number of messages waiting in the mailbox.
+   *
+   * @return the number of messages
+   * @since 1.0.0
+   */
+  public int depth() {
+    return this.depth.get();
+  }
+
+  /**
+   * Gets the number of messages processed so far, including messages whose processing threw an exception.
+   *
+   * @return the number of messages
+   * @since 1.0.0
+   */
+  public long processed() {
+    return this.processed.get();
+  }
+
+  /**
+   * Gets the number of messages dropped so far.
+   *
+   * @return the number of messages
+   * @since 1.0.0
+   */
+  public long dropped() {
+    return this.dropped.get();
+  }
+
+  private Either<Dropped, Unit> drop(final Dropped reason) {
+    this.dropped.incrementAndGet();
+    return reason.asLeft();
+  }
+
+  private void schedule() {
+    if (this.scheduled.compareAndSet(false, true)) {
+      try {
+        this.executor.execute(this.drain);
+      } catch (final RejectedExecutionException e) {
+        this.scheduled.set(false);
+        throw e;
+      }
+    }
+  }
+
+  private void drain() {
+    int count = 0;
+    try {
+      M message;
+      while (count < this.batchSize && (message = this.mailbox.poll()) != null) {
+        count++;
+        this.depth.decrementAndGet();
+        if (this.capacity != null) {
+          this.capacity.release();
+        }
+        try {
+          this.behavior.accept(message);
+        } catch (final Throwable e) {
+          this.report(message, e);
+        }
+      }
+    } finally {
+      this.processed.addAndGet(count);
+      this.scheduled.set(false);
+    }
+    // a sender that queued a message after the last poll either sees scheduled cleared, or is seen here
+    if (!this.mailbox.isEmpty()) {
+      this.schedule();
+    }
+  }
+
+  private void report(final M message, final Throwable error) {
+    try {
+      this.onError.accept(message, error);
+    } catch (final Throwable e) {
+      // a failing handler must not stop the actor
+      e.addSuppressed(error);
+      final Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+  }
+
+  /**
+   * What happens to messages sent to an actor whose bounded mailbox is full.
+   *
+   * @since 1.0.0
+   */
+  public enum Overflow {
+    /**
+     * The message is dropped.
+     *
+     * @since 1.0.0
+     */
+    DROP,
+    /**
+     * The sender waits until there is space in the mailbox.
+     *
+     * @since 1.0.0
+     */
+    BLOCK
+  }
+
+  /**
+   * The reason a message was not queued.
+   *
+   * <p>Each reason has a single preallocated left value, so dropping a message does not allocate.</p>
+   *
+   * @since 1.0.0
+   */
+  public enum Dropped {
+    /**
+     * The mailbox was full.
+     *
+     * @since 1.0.0
+     */
+    MAILBOX_FULL,
+    /**
+     * The actor was stopped.
+     *
+     * @since 1.0.0
+     */
+    STOPPED,
+    /**
+     * The sender was interrupted while waiting for space in the mailbox.
+     *
+     * @since 1.0.0
+     */
+    INTERRUPTED;
+
+    private final Either<Dropped, Unit> left = Either.left(this);
+
+    Either<Dropped, Unit> asLeft() {
+      return this.left;
+    }
+  }
+
+  /**
+   * A builder for {@link Actor}s.
+   *
+   * @param <M> the message type
+   * @since 1.0.0
+   */
+  public static final class Builder<M> {
+    private final Consumer1E<? super M, ?> behavior;
+    private BiConsumer<? super M, ? super Throwable> onError = (message, error) -> {
+      final Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+    };
+    private Executor executor = Shared.EXECUTOR;
+    private int batchSize = 64;
+    private int capacity = Integer.MAX_VALUE;
+    private Overflow overflow = Overflow.DROP;
+
+    private Builder(final Consumer1E<? super M, ?> behavior) {
+      this.behavior = behavior;
+    }
+
+    /**
+     * Sets the executor the behavior runs on.
+     *
+     * <p>By default, the behavior runs on virtual threads when available, or on reused daemon threads otherwise.</p>
+     *
+     * @param executor the executor
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<M> executor(final @NotNull Executor executor) {
+      this.executor = requireNonNull(executor, "executor");
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of messages processed each time the actor is scheduled.
+     *
+     * @param batchSize the batch size
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<M> batchSize(final int batchSize) {
+      if (batchSize < 1) {
+        throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+      }
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Bounds the mailbox.
+     *
+     * @param capacity the maximum number of queued messages
+     * @param overflow what happens to messages sent while the mailbox is full
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<M> bounded(final int capacity, final @NotNull Overflow overflow) {
+      if (capacity < 1) {
+        throw new IllegalArgumentException("capacity must be positive: " + capacity);
+      }
+      this.capacity = capacity;
+      this.overflow = requireNonNull(overflow, "overflow");
+      return this;
+    }
+
+    /**
+     * Sets the handler for exceptions thrown by the behavior.
+     *
+     * <p>By default, exceptions are passed to the uncaught exception handler of the processing thread. The actor
+     * keeps processing messages either way; an exception thrown by the handler itself is passed to the uncaught
+     * exception handler.</p>
+     *
+     * @param onError the handler
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<M> onError(final @NotNull BiConsumer<? super M, ? super Throwable> onError) {
+      this.onError = requireNonNull(onError, "onError");
+      return this;
+    }
+
+    /**
+     * Builds the actor.
+     *
+     * @return an actor
+     * @since 1.0.0
+     */
+    public @NotNull Actor<M> build() {
+      return new Actor<>(this);
+    }
+  }
+
+  private static final class Shared {
+    static final Executor EXECUTOR = Threads.perTaskExecutor("functional-actor-");
+  }
+}
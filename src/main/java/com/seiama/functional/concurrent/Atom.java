@@ -0,0 +1,313 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Consumer2E;
+import java.util.Arrays;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reference to a value that is updated atomically by applying pure functions.
+ *
+ * <p>Updates read the current value, apply the function and publish the result with a compare-and-set, retrying
+ * with exponential backoff if another thread updated the value in the meantime. Functions may therefore be called
+ * more than once per update, and must be free of side effects.</p>
+ *
+ * <p>An atom may have a validator, which every new value must satisfy, and watchers, which are notified after
+ * every successful update.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public final class Atom<T> {
+  private static final Consumer2E<?, ?, ?>[] NO_WATCHERS = new Consumer2E<?, ?, ?>[0];
+  private static final int MAX_BACKOFF_SHIFT = 10;
+  private final AtomicReference<T> value;
+  private final Predicate<? super T> validator;
+  private volatile Consumer2E<?, ?, ?>[] watchers = NO_WATCHERS;
+
+  private Atom(final T value, final Predicate<? super T> validator) {
+    this.value = new AtomicReference<>(value);
+    this.validator = validator;
+  }
+
+  /**
+   * Creates an atom.
+   *
+   * @param initial the initial value
+   * @param <T> the value type
+   * @return an atom
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Atom<T> of(final @NotNull T initial) {
+    return new Atom<>(requireNonNull(initial, "initial"), value -> true);
+  }
+
+  /**
+   * Creates an atom with a validator.
+   *
+   * @param initial the initial value
+   * @param validator the validator
+   * @param <T> the value type
+   * @return an atom
+   * @throws IllegalArgumentException if {@code initial} does not satisfy {@code validator}
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Atom<T> of(final @NotNull T initial, final @NotNull Predicate<? super T> validator) {
+    requireNonNull(initial, "initial");
+    requireNonNull(validator, "validator");
+    if (!validator.test(initial)) {
+      throw new IllegalArgumentException("Initial value rejected by validator: " + initial);
+    }
+    return new Atom<>(initial, validator);
+  }
+
+  /**
+   * Creates a striped atom for commutative updates.
+   *
+   * @param identity the identity of {@code combiner}
+   * @param combiner an associative and commutative function
+   * @param <T> the value type
+   * @return a striped atom
+   * @since 1.0.0
+   */
+  public static <T> @NotNull StripedAtom<T> striped(final @NotNull T identity, final @NotNull BinaryOperator<T> combiner) {
+    return new StripedAtom<>(requireNonNull(identity, "identity"), requireNonNull(combiner, "combiner"));
+  }
+
+  /**
+   * Gets the current value.
+   *
+   * @return the current value
+   * @since 1.0.0
+   */
+  public @NotNull T get() {
+    return this.value.get();
+  }
+
+  /**
+   * Sets the value, regardless of the current value.
+   *
+   * @param value the new value
+   * @return the previous value
+   * @throws IllegalArgumentException if {@code value} does not satisfy the validator
+   * @since 1.0.0
+   */
+  public @NotNull T set(final @NotNull T value) {
+    this.validate(requireNonNull(value, "value"));
+    final T previous = this.value.getAndSet(value);
+    this.notify(previous, value);
+    return previous;
+  }
+
+  /**
+   * Sets the value to {@code value} if the current value is {@code expected}.
+   *
+   * @param expected the expected value, compared by identity
+   * @param value the new value
+   * @return {@code true} if the value was set
+   * @throws IllegalArgumentException if {@code value} does not satisfy the validator
+   * @since 1.0.0
+   */
+  public boolean compareAndSet(final @NotNull T expected, final @NotNull T value) {
+    this.validate(requireNonNull(value, "value"));
+    if (this.value.compareAndSet(expected, value)) {
+      this.notify(expected, value);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Updates the value by applying {@code fn} to the current value.
+   *
+   * @param fn the function
+   * @return the new value
+   * @throws IllegalArgumentException if the new value does not satisfy the validator
+   * @since 1.0.0
+   */
+  public @NotNull T swap(final @NotNull Function<? super T, ? extends T> fn) {
+    requireNonNull(fn, "fn");
+    for (int attempt = 0; ; attempt++) {
+      final T current = this.value.get();
+      final T next = requireNonNull(fn.apply(current), "fn returned null");
+      this.validate(next);
+      if (this.value.compareAndSet(current, next)) {
+        this.notify(current, next);
+        return next;
+      }
+      backoff(attempt);
+    }
+  }
+
+  /**
+   * Updates the value by applying {@code fn} to the current value and {@code argument}.
+   *
+   * <p>Passing the argument separately lets callers use a non-capturing function.</p>
+   *
+   * @param fn the function
+   * @param argument the second argument to {@code fn}
+   * @param <A> the argument type
+   * @return the new value
+   * @throws IllegalArgumentException if the new value does not satisfy the validator
+   * @since 1.0.0
+   */
+  public <A> @NotNull T swap(final @NotNull BiFunction<? super T, ? super A, ? extends T> fn, final A argument) {
+    requireNonNull(fn, "fn");
+    for (int attempt = 0; ; attempt++) {
+      final T current = this.value.get();
+      final T next = requireNonNull(fn.apply(current, argument), "fn returned null");
+      this.validate(next);
+      if (this.value.compareAndSet(current, next)) {
+        this.notify(current, next);
+        return next;
+      }
+      backoff(attempt);
+    }
+  }
+
+  /**
+   * Updates the value by applying {@code fn} to the current value, unless the new value does not satisfy the validator.
+   *
+   * @param fn the function
+   * @return the new value, or the rejected update
+   * @since 1.0.0
+   */
+  public @NotNull Either<Invalid<T>, T> swapResult(final @NotNull Function<? super T, ? extends T> fn) {
+    requireNonNull(fn, "fn");
+    for (int attempt = 0; ; attempt++) {
+      final T current = this.value.get();
+      final T next = requireNonNull(fn.apply(current), "fn returned null");
+      if (!this.validator.test(next)) {
+        return Either.left(new Invalid<>(current, next));
+      }
+      if (this.value.compareAndSet(current, next)) {
+        this.notify(current, next);
+        return Either.right(next);
+      }
+      backoff(attempt);
+    }
+  }
+
+  /**
+   * Adds a watcher, notified with the previous and the new value after every successful update.
+   *
+   * <p>Watchers run on the updating thread, in the order they were added. An exception thrown by a watcher does
+   * not undo the update; it is rethrown to the updater once all watchers have run, wrapped in a
+   * {@link CompletionException} if it is checked.</p>
+   *
+   * @param watcher the watcher
+   * @since 1.0.0
+   */
+  public synchronized void watch(final @NotNull Consumer2E<? super T, ? super T, ?> watcher) {
+    requireNonNull(watcher, "watcher");
+    final Consumer2E<?, ?, ?>[] watchers = Arrays.copyOf(this.watchers, this.watchers.length + 1);
+    watchers[watchers.length - 1] = watcher;
+    this.watchers = watchers;
+  }
+
+  /**
+   * Removes a watcher.
+   *
+   * @param watcher the watcher
+   * @return {@code true} if the watcher was removed
+   * @since 1.0.0
+   */
+  public synchronized boolean unwatch(final @NotNull Consumer2E<? super T, ? super T, ?> watcher) {
+    final Consumer2E<?, ?, ?>[] watchers = this.watchers;
+    for (int i = 0; i < watchers.length; i++) {
+      if (watchers[i] == watcher) {
+        final Consumer2E<?, ?, ?>[] remaining = new Consumer2E<?, ?, ?>[watchers.length - 1];
+        System.arraycopy(watchers, 0, remaining, 0, i);
+        System.arraycopy(watchers, i + 1, remaining, i, remaining.length - i);
+        this.watchers = remaining;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void validate(final T value) {
+    if (!this.validator.test(value)) {
+      throw new IllegalArgumentException("Value rejected by validator: " + value);
+    }
+  }
+
+  @SuppressWarnings("unchecked") // watchers are only added through watch, which checks their type
+  private void notify(final T previous, final T value) {
+    final Consumer2E<?, ?, ?>[] watchers = this.watchers;
+    if (watchers.length == 0) {
+      return;
+    }
+    Throwable failure = null;
+    for (final Consumer2E<?, ?, ?> watcher : watchers) {
+      try {
+        ((Consumer2E<? super T, ? super T, ?>) watcher).accept(previous, value);
+      } catch (final Throwable e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure instanceof RuntimeException runtime) {
+      throw runtime;
+    } else if (failure instanceof Error error) {
+      throw error;
+    } else if (failure != null) {
+      throw new CompletionException(failure);
+    }
+  }
+
+  static void backoff(final int attempt) {
+    if (attempt < MAX_BACKOFF_SHIFT) {
+      for (int i = 1 << attempt; i > 0; i--) {
+        Thread.onSpinWait();
+      }
+    } else {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * The failure returned when an update produced a value rejected by the validator.
+   *
+   * @param current the value at the time of the update
+   * @param proposed the rejected value
+   * @param <T> the value type
+   * @since 1.0.0
+   */
+  public record Invalid<T>(@NotNull T current, @NotNull T proposed) {
+  }
+}
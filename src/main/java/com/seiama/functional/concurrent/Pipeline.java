@@ -0,0 +1,380 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import com.seiama.functional.function.exceptional.Consumer1E;
+import com.seiama.functional.internal.Threads;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sequence of processing stages connected by a preallocated ring buffer.
+ *
+ * <p>The ring holds mutable event slots created up front. A producer claims a slot, fills it in place and publishes
+ * it; each stage then processes the slot in turn on its own thread, once the stage before it has. Stages track their
+ * progress with sequence numbers instead of exchanging objects through queues, and a stage that falls behind
+ * processes every available slot in one batch before publishing its progress. Once the ring is full, the producer
+ * waits for the last stage to free a slot.</p>
+ *
+ * <p>Nothing is allocated per event as long as the producer's translator and the stages do not allocate. Slots are
+ * reused, so stages must not keep references to events beyond their processing.</p>
+ *
+ * <p>A pipeline has a single producer: {@link #publish(Consumer1E)}, {@link #tryPublish(Consumer1E)} and
+ * {@link #close()} must not be called concurrently.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+public final class Pipeline<T> implements AutoCloseable {
+  private final Object[] slots;
+  private final int mask;
+  private final WaitStrategy waitStrategy;
+  private final Sequence cursor = new Sequence(-1);
+  private final Sequence last;
+  private final Thread[] threads;
+  // only accessed by the producer
+  private long claimed = -1;
+  private long cachedGate = -1;
+  private volatile boolean closed;
+  private volatile boolean running = true;
+
+  private Pipeline(final Builder<T> builder) {
+    this.slots = new Object[builder.bufferSize];
+    for (int i = 0; i < this.slots.length; i++) {
+      this.slots[i] = requireNonNull(builder.factory.get(), "event");
+    }
+    this.mask = this.slots.length - 1;
+    this.waitStrategy = builder.waitStrategy;
+    this.threads = new Thread[builder.stages.size()];
+    Sequence upstream = this.cursor;
+    for (int i = 0; i < this.threads.length; i++) {
+      final Stage stage = new Stage(builder.stages.get(i), builder.onError, upstream);
+      this.threads[i] = builder.threadFactory.newThread(stage);
+      upstream = stage.sequence;
+    }
+    this.last = upstream;
+    for (final Thread thread : this.threads) {
+      thread.start();
+    }
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @param factory the factory used to preallocate event slots
+   * @param <T> the event type
+   * @return a builder
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Builder<T> builder(final @NotNull Supplier<? extends T> factory) {
+    return new Builder<>(requireNonNull(factory, "factory"));
+  }
+
+  /**
+   * Claims the next slot, fills it with {@code translator} and publishes it to the first stage.
+   *
+   * <p>Waits with the pipeline's wait strategy while the ring is full. The slot is published even if
+   * {@code translator} throws, so stages must tolerate partially filled events.</p>
+   *
+   * @param translator the function writing the event into the slot
+   * @param <E> the exception type
+   * @throws E if {@code translator} throws
+   * @throws IllegalStateException if this pipeline is closed
+   * @since 1.0.0
+   */
+  public <E extends Throwable> void publish(final @NotNull Consumer1E<? super T, ? extends E> translator) throws E {
+    this.checkOpen();
+    final long sequence = this.claimed + 1;
+    final long wrapPoint = sequence - this.slots.length;
+    if (wrapPoint > this.cachedGate) {
+      long gate;
+      int attempt = 0;
+      while (wrapPoint > (gate = this.last.get())) {
+        this.waitStrategy.idle(attempt++);
+        this.checkOpen();
+      }
+      this.cachedGate = gate;
+    }
+    this.write(sequence, translator);
+  }
+
+  /**
+   * Claims the next slot if the ring is not full, fills it with {@code translator} and publishes it to the first stage.
+   *
+   * @param translator the function writing the event into the slot
+   * @param <E> the exception type
+   * @return {@code true} if the event was published, {@code false} if the ring was full
+   * @throws E if {@code translator} throws
+   * @throws IllegalStateException if this pipeline is closed
+   * @since 1.0.0
+   */
+  public <E extends Throwable> boolean tryPublish(final @NotNull Consumer1E<? super T, ? extends E> translator) throws E {
+    this.checkOpen();
+    final long sequence = this.claimed + 1;
+    final long wrapPoint = sequence - this.slots.length;
+    if (wrapPoint > this.cachedGate) {
+      final long gate = this.last.get();
+      if (wrapPoint > gate) {
+        return false;
+      }
+      this.cachedGate = gate;
+    }
+    this.write(sequence, translator);
+    return true;
+  }
+
+  /**
+   * Gets the number of events fully processed by the last stage.
+   *
+   * @return the number of events
+   * @since 1.0.0
+   */
+  public long processed() {
+    return this.last.get() + 1;
+  }
+
+  /**
+   * Stops accepting events, waits for the stages to process every published event, then stops their threads.
+   *
+   * <p>If the calling thread is interrupted while waiting, it keeps waiting and its interrupt status is restored
+   * before returning.</p>
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() {
+    if (this.closed) {
+      return;
+    }
+    this.closed = true;
+    final long published = this.cursor.get();
+    int attempt = 0;
+    while (this.last.get() < published) {
+      this.waitStrategy.idle(attempt++);
+    }
+    this.running = false;
+    boolean interrupted = false;
+    for (final Thread thread : this.threads) {
+      while (true) {
+        try {
+          thread.join();
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private <E extends Throwable> void write(final long sequence, final Consumer1E<? super T, ? extends E> translator) throws E {
+    this.claimed = sequence;
+    try {
+      translator.accept(this.slot(sequence));
+    } finally {
+      this.cursor.set(sequence);
+    }
+  }
+
+  private void checkOpen() {
+    if (this.closed) {
+      throw new IllegalStateException("pipeline is closed");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private T slot(final long sequence) {
+    return (T) this.slots[(int) sequence & this.mask];
+  }
+
+  private final class Stage implements Runnable {
+    final Sequence sequence = new Sequence(-1);
+    private final Consumer1E<? super T, ?> handler;
+    private final BiConsumer<? super T, ? super Throwable> onError;
+    private final Sequence upstream;
+
+    Stage(final Consumer1E<? super T, ?> handler, final BiConsumer<? super T, ? super Throwable> onError, final Sequence upstream) {
+      this.handler = handler;
+      this.onError = onError;
+      this.upstream = upstream;
+    }
+
+    @Override
+    public void run() {
+      long next = 0;
+      int attempt = 0;
+      while (true) {
+        final long available = this.upstream.get();
+        if (available < next) {
+          if (!Pipeline.this.running) {
+            return;
+          }
+          Pipeline.this.waitStrategy.idle(attempt++);
+          continue;
+        }
+        attempt = 0;
+        for (long sequence = next; sequence <= available; sequence++) {
+          final T event = Pipeline.this.slot(sequence);
+          try {
+            this.handler.accept(event);
+          } catch (final Throwable e) {
+            this.report(event, e);
+          }
+        }
+        this.sequence.set(available);
+        next = available + 1;
+      }
+    }
+
+    // the stage must keep advancing its sequence whatever the handler does, or the producer and close() wait forever
+    private void report(final T event, final Throwable error) {
+      try {
+        this.onError.accept(event, error);
+      } catch (final Throwable e) {
+        e.addSuppressed(error);
+        final Thread thread = Thread.currentThread();
+        try {
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        } catch (final Throwable ignored) {
+          // nowhere left to report it
+        }
+      }
+    }
+  }
+
+  /**
+   * A builder for {@link Pipeline}s.
+   *
+   * @param <T> the event type
+   * @since 1.0.0
+   */
+  public static final class Builder<T> {
+    private final Supplier<? extends T> factory;
+    private final List<Consumer1E<? super T, ?>> stages = new ArrayList<>();
+    private BiConsumer<? super T, ? super Throwable> onError = (event, error) -> {
+      final Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+    };
+    private ThreadFactory threadFactory = Threads.daemonThreadFactory("functional-pipeline-");
+    private WaitStrategy waitStrategy = WaitStrategy.PARK;
+    private int bufferSize = 1024;
+
+    private Builder(final Supplier<? extends T> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * Appends a stage, which processes each event after every stage added before it.
+     *
+     * @param stage the stage
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> stage(final @NotNull Consumer1E<? super T, ?> stage) {
+      this.stages.add(requireNonNull(stage, "stage"));
+      return this;
+    }
+
+    /**
+     * Sets the number of event slots in the ring.
+     *
+     * @param bufferSize the number of slots, a power of two
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> bufferSize(final int bufferSize) {
+      if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+        throw new IllegalArgumentException("bufferSize must be a positive power of two: " + bufferSize);
+      }
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Sets how stages wait for events, and the producer for free slots.
+     *
+     * <p>By default, waiting threads {@link WaitStrategy#PARK park}, so that idle stages do not keep a core busy.</p>
+     *
+     * @param waitStrategy the wait strategy
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> waitStrategy(final @NotNull WaitStrategy waitStrategy) {
+      this.waitStrategy = requireNonNull(waitStrategy, "waitStrategy");
+      return this;
+    }
+
+    /**
+     * Sets the factory for the threads running the stages, one per stage.
+     *
+     * <p>By default, stages run on daemon platform threads.</p>
+     *
+     * @param threadFactory the thread factory
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> threadFactory(final @NotNull ThreadFactory threadFactory) {
+      this.threadFactory = requireNonNull(threadFactory, "threadFactory");
+      return this;
+    }
+
+    /**
+     * Sets the handler for exceptions thrown by stages.
+     *
+     * <p>By default, exceptions are passed to the uncaught exception handler of the stage's thread. The event still
+     * moves on to the next stage either way; an exception thrown by the handler itself is passed to the uncaught
+     * exception handler.</p>
+     *
+     * @param onError the handler
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> onError(final @NotNull BiConsumer<? super T, ? super Throwable> onError) {
+      this.onError = requireNonNull(onError, "onError");
+      return this;
+    }
+
+    /**
+     * Builds the pipeline and starts its stages.
+     *
+     * @return a pipeline
+     * @throws IllegalStateException if no stage was added
+     * @since 1.0.0
+     */
+    public @NotNull Pipeline<T> build() {
+      if (this.stages.isEmpty()) {
+        throw new IllegalStateException("a pipeline needs at least one stage");
+      }
+      return new Pipeline<>(this);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// A sequence number on its own cache line: the value sits in the middle of an array wide enough that no
+// other hot field shares a 64-byte line with it.
+final class Sequence {
+  private static final int PADDING = 7;
+  private final AtomicLongArray cells = new AtomicLongArray(PADDING * 2 + 1);
+
+  Sequence(final long initial) {
+    this.cells.set(PADDING, initial);
+  }
+
+  long get() {
+    return this.cells.getAcquire(PADDING);
+  }
+
+  void set(final long value) {
+    this.cells.setRelease(PADDING, value);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BinaryOperator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A value accumulated with an associative and commutative function, spread over several cells so that concurrent
+ * updates rarely contend.
+ *
+ * <p>Reading the value combines all cells, so this type suits values that are updated much more often than they
+ * are read, such as counters, sums or sets of observed items.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ * @see Atom#striped(Object, BinaryOperator)
+ */
+public final class StripedAtom<T> {
+  private static final int MAX_STRIPES = 64;
+  // cells are spaced this many slots apart, at least a 64-byte cache line even with compressed references, so
+  // that updates to neighbouring cells do not contend on the same line
+  private static final int SPACING = 16;
+  private final T identity;
+  private final BinaryOperator<T> combiner;
+  private final AtomicReferenceArray<T> cells;
+  private final int stripes;
+  private final int mask;
+
+  StripedAtom(final T identity, final BinaryOperator<T> combiner) {
+    this.identity = identity;
+    this.combiner = combiner;
+    final int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+    final int count = Integer.highestOneBit(processors) == processors ? processors : Integer.highestOneBit(processors) << 1;
+    // padding before the first and after the last cell keeps them off the lines of the array header and neighbours
+    this.cells = new AtomicReferenceArray<>((count + 1) * SPACING + 1);
+    for (int i = 0; i < count; i++) {
+      this.cells.set(cell(i), identity);
+    }
+    this.stripes = count;
+    this.mask = count - 1;
+  }
+
+  /**
+   * Combines {@code value} into this atom.
+   *
+   * @param value the value
+   * @since 1.0.0
+   */
+  public void accumulate(final @NotNull T value) {
+    int index = (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32);
+    for (int attempt = 0; ; attempt++) {
+      final int cell = cell(index & this.mask);
+      final T current = this.cells.get(cell);
+      if (this.cells.compareAndSet(cell, current, this.combiner.apply(current, value))) {
+        return;
+      }
+      // contended: move to another cell before trying again
+      index += attempt + 1;
+      Atom.backoff(attempt);
+    }
+  }
+
+  /**
+   * Gets the combined value of all cells.
+   *
+   * <p>Updates made concurrently with this method may or may not be included.</p>
+   *
+   * @return the value
+   * @since 1.0.0
+   */
+  public @NotNull T get() {
+    T value = this.identity;
+    for (int i = 0; i < this.stripes; i++) {
+      value = this.combiner.apply(value, this.cells.get(cell(i)));
+    }
+    return value;
+  }
+
+  /**
+   * Gets the combined value of all cells, resetting each cell to the identity.
+   *
+   * <p>Updates made concurrently with this method are either included in the returned value or kept for later.</p>
+   *
+   * @return the value
+   * @since 1.0.0
+   */
+  public @NotNull T getAndReset() {
+    T value = this.identity;
+    for (int i = 0; i < this.stripes; i++) {
+      value = this.combiner.apply(value, this.cells.getAndSet(cell(i), this.identity));
+    }
+    return value;
+  }
+
+  private static int cell(final int stripe) {
+    return (stripe + 1) * SPACING;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How the stages of a {@link Pipeline} wait for events, and its producer for free slots.
+ *
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+  /**
+   * Spins continuously, for the lowest latency at the cost of a fully busy core per waiting thread.
+   *
+   * @since 1.0.0
+   */
+  BUSY_SPIN {
+    @Override
+    void idle(final int attempt) {
+      Thread.onSpinWait();
+    }
+  },
+  /**
+   * Spins briefly, then yields the processor to other threads.
+   *
+   * @since 1.0.0
+   */
+  YIELD {
+    @Override
+    void idle(final int attempt) {
+      if (attempt < SPIN_TRIES) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+    }
+  },
+  /**
+   * Spins briefly, then parks for short periods, trading latency for idle CPU usage.
+   *
+   * @since 1.0.0
+   */
+  PARK {
+    @Override
+    void idle(final int attempt) {
+      if (attempt < SPIN_TRIES) {
+        Thread.onSpinWait();
+      } else {
+        LockSupport.parkNanos(PARK_NANOS);
+      }
+    }
+  };
+
+  private static final int SPIN_TRIES = 100;
+  private static final long PARK_NANOS = 50_000;
+
+  abstract void idle(final int attempt);
+}
@@ -0,0 +1,238 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.effect;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import java.util.ArrayDeque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A running {@link IO} computation.
+ *
+ * @param <E> the error type
+ * @param <A> the value type
+ * @since 1.0.0
+ */
+public final class Fiber<E, A> {
+  private static final int YIELD_INTERVAL = 1024;
+  private static final IO<?, ?> RESUME_UNIT = new Pure<>(Unit.INSTANCE);
+  private static final Runnable CANCELLED = () -> { };
+  private final Scheduler scheduler;
+  private final CompletableFuture<Either<E, A>> outcome = new CompletableFuture<>();
+  private final ArrayDeque<Bind<?, ?, ?, ?>> stack = new ArrayDeque<>();
+  private final Runnable step = this::step;
+  // only accessed by the carrier currently running this fiber, handed over through the scheduler
+  private @Nullable IO<?, ?> current;
+  private volatile boolean cancelled;
+  // releases the asynchronous operation this fiber is suspended on, or CANCELLED once this fiber has been cancelled
+  private final AtomicReference<@Nullable Runnable> onCancel = new AtomicReference<>();
+
+  Fiber(final IO<E, A> io, final Scheduler scheduler) {
+    this.current = io;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Creates a computation that waits for this fiber to complete, without blocking a carrier thread.
+   *
+   * <p>If this fiber is cancelled, or aborts with a defect, the joining fiber aborts with the same defect.</p>
+   *
+   * @return a computation
+   * @since 1.0.0
+   */
+  public @NotNull IO<E, A> join() {
+    return new Async<>((fiber, callback) -> this.onComplete(callback));
+  }
+
+  /**
+   * Blocks the calling thread until this fiber completes.
+   *
+   * @return the outcome
+   * @throws CancellationException if this fiber was cancelled
+   * @throws InterruptedException if interrupted while waiting
+   * @since 1.0.0
+   */
+  public @NotNull Either<E, A> await() throws InterruptedException {
+    try {
+      return this.outcome.get();
+    } catch (final ExecutionException e) {
+      final Throwable defect = e.getCause();
+      if (defect instanceof RuntimeException runtime) {
+        throw runtime;
+      } else if (defect instanceof Error error) {
+        throw error;
+      }
+      throw new CompletionException(defect);
+    }
+  }
+
+  /**
+   * Cancels this fiber.
+   *
+   * <p>A running fiber stops at its next step, and a suspended fiber releases what it is waiting on, such as a
+   * pending {@link IO#sleep(java.time.Duration) sleep} or the fibers started by {@link IO#race(IO, IO) race}. Cancelling a
+   * completed fiber has no effect.</p>
+   *
+   * @since 1.0.0
+   */
+  public void cancel() {
+    this.cancelled = true;
+    this.outcome.completeExceptionally(new CancellationException("fiber cancelled"));
+    final Runnable hook = this.onCancel.getAndSet(CANCELLED);
+    if (hook != null) {
+      hook.run();
+    }
+  }
+
+  /**
+   * Checks if this fiber has completed, successfully or not.
+   *
+   * @return {@code true} if this fiber has completed
+   * @since 1.0.0
+   */
+  public boolean isDone() {
+    return this.outcome.isDone();
+  }
+
+  Scheduler scheduler() {
+    return this.scheduler;
+  }
+
+  void start() {
+    this.scheduler.execute(this.step);
+  }
+
+  // registers the action releasing the asynchronous operation this fiber is about to suspend on
+  void onCancel(final Runnable hook) {
+    final Runnable previous = this.onCancel.getAndUpdate(current -> current == CANCELLED ? CANCELLED : hook);
+    if (previous == CANCELLED) {
+      hook.run();
+    }
+  }
+
+  void onComplete(final Callback<E, A> callback) {
+    this.outcome.whenComplete(callback::complete);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"}) // the run loop is untyped; the types are enforced by the IO constructors
+  private void step() {
+    IO io = this.current;
+    this.current = null;
+    int budget = YIELD_INTERVAL;
+    try {
+      while (io != null) {
+        if (this.cancelled) {
+          return;
+        }
+        if (--budget == 0) {
+          this.suspend(io);
+          return;
+        }
+        if (io instanceof Pure pure) {
+          io = this.succeed(pure.value());
+        } else if (io instanceof Fail fail) {
+          io = this.fail(fail.error());
+        } else if (io instanceof Delay delay) {
+          final Object value;
+          try {
+            value = delay.thunk().get();
+          } catch (final RuntimeException | Error e) {
+            throw e;
+          } catch (final Throwable e) {
+            io = this.fail(e);
+            continue;
+          }
+          io = this.succeed(value);
+        } else if (io instanceof Bind bind) {
+          this.stack.push(bind);
+          io = bind.source();
+        } else if (io instanceof Fork fork) {
+          final Fiber<?, ?> child = new Fiber<>(fork.io(), this.scheduler);
+          child.start();
+          io = this.succeed(child);
+        } else if (io instanceof Yield) {
+          this.suspend(RESUME_UNIT);
+          return;
+        } else if (io instanceof Async async) {
+          async.register().accept(this, (Callback) this::resume);
+          return;
+        } else {
+          throw new IllegalStateException("Unknown IO: " + io);
+        }
+      }
+    } catch (final Throwable defect) {
+      this.outcome.completeExceptionally(defect);
+    }
+  }
+
+  private void suspend(final IO<?, ?> next) {
+    this.current = next;
+    this.scheduler.execute(this.step);
+  }
+
+  private void resume(final @Nullable Either<?, ?> result, final @Nullable Throwable defect) {
+    this.onCancel.getAndUpdate(current -> current == CANCELLED ? CANCELLED : null);
+    if (this.outcome.isDone()) {
+      return;
+    }
+    if (result == null) {
+      this.outcome.completeExceptionally(defect != null ? defect : new NullPointerException("result"));
+      return;
+    }
+    this.suspend(result.fold(Fail::new, Pure::new));
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private @Nullable IO<?, ?> succeed(final Object value) {
+    Bind bind;
+    do {
+      bind = this.stack.poll();
+      if (bind == null) {
+        this.outcome.complete(Either.right((A) value));
+        return null;
+      }
+    } while (bind.onSuccess() == null);
+    return (IO<?, ?>) bind.onSuccess().apply(value);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private @Nullable IO<?, ?> fail(final Object error) {
+    Bind bind;
+    do {
+      bind = this.stack.poll();
+      if (bind == null) {
+        this.outcome.complete(Either.left((E) error));
+        return null;
+      }
+    } while (bind.onFailure() == null);
+    return (IO<?, ?>) bind.onFailure().apply(error);
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.effect;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.RunnableE;
+import com.seiama.functional.function.exceptional.SupplierE;
+import com.seiama.functional.internal.Threads;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A description of a computation that either fails with an error of type {@code E} or succeeds with a value of type {@code A}.
+ *
+ * <p>Nothing happens until the computation is {@link #start(Scheduler) started} on a {@link Scheduler}, where it runs as a
+ * {@link Fiber}. Chains of {@link #flatMap(Function)} are interpreted iteratively, so arbitrarily long chains do not
+ * grow the call stack.</p>
+ *
+ * <p>Exceptions thrown by functions passed to the combinators of this type, as well as unchecked exceptions thrown by
+ * {@link #attempt(SupplierE)} and {@link #attempt(RunnableE)}, are treated as defects: they abort the fiber rather than
+ * being turned into an error value.</p>
+ *
+ * @param <E> the error type
+ * @param <A> the value type
+ * @since 1.0.0
+ */
+public sealed interface IO<E, A> permits Async, Bind, Delay, Fail, Fork, Pure, Yield {
+  /**
+   * Creates a computation that succeeds with {@code value}.
+   *
+   * @param value the value
+   * @param <E> the error type
+   * @param <A> the value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E, A> @NotNull IO<E, A> pure(final @NotNull A value) {
+    return new Pure<>(requireNonNull(value, "value"));
+  }
+
+  /**
+   * Creates a computation that succeeds with {@link Unit#INSTANCE}.
+   *
+   * @param <E> the error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E> @NotNull IO<E, Unit> unit() {
+    return pure(Unit.INSTANCE);
+  }
+
+  /**
+   * Creates a computation that fails with {@code error}.
+   *
+   * @param error the error
+   * @param <E> the error type
+   * @param <A> the value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E, A> @NotNull IO<E, A> fail(final @NotNull E error) {
+    return new Fail<>(requireNonNull(error, "error"));
+  }
+
+  /**
+   * Creates a computation that invokes {@code action} when run, failing with any checked exception it throws.
+   *
+   * @param action the action
+   * @param <E> the error type
+   * @param <A> the value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E extends Throwable, A> @NotNull IO<E, A> attempt(final @NotNull SupplierE<? extends A, ? extends E> action) {
+    return new Delay<>(requireNonNull(action, "action"));
+  }
+
+  /**
+   * Creates a computation that invokes {@code action} when run, failing with any checked exception it throws.
+   *
+   * @param action the action
+   * @param <E> the error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E extends Throwable> @NotNull IO<E, Unit> attempt(final @NotNull RunnableE<? extends E> action) {
+    requireNonNull(action, "action");
+    return new Delay<>(() -> {
+      action.run();
+      return Unit.INSTANCE;
+    });
+  }
+
+  /**
+   * Creates a computation that defers the creation of another computation until it is run.
+   *
+   * @param supplier the computation supplier
+   * @param <E> the error type
+   * @param <A> the value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E, A> @NotNull IO<E, A> defer(final @NotNull Supplier<? extends IO<E, A>> supplier) {
+    requireNonNull(supplier, "supplier");
+    return IO.<E>unit().flatMap(unit -> supplier.get());
+  }
+
+  /**
+   * Creates a computation that gives up its carrier thread, allowing other fibers to run before it resumes.
+   *
+   * <p>Long running fibers also yield automatically after a fixed number of steps.</p>
+   *
+   * @param <E> the error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E> @NotNull IO<E, Unit> yieldNow() {
+    return new Yield<>();
+  }
+
+  /**
+   * Creates a computation that completes after {@code duration} without blocking a carrier thread.
+   *
+   * @param duration the duration
+   * @param <E> the error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E> @NotNull IO<E, Unit> sleep(final @NotNull Duration duration) {
+    final long nanos = duration.toNanos();
+    return new Async<>((fiber, callback) -> {
+      // the hook is registered before the timer can fire and resume the fiber, which could then suspend again and
+      // have its next hook overwritten by this one
+      final CompletableFuture<ScheduledFuture<?>> timer = new CompletableFuture<>();
+      fiber.onCancel(() -> timer.thenAccept(scheduled -> scheduled.cancel(false)));
+      timer.complete(Threads.timer().schedule(() -> callback.complete(Either.right(Unit.INSTANCE), null), nanos, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  /**
+   * Creates a computation that runs {@code left} and {@code right} concurrently, completing with the outcome of whichever completes first.
+   *
+   * <p>The losing computation is cancelled, and both are cancelled if the racing fiber is.</p>
+   *
+   * @param left the left computation
+   * @param right the right computation
+   * @param <E> the error type
+   * @param <A> the left value type
+   * @param <B> the right value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  static <E, A, B> @NotNull IO<E, Either<A, B>> race(final @NotNull IO<E, A> left, final @NotNull IO<E, B> right) {
+    requireNonNull(left, "left");
+    requireNonNull(right, "right");
+    return new Async<>((fiber, callback) -> {
+      final Fiber<E, A> l = new Fiber<>(left, fiber.scheduler());
+      final Fiber<E, B> r = new Fiber<>(right, fiber.scheduler());
+      final AtomicBoolean decided = new AtomicBoolean();
+      fiber.onCancel(() -> {
+        l.cancel();
+        r.cancel();
+      });
+      l.onComplete((result, defect) -> {
+        if (decided.compareAndSet(false, true)) {
+          r.cancel();
+          callback.complete(result != null ? result.mapRight(Either::left) : null, defect);
+        }
+      });
+      r.onComplete((result, defect) -> {
+        if (decided.compareAndSet(false, true)) {
+          l.cancel();
+          callback.complete(result != null ? result.mapRight(Either::right) : null, defect);
+        }
+      });
+      l.start();
+      r.start();
+    });
+  }
+
+  /**
+   * Creates a computation that applies {@code fn} to the value of this computation.
+   *
+   * @param fn the function
+   * @param <B> the new value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  default <B> @NotNull IO<E, B> map(final @NotNull Function<? super A, ? extends B> fn) {
+    requireNonNull(fn, "fn");
+    return this.flatMap(value -> new Pure<>(fn.apply(value)));
+  }
+
+  /**
+   * Creates a computation that continues with the computation returned by {@code fn} once this computation succeeds.
+   *
+   * @param fn the function
+   * @param <B> the new value type
+   * @return a computation
+   * @since 1.0.0
+   */
+  default <B> @NotNull IO<E, B> flatMap(final @NotNull Function<? super A, ? extends IO<E, B>> fn) {
+    return new Bind<>(this, requireNonNull(fn, "fn"), null);
+  }
+
+  /**
+   * Creates a computation that applies {@code fn} to the error of this computation.
+   *
+   * @param fn the function
+   * @param <E2> the new error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  default <E2> @NotNull IO<E2, A> mapError(final @NotNull Function<? super E, ? extends E2> fn) {
+    requireNonNull(fn, "fn");
+    return this.recover(error -> new Fail<>(fn.apply(error)));
+  }
+
+  /**
+   * Creates a computation that continues with the computation returned by {@code fn} if this computation fails.
+   *
+   * @param fn the function
+   * @param <E2> the new error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  default <E2> @NotNull IO<E2, A> recover(final @NotNull Function<? super E, ? extends IO<E2, A>> fn) {
+    return new Bind<>(this, null, requireNonNull(fn, "fn"));
+  }
+
+  /**
+   * Creates a computation that succeeds with the outcome of this computation.
+   *
+   * @param <E2> the new error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  default <E2> @NotNull IO<E2, Either<E, A>> attempt() {
+    return new Bind<>(this, value -> new Pure<>(Either.right(value)), error -> new Pure<>(Either.left(error)));
+  }
+
+  /**
+   * Creates a computation that starts this computation as a new fiber on the current scheduler.
+   *
+   * @param <E2> the error type
+   * @return a computation
+   * @since 1.0.0
+   */
+  default <E2> @NotNull IO<E2, Fiber<E, A>> fork() {
+    return new Fork<>(this);
+  }
+
+  /**
+   * Creates a computation that fails with the error supplied by {@code onTimeout} if this computation does not complete within {@code duration}.
+   *
+   * @param duration the duration
+   * @param onTimeout the error supplier
+   * @return a computation
+   * @since 1.0.0
+   */
+  default @NotNull IO<E, A> timeout(final @NotNull Duration duration, final @NotNull Supplier<? extends E> onTimeout) {
+    requireNonNull(onTimeout, "onTimeout");
+    return race(this, IO.<E>sleep(duration)).flatMap(result -> result.fold(IO::pure, unit -> new Fail<>(onTimeout.get())));
+  }
+
+  /**
+   * Starts this computation as a new fiber on {@code scheduler}.
+   *
+   * @param scheduler the scheduler
+   * @return the fiber
+   * @since 1.0.0
+   */
+  default @NotNull Fiber<E, A> start(final @NotNull Scheduler scheduler) {
+    final Fiber<E, A> fiber = new Fiber<>(this, requireNonNull(scheduler, "scheduler"));
+    fiber.start();
+    return fiber;
+  }
+
+  /**
+   * Runs this computation on {@code scheduler}, blocking until it completes.
+   *
+   * @param scheduler the scheduler
+   * @return the outcome
+   * @throws InterruptedException if interrupted while waiting
+   * @since 1.0.0
+   */
+  default @NotNull Either<E, A> run(final @NotNull Scheduler scheduler) throws InterruptedException {
+    return this.start(scheduler).await();
+  }
+
+  /**
+   * Runs this computation on the {@link Scheduler#defaultScheduler() default scheduler}, blocking until it completes.
+   *
+   * @return the outcome
+   * @throws InterruptedException if interrupted while waiting
+   * @since 1.0.0
+   */
+  default @NotNull Either<E, A> run() throws InterruptedException {
+    return this.run(Scheduler.defaultScheduler());
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.effect;
+
+import com.seiama.functional.internal.Threads;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps fibers onto carrier threads.
+ *
+ * @since 1.0.0
+ */
+public final class Scheduler implements AutoCloseable {
+  private final Executor executor;
+  private final @Nullable ExecutorService owned;
+
+  private Scheduler(final Executor executor, final @Nullable ExecutorService owned) {
+    this.executor = executor;
+    this.owned = owned;
+  }
+
+  /**
+   * Gets the default scheduler, which runs fibers on virtual threads when available.
+   *
+   * @return the default scheduler
+   * @since 1.0.0
+   */
+  public static @NotNull Scheduler defaultScheduler() {
+    return Default.INSTANCE;
+  }
+
+  /**
+   * Creates a scheduler that runs each fiber step on a new virtual thread when available, or on reused daemon threads otherwise.
+   *
+   * @return a scheduler
+   * @since 1.0.0
+   */
+  public static @NotNull Scheduler virtualThreads() {
+    final ExecutorService executor = Threads.perTaskExecutor("functional-fiber-");
+    return new Scheduler(executor, executor);
+  }
+
+  /**
+   * Creates a scheduler that multiplexes fibers over a fixed number of carrier threads.
+   *
+   * @param carriers the number of carrier threads
+   * @return a scheduler
+   * @since 1.0.0
+   */
+  public static @NotNull Scheduler bounded(final int carriers) {
+    if (carriers < 1) {
+      throw new IllegalArgumentException("carriers must be positive: " + carriers);
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(carriers, Threads.daemonThreadFactory("functional-carrier-"));
+    return new Scheduler(executor, executor);
+  }
+
+  /**
+   * Creates a scheduler that runs fibers on {@code executor}.
+   *
+   * <p>Closing the returned scheduler does not shut down {@code executor}.</p>
+   *
+   * @param executor the executor
+   * @return a scheduler
+   * @since 1.0.0
+   */
+  public static @NotNull Scheduler of(final @NotNull Executor executor) {
+    return new Scheduler(requireNonNull(executor, "executor"), null);
+  }
+
+  void execute(final Runnable task) {
+    this.executor.execute(task);
+  }
+
+  /**
+   * Shuts down the carrier threads owned by this scheduler.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() {
+    if (this.owned != null) {
+      this.owned.shutdown();
+    }
+  }
+
+  private static final class Default {
+    static final Scheduler INSTANCE = virtualThreads();
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.flow;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Function1E;
+import com.seiama.functional.internal.SpscArrayQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A processor that maps each item to an {@link Either}, publishing right values downstream and handing left values
+ * to a side consumer, so that errors travel next to the stream instead of terminating it.
+ *
+ * <p>Upstream demand is requested in batches: {@code prefetch} items up front, then three quarters of
+ * {@code prefetch} at a time as items are consumed. Left values are consumed without downstream demand.</p>
+ *
+ * <p>The mapping function runs on the thread delivering upstream items. The left consumer and the downstream
+ * subscriber are called serially, but not necessarily on the same thread. Exceptions thrown by the mapping function
+ * or the left consumer are treated as defects: upstream is cancelled and the exception is signalled downstream.</p>
+ *
+ * <p>This processor supports a single subscriber.</p>
+ *
+ * @param <T> the upstream item type
+ * @param <L> the left type
+ * @param <R> the right type
+ * @since 1.0.0
+ */
+public final class EitherProcessor<T, L, R> implements Flow.Processor<T, R> {
+  private static final int DEFAULT_PREFETCH = 256;
+  private final Function<? super T, ? extends Either<? extends L, ? extends R>> fn;
+  private final Consumer<? super L> lefts;
+  private final int prefetch;
+  private final int limit;
+  private final SpscArrayQueue<Either<? extends L, ? extends R>> queue;
+  private final AtomicInteger wip = new AtomicInteger();
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicReference<Flow.@Nullable Subscriber<? super R>> downstream = new AtomicReference<>();
+  private volatile Flow.@Nullable Subscription upstream;
+  private volatile boolean done;
+  private volatile @Nullable Throwable error;
+  private volatile @Nullable Throwable defect;
+  private volatile boolean failed;
+  private volatile boolean cancelled;
+  // only accessed by the drain loop
+  private boolean primed;
+  private boolean upstreamCancelled;
+  private int consumed;
+  private boolean terminated;
+
+  private EitherProcessor(final Function<? super T, ? extends Either<? extends L, ? extends R>> fn, final Consumer<? super L> lefts, final int prefetch) {
+    if (prefetch < 1) {
+      throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+    }
+    this.fn = fn;
+    this.lefts = lefts;
+    this.prefetch = prefetch;
+    this.limit = prefetch - (prefetch >> 2);
+    this.queue = new SpscArrayQueue<>(prefetch);
+  }
+
+  /**
+   * Creates a processor that publishes right values downstream and hands left values to {@code lefts}.
+   *
+   * @param lefts the left value consumer
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a processor
+   * @since 1.0.0
+   */
+  public static <L, R> @NotNull EitherProcessor<Either<L, R>, L, R> split(final @NotNull Consumer<? super L> lefts) {
+    return route(Function.identity(), lefts);
+  }
+
+  /**
+   * Creates a processor that maps each item with {@code fn}, publishing right values downstream and handing left values to {@code lefts}.
+   *
+   * @param fn the mapping function
+   * @param lefts the left value consumer
+   * @param <T> the upstream item type
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a processor
+   * @since 1.0.0
+   */
+  public static <T, L, R> @NotNull EitherProcessor<T, L, R> route(final @NotNull Function<? super T, ? extends Either<? extends L, ? extends R>> fn, final @NotNull Consumer<? super L> lefts) {
+    return route(fn, lefts, DEFAULT_PREFETCH);
+  }
+
+  /**
+   * Creates a processor that maps each item with {@code fn}, publishing right values downstream and handing left values to {@code lefts}.
+   *
+   * @param fn the mapping function
+   * @param lefts the left value consumer
+   * @param prefetch the number of items to request from upstream in advance
+   * @param <T> the upstream item type
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a processor
+   * @since 1.0.0
+   */
+  public static <T, L, R> @NotNull EitherProcessor<T, L, R> route(final @NotNull Function<? super T, ? extends Either<? extends L, ? extends R>> fn, final @NotNull Consumer<? super L> lefts, final int prefetch) {
+    return new EitherProcessor<>(requireNonNull(fn, "fn"), requireNonNull(lefts, "lefts"), prefetch);
+  }
+
+  /**
+   * Creates a processor that maps each item with {@code fn}, publishing results downstream and handing checked exceptions to {@code errors}.
+   *
+   * <p>Unchecked exceptions thrown by {@code fn} are treated as defects.</p>
+   *
+   * @param fn the mapping function
+   * @param errors the exception consumer
+   * @param <T> the upstream item type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a processor
+   * @since 1.0.0
+   */
+  public static <T, R, E extends Throwable> @NotNull EitherProcessor<T, E, R> attempt(final @NotNull Function1E<? super T, ? extends R, ? extends E> fn, final @NotNull Consumer<? super E> errors) {
+    return attempt(fn, errors, DEFAULT_PREFETCH);
+  }
+
+  /**
+   * Creates a processor that maps each item with {@code fn}, publishing results downstream and handing checked exceptions to {@code errors}.
+   *
+   * <p>Unchecked exceptions thrown by {@code fn} are treated as defects.</p>
+   *
+   * @param fn the mapping function
+   * @param errors the exception consumer
+   * @param prefetch the number of items to request from upstream in advance
+   * @param <T> the upstream item type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a processor
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // fn may only throw E or unchecked exceptions
+  public static <T, R, E extends Throwable> @NotNull EitherProcessor<T, E, R> attempt(final @NotNull Function1E<? super T, ? extends R, ? extends E> fn, final @NotNull Consumer<? super E> errors, final int prefetch) {
+    requireNonNull(fn, "fn");
+    return route(item -> {
+      final R result;
+      try {
+        result = fn.apply(item);
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        return Either.left((E) e);
+      }
+      return Either.right(result);
+    }, errors, prefetch);
+  }
+
+  @Override
+  public void subscribe(final Flow.@NotNull Subscriber<? super R> subscriber) {
+    requireNonNull(subscriber, "subscriber");
+    if (!this.downstream.compareAndSet(null, subscriber)) {
+      subscriber.onSubscribe(Cancelled.INSTANCE);
+      subscriber.onError(new IllegalStateException("EitherProcessor allows only a single subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(new Downstream());
+    this.drain();
+  }
+
+  @Override
+  public void onSubscribe(final Flow.@NotNull Subscription subscription) {
+    requireNonNull(subscription, "subscription");
+    if (this.upstream != null) {
+      subscription.cancel();
+      return;
+    }
+    this.upstream = subscription;
+    this.drain();
+  }
+
+  @Override
+  public void onNext(final @NotNull T item) {
+    if (this.done) {
+      return;
+    }
+    final Either<? extends L, ? extends R> result;
+    try {
+      result = requireNonNull(this.fn.apply(requireNonNull(item, "item")), "fn returned null");
+    } catch (final Throwable e) {
+      this.fail(e);
+      return;
+    }
+    if (!this.queue.offer(result)) {
+      this.fail(new IllegalStateException("upstream delivered more items than requested"));
+      return;
+    }
+    this.drain();
+  }
+
+  @Override
+  public void onError(final @NotNull Throwable throwable) {
+    if (this.done) {
+      return;
+    }
+    this.error = requireNonNull(throwable, "throwable");
+    this.done = true;
+    this.drain();
+  }
+
+  @Override
+  public void onComplete() {
+    if (this.done) {
+      return;
+    }
+    this.done = true;
+    this.drain();
+  }
+
+  // items queued before the failure are still delivered, but upstream is cancelled right away
+  private void fail(final Throwable error) {
+    this.error = error;
+    this.failed = true;
+    this.done = true;
+    this.drain();
+  }
+
+  private void drain() {
+    if (this.wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      this.drainLoop();
+      missed = this.wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void drainLoop() {
+    final Flow.Subscription upstream = this.upstream;
+    if (this.terminated || upstream == null) {
+      return;
+    }
+    if (this.cancelled) {
+      this.terminated = true;
+      upstream.cancel();
+      this.queue.clear();
+      return;
+    }
+    if (this.failed) {
+      if (!this.upstreamCancelled) {
+        this.upstreamCancelled = true;
+        upstream.cancel();
+      }
+    } else if (!this.primed) {
+      this.primed = true;
+      upstream.request(this.prefetch);
+    }
+    final Flow.Subscriber<? super R> downstream = this.downstream.get();
+    final long requested = downstream == null ? 0 : this.requested.get();
+    final Consumer<? super R> emit = downstream == null ? null : downstream::onNext;
+    long emitted = 0;
+    while (true) {
+      if (this.cancelled) {
+        return;
+      }
+      final Throwable defect = this.defect;
+      if (defect != null) {
+        this.terminate(upstream, downstream, defect, true);
+        return;
+      }
+      final Either<? extends L, ? extends R> head = this.queue.peek();
+      if (head == null) {
+        if (this.done) {
+          this.terminate(upstream, downstream, this.error, this.failed);
+        }
+        break;
+      }
+      final boolean left = head.fold(value -> true, value -> false);
+      if (!left && emitted == requested) {
+        break;
+      }
+      this.queue.poll();
+      if (left) {
+        try {
+          head.ifLeft(this.lefts);
+        } catch (final Throwable e) {
+          this.defect = e;
+          continue;
+        }
+      } else {
+        head.ifRight(requireNonNull(emit));
+        emitted++;
+      }
+      if (++this.consumed == this.limit && !this.upstreamCancelled) {
+        this.consumed = 0;
+        upstream.request(this.limit);
+      }
+    }
+    if (emitted != 0 && requested != Long.MAX_VALUE) {
+      this.requested.addAndGet(-emitted);
+    }
+  }
+
+  private void terminate(final Flow.Subscription upstream, final Flow.@Nullable Subscriber<? super R> downstream, final @Nullable Throwable error, final boolean cancelUpstream) {
+    if (downstream == null) {
+      // wait for a subscriber to signal the terminal event to
+      return;
+    }
+    this.terminated = true;
+    this.queue.clear();
+    if (cancelUpstream && !this.upstreamCancelled) {
+      this.upstreamCancelled = true;
+      upstream.cancel();
+    }
+    if (error != null) {
+      downstream.onError(error);
+    } else {
+      downstream.onComplete();
+    }
+  }
+
+  private final class Downstream implements Flow.Subscription {
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        EitherProcessor.this.defect = new IllegalArgumentException("non-positive request: " + n);
+      } else {
+        EitherProcessor.this.requested.getAndAccumulate(n, (current, add) -> {
+          final long sum = current + add;
+          return sum < 0 ? Long.MAX_VALUE : sum;
+        });
+      }
+      EitherProcessor.this.drain();
+    }
+
+    @Override
+    public void cancel() {
+      EitherProcessor.this.cancelled = true;
+      EitherProcessor.this.drain();
+    }
+  }
+
+  private enum Cancelled implements Flow.Subscription {
+    INSTANCE;
+
+    @Override
+    public void request(final long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+  }
+}
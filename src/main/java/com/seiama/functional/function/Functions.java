@@ -0,0 +1,286 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.function;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binds methods discovered at runtime to functional interfaces such as {@link Function3} or
+ * {@link com.seiama.functional.function.exceptional.Function2E Function2E}.
+ *
+ * <p>Binding uses {@link LambdaMetafactory} to spin a class implementing the interface that calls the method
+ * directly, the same way the compiler does for a method reference, so calls through the interface avoid the
+ * reflection and argument arrays of {@link Method#invoke(Object, Object...)}. Primitive parameters and results are
+ * boxed and unboxed only where the interface's generic signature requires it. Spun classes are cached per caller,
+ * method and interface.</p>
+ *
+ * <p>Instance methods take their receiver as the first argument of the interface, unless it is bound up front with
+ * {@link #bind(MethodHandles.Lookup, Method, Object, Class)}. The lookup must have full privilege access, as
+ * {@link MethodHandles#lookup()} has, and must be able to access both the method and the interface.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Functions {
+  // keyed by caller, so a cache entry never outlives the class that spun it, nor pins its class loader
+  private static final ClassValue<Map<Key, MethodHandle>> FACTORIES = new ClassValue<>() {
+    @Override
+    protected Map<Key, MethodHandle> computeValue(final Class<?> caller) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private Functions() {
+  }
+
+  /**
+   * Binds {@code method} to an implementation of {@code type}.
+   *
+   * @param lookup the lookup
+   * @param method the method
+   * @param type the functional interface
+   * @param <F> the functional interface type
+   * @return an implementation of {@code type}
+   * @throws IllegalArgumentException if the method cannot be accessed, or does not fit the interface
+   * @since 1.0.0
+   */
+  public static <F> @NotNull F bind(final MethodHandles.@NotNull Lookup lookup, final @NotNull Method method, final @NotNull Class<F> type) {
+    requireNonNull(lookup, "lookup");
+    requireNonNull(method, "method");
+    requireNonNull(type, "type");
+    return create(factory(lookup, method, type, false), type, null);
+  }
+
+  /**
+   * Binds instance method {@code method} on {@code receiver} to an implementation of {@code type}.
+   *
+   * @param lookup the lookup
+   * @param method the method
+   * @param receiver the receiver
+   * @param type the functional interface
+   * @param <F> the functional interface type
+   * @return an implementation of {@code type}
+   * @throws IllegalArgumentException if the method cannot be accessed, is static, or does not fit the interface
+   * @since 1.0.0
+   */
+  public static <F> @NotNull F bind(final MethodHandles.@NotNull Lookup lookup, final @NotNull Method method, final @NotNull Object receiver, final @NotNull Class<F> type) {
+    requireNonNull(lookup, "lookup");
+    requireNonNull(method, "method");
+    requireNonNull(type, "type");
+    if (Modifier.isStatic(method.getModifiers())) {
+      throw new IllegalArgumentException(method + " is static");
+    }
+    if (!method.getDeclaringClass().isInstance(requireNonNull(receiver, "receiver"))) {
+      throw new IllegalArgumentException(receiver.getClass().getName() + " does not declare " + method);
+    }
+    return create(factory(lookup, method, type, true), type, receiver);
+  }
+
+  /**
+   * Binds the method or constructor behind {@code handle} to an implementation of {@code type}.
+   *
+   * <p>Handles that are not {@link MethodHandles.Lookup#revealDirect(MethodHandle) direct}, such as adapted or bound
+   * handles, cannot be spun into a class and are wrapped with {@link MethodHandleProxies} instead, which is slower.
+   * So are {@link MethodHandles.Lookup#findSpecial findSpecial} handles on a superclass method.</p>
+   *
+   * @param lookup the lookup
+   * @param handle the method handle
+   * @param type the functional interface
+   * @param <F> the functional interface type
+   * @return an implementation of {@code type}
+   * @throws IllegalArgumentException if the handle does not fit the interface
+   * @since 1.0.0
+   */
+  public static <F> @NotNull F bind(final MethodHandles.@NotNull Lookup lookup, final @NotNull MethodHandle handle, final @NotNull Class<F> type) {
+    requireNonNull(lookup, "lookup");
+    requireNonNull(handle, "handle");
+    requireNonNull(type, "type");
+    final MethodHandleInfo info;
+    final Executable executable;
+    try {
+      info = lookup.revealDirect(handle);
+      executable = info.reflectAs(Executable.class, lookup);
+    } catch (final IllegalArgumentException | SecurityException e) {
+      return proxy(handle, type);
+    }
+    if (info.getReferenceKind() == MethodHandleInfo.REF_invokeSpecial && info.getDeclaringClass() != lookup.lookupClass()) {
+      // LambdaMetafactory cannot call a superclass method non-virtually
+      return proxy(handle, type);
+    }
+    // the reference kind tells a findSpecial handle apart from a findVirtual one on the same method, and the handle's
+    // type a findVirtual handle on a subclass apart from one on the declaring class
+    final Key key = new Key(executable, info.getReferenceKind(), handle.type(), type, false);
+    return create(FACTORIES.get(lookup.lookupClass()).computeIfAbsent(key, k -> spin(lookup, handle, executable, type, false)), type, null);
+  }
+
+  private static <F> F proxy(final MethodHandle handle, final Class<F> type) {
+    samMethod(type);
+    try {
+      return MethodHandleProxies.asInterfaceInstance(type, handle);
+    } catch (final WrongMethodTypeException e) {
+      throw new IllegalArgumentException("Cannot bind " + handle + " to " + type.getName(), e);
+    }
+  }
+
+  private static MethodHandle factory(final MethodHandles.Lookup lookup, final Method method, final Class<?> type, final boolean capture) {
+    final MethodHandle handle;
+    try {
+      // done on every call, so that each caller proves its own access to a cached factory
+      handle = lookup.unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalArgumentException("Cannot access " + method, e);
+    }
+    final Key key = new Key(method, referenceKind(method), handle.type(), type, capture);
+    return FACTORIES.get(lookup.lookupClass()).computeIfAbsent(key, k -> spin(lookup, handle, method, type, capture));
+  }
+
+  private static MethodHandle spin(final MethodHandles.Lookup lookup, final MethodHandle handle, final Executable executable, final Class<?> type, final boolean capture) {
+    final Method sam = samMethod(type);
+    if (!declaresAll(sam, executable)) {
+      throw new IllegalArgumentException(executable + " throws checked exceptions that " + type.getName() + "." + sam.getName() + " does not declare");
+    }
+    final MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+    MethodType implType = handle.type();
+    final MethodType factoryType;
+    if (capture) {
+      factoryType = MethodType.methodType(type, implType.parameterType(0));
+      implType = implType.dropParameterTypes(0, 1);
+    } else {
+      factoryType = MethodType.methodType(type);
+    }
+    if (implType.parameterCount() != samType.parameterCount()) {
+      throw new IllegalArgumentException(executable + " takes " + implType.parameterCount() + " arguments, but " + type.getName() + "." + sam.getName() + " takes " + samType.parameterCount());
+    }
+    try {
+      final CallSite site = LambdaMetafactory.metafactory(lookup, sam.getName(), factoryType, samType, handle, instantiate(samType, implType));
+      return site.getTarget();
+    } catch (final LambdaConversionException e) {
+      throw new IllegalArgumentException("Cannot bind " + executable + " to " + type.getName(), e);
+    }
+  }
+
+  // the interface's erased signature, narrowed to the method's own (boxed) types wherever the interface is generic
+  private static MethodType instantiate(final MethodType samType, final MethodType implType) {
+    final Class<?>[] parameters = new Class<?>[samType.parameterCount()];
+    for (int i = 0; i < parameters.length; i++) {
+      parameters[i] = samType.parameterType(i) == Object.class ? wrap(implType.parameterType(i)) : samType.parameterType(i);
+    }
+    final Class<?> result;
+    if (samType.returnType() == Object.class) {
+      if (implType.returnType() == void.class) {
+        throw new IllegalArgumentException("A void method cannot produce a result");
+      }
+      result = wrap(implType.returnType());
+    } else {
+      result = samType.returnType();
+    }
+    return MethodType.methodType(result, parameters);
+  }
+
+  private static Class<?> wrap(final Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  private static Method samMethod(final Class<?> type) {
+    if (!type.isInterface()) {
+      throw new IllegalArgumentException(type.getName() + " is not an interface");
+    }
+    Method sam = null;
+    for (final Method method : type.getMethods()) {
+      if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+        if (sam != null) {
+          throw new IllegalArgumentException(type.getName() + " has more than one abstract method");
+        }
+        sam = method;
+      }
+    }
+    if (sam == null) {
+      throw new IllegalArgumentException(type.getName() + " has no abstract method");
+    }
+    return sam;
+  }
+
+  private static boolean isObjectMethod(final Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean declaresAll(final Method sam, final Executable executable) {
+    for (final Class<?> thrown : executable.getExceptionTypes()) {
+      if (RuntimeException.class.isAssignableFrom(thrown) || Error.class.isAssignableFrom(thrown)) {
+        continue;
+      }
+      boolean declared = false;
+      for (final Class<?> allowed : sam.getExceptionTypes()) {
+        if (allowed.isAssignableFrom(thrown)) {
+          declared = true;
+          break;
+        }
+      }
+      if (!declared) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int referenceKind(final Method method) {
+    if (Modifier.isStatic(method.getModifiers())) {
+      return MethodHandleInfo.REF_invokeStatic;
+    }
+    return method.getDeclaringClass().isInterface() ? MethodHandleInfo.REF_invokeInterface : MethodHandleInfo.REF_invokeVirtual;
+  }
+
+  private static <F> F create(final MethodHandle factory, final Class<F> type, final Object receiver) {
+    try {
+      return type.cast(receiver == null ? factory.invoke() : factory.invoke(receiver));
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Key(Executable executable, int referenceKind, MethodType handleType, Class<?> type, boolean capture) {
+  }
+}
@@ -0,0 +1,524 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.function;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A function of fixed arity that takes its arguments as an array.
+ *
+ * <p>Views created with {@code of} unpack the array straight into a call of the underlying function, without
+ * reflection or intermediate collections, so that callers holding arguments in an {@code Object[]} can invoke a
+ * function of any arity through a single call site.</p>
+ *
+ * @param <R> the result type
+ * @see com.seiama.functional.function.exceptional.VarFunctionE
+ * @since 1.0.0
+ */
+@SuppressWarnings("overloads") // lambdas need a target type to pick an overload anyway
+public interface VarFunction<R> {
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 0
+   * @since 1.0.0
+   */
+  static <R> @NotNull VarFunction<R> of(final @NotNull Supplier<? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(0) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.get();
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 1
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, R> @NotNull VarFunction<R> of(final @NotNull Function<T1, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(1) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 2
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, R> @NotNull VarFunction<R> of(final @NotNull BiFunction<T1, T2, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(2) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 3
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, R> @NotNull VarFunction<R> of(final @NotNull Function3<T1, T2, T3, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(3) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 4
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, R> @NotNull VarFunction<R> of(final @NotNull Function4<T1, T2, T3, T4, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(4) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 5
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, R> @NotNull VarFunction<R> of(final @NotNull Function5<T1, T2, T3, T4, T5, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(5) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 6
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, R> @NotNull VarFunction<R> of(final @NotNull Function6<T1, T2, T3, T4, T5, T6, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(6) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 7
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, R> @NotNull VarFunction<R> of(final @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(7) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 8
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, R> @NotNull VarFunction<R> of(final @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(8) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 9
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> @NotNull VarFunction<R> of(final @NotNull Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(9) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 10
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> @NotNull VarFunction<R> of(final @NotNull Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(10) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 11
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> @NotNull VarFunction<R> of(final @NotNull Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(11) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9], (T11) args[10]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 12
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> @NotNull VarFunction<R> of(final @NotNull Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(12) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9], (T11) args[10], (T12) args[11]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 13
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> @NotNull VarFunction<R> of(final @NotNull Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(13) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9], (T11) args[10], (T12) args[11], (T13) args[12]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 14
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> @NotNull VarFunction<R> of(final @NotNull Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(14) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9], (T11) args[10], (T12) args[11], (T13) args[12], (T14) args[13]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 15
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> @NotNull VarFunction<R> of(final @NotNull Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(15) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9], (T11) args[10], (T12) args[11], (T13) args[12], (T14) args[13], (T15) args[14]);
+      }
+    };
+  }
+
+  /**
+   * Creates a view of {@code fn} that takes its arguments as an array.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <T16> the 16th argument type
+   * @param <R> the result type
+   * @return a view of {@code fn} with an arity of 16
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked") // arguments are unchecked, as with any erased generic call
+  static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> @NotNull VarFunction<R> of(final @NotNull Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Spreader<>(16) {
+      @Override
+      R spread(final Object[] args) {
+        return fn.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7], (T9) args[8], (T10) args[9], (T11) args[10], (T12) args[11], (T13) args[12], (T14) args[13], (T15) args[14], (T16) args[15]);
+      }
+    };
+  }
+
+  /**
+   * Gets the number of arguments this function takes.
+   *
+   * @return the arity
+   * @since 1.0.0
+   */
+  int arity();
+
+  /**
+   * Applies this function to the given arguments.
+   *
+   * <p>Argument types are not checked up front: an argument of the wrong type fails with a
+   * {@link ClassCastException} where the underlying function uses it.</p>
+   *
+   * @param args the arguments
+   * @return the result
+   * @throws IllegalArgumentException if the number of arguments does not match the {@link #arity() arity}
+   * @since 1.0.0
+   */
+  R applyArgs(final Object @NotNull ... args);
+}
@@ -0,0 +1,52 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.function.exceptional;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+// The base of the per-arity views created by VarFunctionE.of.
+abstract class SpreaderE<R, E extends Throwable> implements VarFunctionE<R, E> {
+  private final int arity;
+
+  SpreaderE(final int arity) {
+    this.arity = arity;
+  }
+
+  @Override
+  public final int arity() {
+    return this.arity;
+  }
+
+  @Override
+  public final R applyArgs(final Object @NotNull ... args) throws E {
+    if (requireNonNull(args, "args").length != this.arity) {
+      throw new IllegalArgumentException("Expected " + this.arity + " arguments, got " + args.length);
+    }
+    return this.spread(args);
+  }
+
+  abstract R spread(final Object[] args) throws E;
+}
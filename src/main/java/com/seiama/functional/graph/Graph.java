@@ -0,0 +1,690 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.graph;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.Function3;
+import com.seiama.functional.function.Function4;
+import com.seiama.functional.function.Function5;
+import com.seiama.functional.function.Function6;
+import com.seiama.functional.function.Function7;
+import com.seiama.functional.function.Function8;
+import com.seiama.functional.function.VarFunction;
+import com.seiama.functional.internal.Threads;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A directed acyclic graph of computations, where each node applies a function to the values of other nodes.
+ *
+ * <p>Running a graph starts every node whose inputs are ready, in parallel on an executor, and starts each other
+ * node as soon as the last of its inputs completes. A node shared by several others is computed once per run.
+ * Nodes added with a {@code nodeEither} method may return a left, which stops the run: nodes that have not started
+ * yet are skipped, and the run completes with that left.</p>
+ *
+ * <p>Exceptions thrown by node functions are treated as defects: they also stop the run, and are rethrown by
+ * {@link #run(Executor)}.</p>
+ *
+ * <p>A graph is immutable and can be run any number of times, concurrently.</p>
+ *
+ * @param <E> the error type
+ * @since 1.0.0
+ */
+public final class Graph<E> {
+  private final List<Node<?>> nodes;
+  private final Node<?>[] roots;
+
+  private Graph(final List<Node<?>> nodes) {
+    this.nodes = nodes;
+    this.roots = nodes.stream().filter(node -> node.inputs.length == 0).toArray(Node<?>[]::new);
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @param <E> the error type
+   * @return a builder
+   * @since 1.0.0
+   */
+  public static <E> @NotNull Builder<E> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Runs this graph on virtual threads when available, or on reused daemon threads otherwise, blocking until it completes.
+   *
+   * @return the results, or the first left returned by a node
+   * @throws InterruptedException if interrupted while waiting
+   * @since 1.0.0
+   */
+  public @NotNull Either<E, Results> run() throws InterruptedException {
+    return this.run(Shared.EXECUTOR);
+  }
+
+  /**
+   * Runs this graph on {@code executor}, blocking until it completes.
+   *
+   * @param executor the executor
+   * @return the results, or the first left returned by a node
+   * @throws InterruptedException if interrupted while waiting
+   * @since 1.0.0
+   */
+  public @NotNull Either<E, Results> run(final @NotNull Executor executor) throws InterruptedException {
+    try {
+      return this.runAsync(executor).get();
+    } catch (final ExecutionException e) {
+      final Throwable defect = e.getCause();
+      if (defect instanceof RuntimeException runtime) {
+        throw runtime;
+      } else if (defect instanceof Error error) {
+        throw error;
+      }
+      throw new CompletionException(defect);
+    }
+  }
+
+  /**
+   * Runs this graph on {@code executor}.
+   *
+   * @param executor the executor
+   * @return a future completing with the results or the first left returned by a node, or exceptionally with the
+   *     first exception thrown by a node
+   * @since 1.0.0
+   */
+  public @NotNull CompletableFuture<Either<E, Results>> runAsync(final @NotNull Executor executor) {
+    final Run run = new Run(requireNonNull(executor, "executor"));
+    if (this.nodes.isEmpty()) {
+      run.done.complete(Either.right(new Results(this.nodes, run.values, run.nanos)));
+    }
+    for (final Node<?> root : this.roots) {
+      run.submit(root);
+    }
+    return run.done;
+  }
+
+  // the state of a single run; nodes publish their values to dependents through the pending counters
+  private final class Run {
+    final CompletableFuture<Either<E, Results>> done = new CompletableFuture<>();
+    final Object[] values = new Object[Graph.this.nodes.size()];
+    final long[] nanos = new long[Graph.this.nodes.size()];
+    private final Executor executor;
+    private final AtomicIntegerArray pending = new AtomicIntegerArray(Graph.this.nodes.size());
+    private final AtomicInteger remaining = new AtomicInteger(Graph.this.nodes.size());
+
+    Run(final Executor executor) {
+      this.executor = executor;
+      for (final Node<?> node : Graph.this.nodes) {
+        this.pending.set(node.index, node.inputs.length);
+      }
+    }
+
+    void submit(final Node<?> node) {
+      try {
+        this.executor.execute(() -> this.compute(node));
+      } catch (final Throwable e) {
+        this.done.completeExceptionally(e);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compute(final Node<?> node) {
+      if (this.done.isDone()) {
+        return;
+      }
+      final Object[] args = new Object[node.inputs.length];
+      for (int i = 0; i < args.length; i++) {
+        args[i] = this.values[node.inputs[i].index];
+      }
+      final long start = System.nanoTime();
+      Object value;
+      try {
+        value = node.fn.applyArgs(args);
+      } catch (final Throwable e) {
+        this.done.completeExceptionally(e);
+        return;
+      }
+      this.nanos[node.index] = System.nanoTime() - start;
+      if (node.either) {
+        final Either<E, ?> result = (Either<E, ?>) requireNonNull(value, "result");
+        final Optional<?> right = result.right();
+        if (right.isEmpty()) {
+          // a left holds no right value, so it is a valid result of any right type
+          this.done.complete((Either<E, Results>) result);
+          return;
+        }
+        value = right.get();
+      }
+      this.values[node.index] = value;
+      for (final Node<?> dependent : node.dependents) {
+        if (this.pending.decrementAndGet(dependent.index) == 0) {
+          this.submit(dependent);
+        }
+      }
+      if (this.remaining.decrementAndGet() == 0) {
+        this.done.complete(Either.right(new Results(Graph.this.nodes, this.values, this.nanos)));
+      }
+    }
+  }
+
+  /**
+   * A builder for {@link Graph}s.
+   *
+   * <p>Nodes can only take nodes added before them as inputs, so a graph cannot have cycles. Adding a node with the
+   * same function instance and the same inputs as an existing node, added by the same kind of method, returns the
+   * existing node, so that shared subcomputations built independently are still only computed once. The existing
+   * node keeps the name it was first added with.</p>
+   *
+   * @param <E> the error type
+   * @since 1.0.0
+   */
+  public static final class Builder<E> {
+    private final List<Node<?>> nodes = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private final Map<List<Object>, Node<?>> shared = new HashMap<>();
+    private boolean built;
+
+    private Builder() {
+    }
+
+    /**
+     * Adds a node with a constant value.
+     *
+     * @param name the node name, unique within the graph
+     * @param value the value
+     * @param <R> the value type
+     * @return the node
+     * @since 1.0.0
+     */
+    public <R> @NotNull Node<R> constant(final @NotNull String name, final R value) {
+      return this.source(name, () -> value);
+    }
+
+    /**
+     * Adds a node without inputs that computes its value with {@code fn}.
+     *
+     * @param name the node name, unique within the graph
+     * @param fn the function
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function
+     * @since 1.0.0
+     */
+    public <R> @NotNull Node<R> source(final @NotNull String name, final @NotNull Supplier<? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false);
+    }
+
+    /**
+     * Adds a node without inputs that computes its value with {@code fn}, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param fn the function
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function
+     * @since 1.0.0
+     */
+    public <R> @NotNull Node<R> sourceEither(final @NotNull String name, final @NotNull Supplier<? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Function<T1, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull BiFunction<T1, T2, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Function3<T1, T2, T3, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2, input3);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Function4<T1, T2, T3, T4, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2, input3, input4);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Function5<T1, T2, T3, T4, T5, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2, input3, input4, input5);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param input6 the 6th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <T6> the 6th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, T6, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Node<T6> input6, final @NotNull Function6<T1, T2, T3, T4, T5, T6, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2, input3, input4, input5, input6);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param input6 the 6th input
+     * @param input7 the 7th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <T6> the 6th input type
+     * @param <T7> the 7th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Node<T6> input6, final @NotNull Node<T7> input7, final @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2, input3, input4, input5, input6, input7);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param input6 the 6th input
+     * @param input7 the 7th input
+     * @param input8 the 8th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <T6> the 6th input type
+     * @param <T7> the 7th input type
+     * @param <T8> the 8th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> @NotNull Node<R> node(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Node<T6> input6, final @NotNull Node<T7> input7, final @NotNull Node<T8> input8, final @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, ? extends R> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), false, input1, input2, input3, input4, input5, input6, input7, input8);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Function<T1, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull BiFunction<T1, T2, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Function3<T1, T2, T3, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2, input3);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Function4<T1, T2, T3, T4, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2, input3, input4);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Function5<T1, T2, T3, T4, T5, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2, input3, input4, input5);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param input6 the 6th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <T6> the 6th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, T6, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Node<T6> input6, final @NotNull Function6<T1, T2, T3, T4, T5, T6, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2, input3, input4, input5, input6);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param input6 the 6th input
+     * @param input7 the 7th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <T6> the 6th input type
+     * @param <T7> the 7th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Node<T6> input6, final @NotNull Node<T7> input7, final @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2, input3, input4, input5, input6, input7);
+    }
+
+    /**
+     * Adds a node that applies {@code fn} to the values of its inputs, stopping the whole graph if it returns a left.
+     *
+     * @param name the node name, unique within the graph
+     * @param input1 the 1st input
+     * @param input2 the 2nd input
+     * @param input3 the 3rd input
+     * @param input4 the 4th input
+     * @param input5 the 5th input
+     * @param input6 the 6th input
+     * @param input7 the 7th input
+     * @param input8 the 8th input
+     * @param fn the function
+     * @param <T1> the 1st input type
+     * @param <T2> the 2nd input type
+     * @param <T3> the 3rd input type
+     * @param <T4> the 4th input type
+     * @param <T5> the 5th input type
+     * @param <T6> the 6th input type
+     * @param <T7> the 7th input type
+     * @param <T8> the 8th input type
+     * @param <R> the value type
+     * @return the node, or an existing node applying the same function to the same inputs
+     * @since 1.0.0
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8, R> @NotNull Node<R> nodeEither(final @NotNull String name, final @NotNull Node<T1> input1, final @NotNull Node<T2> input2, final @NotNull Node<T3> input3, final @NotNull Node<T4> input4, final @NotNull Node<T5> input5, final @NotNull Node<T6> input6, final @NotNull Node<T7> input7, final @NotNull Node<T8> input8, final @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, ? extends Either<E, ? extends R>> fn) {
+      requireNonNull(fn, "fn");
+      return this.add(name, fn, VarFunction.of(fn), true, input1, input2, input3, input4, input5, input6, input7, input8);
+    }
+
+    /**
+     * Builds the graph.
+     *
+     * <p>A builder can only be built once.</p>
+     *
+     * @return a graph
+     * @throws IllegalStateException if this builder was already built
+     * @since 1.0.0
+     */
+    public @NotNull Graph<E> build() {
+      if (this.built) {
+        throw new IllegalStateException("builder already built");
+      }
+      this.built = true;
+      return new Graph<>(List.copyOf(this.nodes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Node<R> add(final String name, final Object fn, final VarFunction<?> call, final boolean either, final Node<?>... inputs) {
+      requireNonNull(name, "name");
+      if (this.built) {
+        throw new IllegalStateException("builder already built");
+      }
+      for (final Node<?> input : inputs) {
+        if (requireNonNull(input, "input").owner != this) {
+          throw new IllegalArgumentException(input + " belongs to another graph");
+        }
+      }
+      // a function added with nodeEither produces a different value than the same function added with node
+      final List<Object> key = new ArrayList<>(inputs.length + 2);
+      key.add(fn);
+      key.add(either);
+      key.addAll(Arrays.asList(inputs));
+      final Node<?> existing = this.shared.get(key);
+      if (existing != null) {
+        return (Node<R>) existing;
+      }
+      if (!this.names.add(name)) {
+        throw new IllegalArgumentException("duplicate node name: " + name);
+      }
+      final Node<R> node = new Node<>(this, this.nodes.size(), name, call, either, inputs);
+      for (final Node<?> input : inputs) {
+        input.dependents.add(node);
+      }
+      this.nodes.add(node);
+      this.shared.put(key, node);
+      return node;
+    }
+  }
+
+  private static final class Shared {
+    static final Executor EXECUTOR = Threads.perTaskExecutor("functional-graph-");
+  }
+}
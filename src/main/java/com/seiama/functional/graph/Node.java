@@ -0,0 +1,72 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.graph;
+
+import com.seiama.functional.function.VarFunction;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A computation in a {@link Graph}, producing a value of type {@code T} from the values of its inputs.
+ *
+ * <p>Nodes are created by a {@link Graph.Builder} and can only be used as inputs within the graph that
+ * created them.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public final class Node<T> {
+  final Graph.Builder<?> owner;
+  final int index;
+  final String name;
+  final VarFunction<?> fn;
+  final boolean either;
+  final Node<?>[] inputs;
+  final List<Node<?>> dependents = new ArrayList<>();
+
+  Node(final Graph.Builder<?> owner, final int index, final String name, final VarFunction<?> fn, final boolean either, final Node<?>[] inputs) {
+    this.owner = owner;
+    this.index = index;
+    this.name = name;
+    this.fn = fn;
+    this.either = either;
+    this.inputs = inputs;
+  }
+
+  /**
+   * Gets the name of this node.
+   *
+   * @return the name
+   * @since 1.0.0
+   */
+  public @NotNull String name() {
+    return this.name;
+  }
+
+  @Override
+  public String toString() {
+    return "Node[" + this.name + "]";
+  }
+}
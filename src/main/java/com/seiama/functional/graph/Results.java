@@ -0,0 +1,99 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.graph;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The values computed by a successful run of a {@link Graph}, and how long each node took.
+ *
+ * @since 1.0.0
+ */
+public final class Results {
+  private final List<Node<?>> nodes;
+  private final Object[] values;
+  private final long[] nanos;
+
+  Results(final List<Node<?>> nodes, final Object[] values, final long[] nanos) {
+    this.nodes = nodes;
+    this.values = values;
+    this.nanos = nanos;
+  }
+
+  /**
+   * Gets the value computed by {@code node}.
+   *
+   * @param node the node
+   * @param <T> the value type
+   * @return the value
+   * @throws IllegalArgumentException if {@code node} is not part of the graph that was run
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <T> @UnknownNullability T get(final @NotNull Node<T> node) {
+    return (T) this.values[this.check(node)];
+  }
+
+  /**
+   * Gets the time {@code node} spent computing its value, excluding time spent waiting for its inputs or for a thread.
+   *
+   * @param node the node
+   * @return the duration
+   * @throws IllegalArgumentException if {@code node} is not part of the graph that was run
+   * @since 1.0.0
+   */
+  public @NotNull Duration elapsed(final @NotNull Node<?> node) {
+    return Duration.ofNanos(this.nanos[this.check(node)]);
+  }
+
+  /**
+   * Gets the time each node spent computing its value, by node name, in the order the nodes were added.
+   *
+   * @return the durations
+   * @since 1.0.0
+   */
+  public @NotNull Map<String, Duration> timings() {
+    final Map<String, Duration> timings = new LinkedHashMap<>();
+    for (final Node<?> node : this.nodes) {
+      timings.put(node.name, Duration.ofNanos(this.nanos[node.index]));
+    }
+    return Collections.unmodifiableMap(timings);
+  }
+
+  private int check(final Node<?> node) {
+    requireNonNull(node, "node");
+    if (node.index >= this.nodes.size() || this.nodes.get(node.index) != node) {
+      throw new IllegalArgumentException(node + " is not part of this graph");
+    }
+    return node.index;
+  }
+}
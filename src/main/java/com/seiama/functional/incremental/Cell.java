@@ -0,0 +1,83 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.incremental;
+
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An input {@link Signal}, whose value is set from outside the engine.
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public final class Cell<T> extends Signal<T> {
+  Cell(final Incremental engine, final T value) {
+    super(engine, 0);
+    this.value = value;
+  }
+
+  /**
+   * Sets the value of this cell.
+   *
+   * <p>Unless the value is unchanged according to the {@link #cutoff(java.util.function.BiPredicate) cutoff}, the
+   * signals derived from this cell are recomputed before this method returns, or at the end of the enclosing
+   * {@link Incremental#batch(com.seiama.functional.function.exceptional.RunnableE) batch}.</p>
+   *
+   * @param value the value
+   * @throws IllegalStateException if called while the engine is recomputing signals
+   * @since 1.0.0
+   */
+  public void set(final T value) {
+    this.engine.lock.lock();
+    try {
+      this.engine.checkNotStabilizing();
+      if (this.accept(value)) {
+        this.engine.changed(this);
+      }
+    } finally {
+      this.engine.lock.unlock();
+    }
+  }
+
+  /**
+   * Sets the value of this cell to the result of applying {@code fn} to its current value.
+   *
+   * @param fn the function
+   * @throws IllegalStateException if called while the engine is recomputing signals
+   * @see #set(Object)
+   * @since 1.0.0
+   */
+  public void update(final @NotNull Function<? super T, ? extends T> fn) {
+    requireNonNull(fn, "fn");
+    this.engine.lock.lock();
+    try {
+      this.set(fn.apply(this.value));
+    } finally {
+      this.engine.lock.unlock();
+    }
+  }
+}
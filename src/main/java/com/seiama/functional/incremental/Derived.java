@@ -0,0 +1,63 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.incremental;
+
+import com.seiama.functional.function.VarFunction;
+import java.util.Arrays;
+
+// A signal computed from other signals; only ever touched under the engine's lock.
+final class Derived<T> extends Signal<T> {
+  final Signal<?>[] inputs;
+  boolean queued;
+  private final VarFunction<? extends T> fn;
+  private final Object[] args;
+
+  Derived(final Incremental engine, final int height, final VarFunction<? extends T> fn, final Signal<?>[] inputs) {
+    super(engine, height);
+    this.fn = fn;
+    this.inputs = inputs;
+    this.args = new Object[inputs.length];
+  }
+
+  @Override
+  void unlink() {
+    for (final Signal<?> input : this.inputs) {
+      input.dependents.remove(this);
+    }
+    Arrays.fill(this.inputs, null);
+    this.engine.discard(this);
+  }
+
+  // recomputes the value from the inputs' current values, returning whether it changed
+  boolean recompute() {
+    for (int i = 0; i < this.inputs.length; i++) {
+      this.args[i] = this.inputs[i].value;
+    }
+    try {
+      return this.accept(this.fn.applyArgs(this.args));
+    } finally {
+      Arrays.fill(this.args, null);
+    }
+  }
+}
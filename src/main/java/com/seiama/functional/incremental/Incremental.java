@@ -0,0 +1,723 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.incremental;
+
+import com.seiama.functional.function.Function10;
+import com.seiama.functional.function.Function11;
+import com.seiama.functional.function.Function12;
+import com.seiama.functional.function.Function13;
+import com.seiama.functional.function.Function14;
+import com.seiama.functional.function.Function15;
+import com.seiama.functional.function.Function16;
+import com.seiama.functional.function.Function3;
+import com.seiama.functional.function.Function4;
+import com.seiama.functional.function.Function5;
+import com.seiama.functional.function.Function6;
+import com.seiama.functional.function.Function7;
+import com.seiama.functional.function.Function8;
+import com.seiama.functional.function.Function9;
+import com.seiama.functional.function.VarFunction;
+import com.seiama.functional.function.exceptional.RunnableE;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An engine maintaining {@link Signal}s derived from input {@link Cell}s, recomputing only what a change affects.
+ *
+ * <p>Each derived signal records the signals it was derived from. When a cell changes, the signals depending on it
+ * are marked dirty and recomputed in order of their height, that is their distance from the cells, so that each is
+ * recomputed at most once per propagation and only after all of its inputs are up to date. A signal whose new value
+ * is the same as its old one, according to its {@link Signal#cutoff(java.util.function.BiPredicate) cutoff}, does
+ * not propagate any further.</p>
+ *
+ * <p>Updates made within a {@link #batch(RunnableE) batch} are propagated together once the batch ends.</p>
+ *
+ * <p>An engine is thread safe: updates and reads are serialized by a lock. Functions deriving signals must not set
+ * cells. Derived signals stay alive as long as the signals they were derived from, unless they are
+ * {@link Signal#dispose() disposed} of.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Incremental {
+  final ReentrantLock lock = new ReentrantLock();
+  // dirty signals, bucketed by height
+  private final List<List<Derived<?>>> dirty = new ArrayList<>();
+  private int batchDepth;
+  private boolean stabilizing;
+  private long recomputations;
+
+  private Incremental() {
+  }
+
+  /**
+   * Creates a new engine.
+   *
+   * @return an engine
+   * @since 1.0.0
+   */
+  public static @NotNull Incremental create() {
+    return new Incremental();
+  }
+
+  /**
+   * Creates an input cell.
+   *
+   * @param value the initial value
+   * @param <T> the value type
+   * @return a cell
+   * @since 1.0.0
+   */
+  public <T> @NotNull Cell<T> cell(final T value) {
+    return new Cell<>(this, value);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Function<T1, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull BiFunction<T1, T2, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Function3<T1, T2, T3, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Function4<T1, T2, T3, T4, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Function5<T1, T2, T3, T4, T5, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Function6<T1, T2, T3, T4, T5, T6, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param input11 the 11th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <T11> the 11th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Signal<T11> input11, final @NotNull Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10, input11);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param input11 the 11th input
+   * @param input12 the 12th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <T11> the 11th input type
+   * @param <T12> the 12th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Signal<T11> input11, final @NotNull Signal<T12> input12, final @NotNull Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10, input11, input12);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param input11 the 11th input
+   * @param input12 the 12th input
+   * @param input13 the 13th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <T11> the 11th input type
+   * @param <T12> the 12th input type
+   * @param <T13> the 13th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Signal<T11> input11, final @NotNull Signal<T12> input12, final @NotNull Signal<T13> input13, final @NotNull Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10, input11, input12, input13);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param input11 the 11th input
+   * @param input12 the 12th input
+   * @param input13 the 13th input
+   * @param input14 the 14th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <T11> the 11th input type
+   * @param <T12> the 12th input type
+   * @param <T13> the 13th input type
+   * @param <T14> the 14th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Signal<T11> input11, final @NotNull Signal<T12> input12, final @NotNull Signal<T13> input13, final @NotNull Signal<T14> input14, final @NotNull Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10, input11, input12, input13, input14);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param input11 the 11th input
+   * @param input12 the 12th input
+   * @param input13 the 13th input
+   * @param input14 the 14th input
+   * @param input15 the 15th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <T11> the 11th input type
+   * @param <T12> the 12th input type
+   * @param <T13> the 13th input type
+   * @param <T14> the 14th input type
+   * @param <T15> the 15th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Signal<T11> input11, final @NotNull Signal<T12> input12, final @NotNull Signal<T13> input13, final @NotNull Signal<T14> input14, final @NotNull Signal<T15> input15, final @NotNull Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10, input11, input12, input13, input14, input15);
+  }
+
+  /**
+   * Creates a signal whose value is {@code fn} applied to the values of its inputs, recomputed whenever one of
+   * them changes.
+   *
+   * @param input1 the 1st input
+   * @param input2 the 2nd input
+   * @param input3 the 3rd input
+   * @param input4 the 4th input
+   * @param input5 the 5th input
+   * @param input6 the 6th input
+   * @param input7 the 7th input
+   * @param input8 the 8th input
+   * @param input9 the 9th input
+   * @param input10 the 10th input
+   * @param input11 the 11th input
+   * @param input12 the 12th input
+   * @param input13 the 13th input
+   * @param input14 the 14th input
+   * @param input15 the 15th input
+   * @param input16 the 16th input
+   * @param fn the function
+   * @param <T1> the 1st input type
+   * @param <T2> the 2nd input type
+   * @param <T3> the 3rd input type
+   * @param <T4> the 4th input type
+   * @param <T5> the 5th input type
+   * @param <T6> the 6th input type
+   * @param <T7> the 7th input type
+   * @param <T8> the 8th input type
+   * @param <T9> the 9th input type
+   * @param <T10> the 10th input type
+   * @param <T11> the 11th input type
+   * @param <T12> the 12th input type
+   * @param <T13> the 13th input type
+   * @param <T14> the 14th input type
+   * @param <T15> the 15th input type
+   * @param <T16> the 16th input type
+   * @param <R> the value type
+   * @return a signal
+   * @since 1.0.0
+   */
+  public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> @NotNull Signal<R> derive(final @NotNull Signal<T1> input1, final @NotNull Signal<T2> input2, final @NotNull Signal<T3> input3, final @NotNull Signal<T4> input4, final @NotNull Signal<T5> input5, final @NotNull Signal<T6> input6, final @NotNull Signal<T7> input7, final @NotNull Signal<T8> input8, final @NotNull Signal<T9> input9, final @NotNull Signal<T10> input10, final @NotNull Signal<T11> input11, final @NotNull Signal<T12> input12, final @NotNull Signal<T13> input13, final @NotNull Signal<T14> input14, final @NotNull Signal<T15> input15, final @NotNull Signal<T16> input16, final @NotNull Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, ? extends R> fn) {
+    return this.add(VarFunction.of(requireNonNull(fn, "fn")), input1, input2, input3, input4, input5, input6, input7, input8, input9, input10, input11, input12, input13, input14, input15, input16);
+  }
+
+  /**
+   * Runs {@code updates}, then propagates every change it made to cells at once.
+   *
+   * <p>Batches can be nested, in which case changes are propagated when the outermost batch ends. Changes made
+   * before {@code updates} throws are still propagated.</p>
+   *
+   * @param updates the updates
+   * @param <E> the exception type
+   * @throws E if {@code updates} throws
+   * @throws IllegalStateException if called while the engine is recomputing signals
+   * @since 1.0.0
+   */
+  public <E extends Throwable> void batch(final @NotNull RunnableE<E> updates) throws E {
+    requireNonNull(updates, "updates");
+    this.lock.lock();
+    try {
+      this.checkNotStabilizing();
+      this.batchDepth++;
+      try {
+        updates.run();
+      } catch (final Throwable t) {
+        if (--this.batchDepth == 0) {
+          try {
+            this.stabilize();
+          } catch (final Throwable suppressed) {
+            t.addSuppressed(suppressed);
+          }
+        }
+        throw t;
+      }
+      if (--this.batchDepth == 0) {
+        this.stabilize();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Gets the number of times a derived signal was computed, including its initial computation.
+   *
+   * @return the number of computations
+   * @since 1.0.0
+   */
+  public long recomputations() {
+    this.lock.lock();
+    try {
+      return this.recomputations;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  void checkNotStabilizing() {
+    if (this.stabilizing) {
+      throw new IllegalStateException("cannot update cells while recomputing signals");
+    }
+  }
+
+  void changed(final Signal<?> signal) {
+    this.enqueue(signal.dependents);
+    if (this.batchDepth == 0) {
+      this.stabilize();
+    }
+  }
+
+  void discard(final Derived<?> signal) {
+    if (signal.queued) {
+      signal.queued = false;
+      this.dirty.get(signal.height).remove(signal);
+    }
+  }
+
+  private <R> Signal<R> add(final VarFunction<? extends R> fn, final Signal<?>... inputs) {
+    int height = 0;
+    for (final Signal<?> input : inputs) {
+      if (requireNonNull(input, "input").engine != this) {
+        throw new IllegalArgumentException("signal belongs to another engine");
+      }
+      height = Math.max(height, input.height);
+    }
+    final Derived<R> derived = new Derived<>(this, height + 1, fn, inputs);
+    this.lock.lock();
+    try {
+      this.checkNotStabilizing();
+      for (final Signal<?> input : inputs) {
+        if (input.disposed) {
+          throw new IllegalArgumentException("signal has been disposed of");
+        }
+      }
+      derived.recompute();
+      this.recomputations++;
+      for (final Signal<?> input : inputs) {
+        input.dependents.add(derived);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+    return derived;
+  }
+
+  private void enqueue(final List<Derived<?>> signals) {
+    for (int i = 0; i < signals.size(); i++) {
+      final Derived<?> signal = signals.get(i);
+      if (!signal.queued) {
+        signal.queued = true;
+        while (this.dirty.size() <= signal.height) {
+          this.dirty.add(new ArrayList<>());
+        }
+        this.dirty.get(signal.height).add(signal);
+      }
+    }
+  }
+
+  private void stabilize() {
+    this.stabilizing = true;
+    try {
+      // dependents are always higher than the signal they depend on, so a bucket never grows while it is drained
+      for (int height = 1; height < this.dirty.size(); height++) {
+        final List<Derived<?>> bucket = this.dirty.get(height);
+        for (int i = 0; i < bucket.size(); i++) {
+          final Derived<?> signal = bucket.get(i);
+          final boolean changed;
+          try {
+            changed = signal.recompute();
+          } catch (final Throwable t) {
+            // the failing signal keeps its old value and stays dirty, to be retried by the next propagation
+            bucket.subList(0, i).clear();
+            throw t;
+          }
+          signal.queued = false;
+          this.recomputations++;
+          if (changed) {
+            this.enqueue(signal.dependents);
+          }
+        }
+        bucket.clear();
+      }
+    } finally {
+      this.stabilizing = false;
+    }
+  }
+}
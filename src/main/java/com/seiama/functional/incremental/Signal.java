@@ -0,0 +1,132 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.incremental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A value maintained by an {@link Incremental} engine: either a {@link Cell} set from outside, or a signal derived
+ * from other signals.
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public abstract sealed class Signal<T> permits Cell, Derived {
+  final Incremental engine;
+  // one more than the height of the highest input, so that a signal is always recomputed after its inputs
+  final int height;
+  final List<Derived<?>> dependents = new ArrayList<>();
+  T value;
+  boolean disposed;
+  private BiPredicate<? super T, ? super T> cutoff = Objects::equals;
+
+  Signal(final Incremental engine, final int height) {
+    this.engine = engine;
+    this.height = height;
+  }
+
+  /**
+   * Gets the current value of this signal.
+   *
+   * <p>Values are read under the engine's lock, so a value is never observed in the middle of a propagation.</p>
+   *
+   * @return the value
+   * @since 1.0.0
+   */
+  public @UnknownNullability T get() {
+    this.engine.lock.lock();
+    try {
+      return this.value;
+    } finally {
+      this.engine.lock.unlock();
+    }
+  }
+
+  /**
+   * Sets the predicate deciding whether a new value of this signal is the same as the old one, in which case the
+   * change is not propagated to the signals derived from it.
+   *
+   * <p>By default, values are compared with {@link Object#equals(Object)}.</p>
+   *
+   * @param cutoff the predicate, given the old and the new value
+   * @return this signal
+   * @since 1.0.0
+   */
+  public @NotNull Signal<T> cutoff(final @NotNull BiPredicate<? super T, ? super T> cutoff) {
+    requireNonNull(cutoff, "cutoff");
+    this.engine.lock.lock();
+    try {
+      this.cutoff = cutoff;
+      return this;
+    } finally {
+      this.engine.lock.unlock();
+    }
+  }
+
+  /**
+   * Disposes of this signal, so that it is no longer recomputed when the signals it was derived from change.
+   *
+   * <p>A disposed signal keeps its last value. It is unlinked from the signals it was derived from, which no longer
+   * keep it alive, and no signal can be derived from it. Disposing of a signal more than once has no effect.</p>
+   *
+   * @throws IllegalStateException if a signal derived from this one has not been disposed of
+   * @throws IllegalStateException if called while the engine is recomputing signals
+   * @since 1.0.0
+   */
+  public void dispose() {
+    this.engine.lock.lock();
+    try {
+      this.engine.checkNotStabilizing();
+      if (!this.dependents.isEmpty()) {
+        throw new IllegalStateException("signals derived from this signal must be disposed of first");
+      }
+      if (!this.disposed) {
+        this.disposed = true;
+        this.unlink();
+      }
+    } finally {
+      this.engine.lock.unlock();
+    }
+  }
+
+  // detaches this signal from the engine's graph on disposal
+  void unlink() {
+  }
+
+  // stores next unless the cutoff considers it unchanged, returning whether it was stored
+  boolean accept(final T next) {
+    if (this.cutoff.test(this.value, next)) {
+      return false;
+    }
+    this.value = next;
+    return true;
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A lock-free log-linear histogram of non-negative values.
+ *
+ * <p>Every power of two is split into eight linear sub-buckets, bounding the relative error of reported
+ * values to 12.5%. Recording a value does not allocate, and concurrent recorders are spread over several
+ * stripes to avoid contending on the same counters.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Histogram {
+  private static final int SUB_BITS = 3;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+  private static final int BUCKETS = (64 - SUB_BITS) << SUB_BITS;
+  private static final int SUM = BUCKETS;
+  private static final int MAX = BUCKETS + 1;
+  private static final int STRIPE_LENGTH = BUCKETS + 2;
+  private static final int MAX_STRIPES = 8;
+  private final AtomicLongArray[] stripes;
+  private final int mask;
+
+  /**
+   * Constructs a new histogram.
+   *
+   * @since 1.0.0
+   */
+  public Histogram() {
+    final int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+    final int count = Integer.highestOneBit(processors) == processors ? processors : Integer.highestOneBit(processors) << 1;
+    this.stripes = new AtomicLongArray[count];
+    for (int i = 0; i < count; i++) {
+      this.stripes[i] = new AtomicLongArray(STRIPE_LENGTH);
+    }
+    this.mask = count - 1;
+  }
+
+  /**
+   * Records a value.
+   *
+   * <p>Negative values are recorded as zero.</p>
+   *
+   * @param value the value
+   * @since 1.0.0
+   */
+  public void record(final long value) {
+    final long clamped = Math.max(value, 0);
+    final AtomicLongArray stripe = this.stripes[this.stripe()];
+    stripe.getAndIncrement(bucket(clamped));
+    stripe.getAndAdd(SUM, clamped);
+    long max = stripe.get(MAX);
+    while (clamped > max && !stripe.compareAndSet(MAX, max, clamped)) {
+      max = stripe.get(MAX);
+    }
+  }
+
+  /**
+   * Takes a snapshot of the values recorded so far.
+   *
+   * <p>Values recorded concurrently with this method may or may not be included.</p>
+   *
+   * @return a snapshot
+   * @since 1.0.0
+   */
+  public @NotNull Snapshot snapshot() {
+    final long[] counts = new long[BUCKETS];
+    long count = 0;
+    long sum = 0;
+    long max = 0;
+    for (final AtomicLongArray stripe : this.stripes) {
+      for (int i = 0; i < BUCKETS; i++) {
+        final long n = stripe.get(i);
+        counts[i] += n;
+        count += n;
+      }
+      sum += stripe.get(SUM);
+      max = Math.max(max, stripe.get(MAX));
+    }
+    return new Snapshot(counts, count, sum, max);
+  }
+
+  private int stripe() {
+    final long id = Thread.currentThread().getId();
+    return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & this.mask;
+  }
+
+  static int bucket(final long value) {
+    if (value < SUB_COUNT) {
+      return (int) value;
+    }
+    final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+    return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & (SUB_COUNT - 1));
+  }
+
+  static long upperBound(final int bucket) {
+    if (bucket < SUB_COUNT) {
+      return bucket;
+    }
+    final int shift = (bucket >>> SUB_BITS) - 1;
+    final long lower = (long) (SUB_COUNT + (bucket & (SUB_COUNT - 1))) << shift;
+    return lower + ((1L << shift) - 1);
+  }
+
+  /**
+   * A point-in-time view of a {@link Histogram}.
+   *
+   * @since 1.0.0
+   */
+  public static final class Snapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    Snapshot(final long[] counts, final long count, final long sum, final long max) {
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the number of recorded values
+     * @since 1.0.0
+     */
+    public long count() {
+      return this.count;
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return the sum of the recorded values
+     * @since 1.0.0
+     */
+    public long sum() {
+      return this.sum;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the largest recorded value, or {@code 0} if no values were recorded
+     * @since 1.0.0
+     */
+    public long max() {
+      return this.max;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean of the recorded values, or {@code 0} if no values were recorded
+     * @since 1.0.0
+     */
+    public double mean() {
+      return this.count == 0 ? 0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * Gets the value at {@code quantile}.
+     *
+     * <p>The returned value is the upper bound of the bucket the quantile falls into, and never exceeds {@link #max()}.</p>
+     *
+     * @param quantile the quantile, between {@code 0} and {@code 1}
+     * @return the value at the quantile, or {@code 0} if no values were recorded
+     * @throws IllegalArgumentException if {@code quantile} is out of range
+     * @since 1.0.0
+     */
+    public long percentile(final double quantile) {
+      if (!(quantile >= 0 && quantile <= 1)) {
+        throw new IllegalArgumentException("quantile must be between 0 and 1: " + quantile);
+      }
+      if (this.count == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1, (long) Math.ceil(quantile * this.count));
+      long seen = 0;
+      for (int i = 0; i < this.counts.length; i++) {
+        seen += this.counts[i];
+        if (seen >= rank) {
+          return Math.min(upperBound(i), this.max);
+        }
+      }
+      return this.max;
+    }
+  }
+}
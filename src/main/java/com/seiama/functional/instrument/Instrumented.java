@@ -0,0 +1,1340 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import com.seiama.functional.function.Consumer3;
+import com.seiama.functional.function.Function10;
+import com.seiama.functional.function.Function11;
+import com.seiama.functional.function.Function12;
+import com.seiama.functional.function.Function13;
+import com.seiama.functional.function.Function14;
+import com.seiama.functional.function.Function15;
+import com.seiama.functional.function.Function16;
+import com.seiama.functional.function.Function3;
+import com.seiama.functional.function.Function4;
+import com.seiama.functional.function.Function5;
+import com.seiama.functional.function.Function6;
+import com.seiama.functional.function.Function7;
+import com.seiama.functional.function.Function8;
+import com.seiama.functional.function.Function9;
+import com.seiama.functional.function.exceptional.Consumer1E;
+import com.seiama.functional.function.exceptional.Consumer2E;
+import com.seiama.functional.function.exceptional.Consumer3E;
+import com.seiama.functional.function.exceptional.Function10E;
+import com.seiama.functional.function.exceptional.Function11E;
+import com.seiama.functional.function.exceptional.Function12E;
+import com.seiama.functional.function.exceptional.Function13E;
+import com.seiama.functional.function.exceptional.Function14E;
+import com.seiama.functional.function.exceptional.Function15E;
+import com.seiama.functional.function.exceptional.Function16E;
+import com.seiama.functional.function.exceptional.Function1E;
+import com.seiama.functional.function.exceptional.Function2E;
+import com.seiama.functional.function.exceptional.Function3E;
+import com.seiama.functional.function.exceptional.Function4E;
+import com.seiama.functional.function.exceptional.Function5E;
+import com.seiama.functional.function.exceptional.Function6E;
+import com.seiama.functional.function.exceptional.Function7E;
+import com.seiama.functional.function.exceptional.Function8E;
+import com.seiama.functional.function.exceptional.Function9E;
+import com.seiama.functional.function.exceptional.RunnableE;
+import com.seiama.functional.function.exceptional.SupplierE;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Instrumentation for functions.
+ *
+ * <p>An instrumented function records the number of invocations, the number of invocations that threw an
+ * exception (by exception class) and the latency of each invocation into its {@link InvocationMetrics}.
+ * Recording does not allocate or lock on the success path. Wrapping several functions with the same name
+ * aggregates their metrics. Invocations can also be recorded with Java Flight Recorder, as described in
+ * {@link InvocationMetrics}.</p>
+ *
+ * <p>As {@code wrap} is overloaded for every function type, lambdas need an explicit target type,
+ * for example by assigning them to a variable first.</p>
+ *
+ * @since 1.0.0
+ */
+@SuppressWarnings("overloads") // callers pick an overload through the target type of fn
+public final class Instrumented {
+  private Instrumented() {
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the operation
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @return an instrumented operation
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3> @NotNull Consumer3<T1, T2, T3> wrap(final @NotNull String name, final @NotNull Consumer3<T1, T2, T3> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      try {
+        fn.accept(t1, t2, t3);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, null);
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, R> @NotNull Function3<T1, T2, T3, R> wrap(final @NotNull String name, final @NotNull Function3<T1, T2, T3, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, R> @NotNull Function4<T1, T2, T3, T4, R> wrap(final @NotNull String name, final @NotNull Function4<T1, T2, T3, T4, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, R> @NotNull Function5<T1, T2, T3, T4, T5, R> wrap(final @NotNull String name, final @NotNull Function5<T1, T2, T3, T4, T5, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, R> @NotNull Function6<T1, T2, T3, T4, T5, T6, R> wrap(final @NotNull String name, final @NotNull Function6<T1, T2, T3, T4, T5, T6, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, R> @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, R> wrap(final @NotNull String name, final @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, R> @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> wrap(final @NotNull String name, final @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> @NotNull Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> wrap(final @NotNull String name, final @NotNull Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> @NotNull Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> wrap(final @NotNull String name, final @NotNull Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> @NotNull Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> wrap(final @NotNull String name, final @NotNull Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> @NotNull Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> wrap(final @NotNull String name, final @NotNull Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> @NotNull Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> wrap(final @NotNull String name, final @NotNull Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> @NotNull Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> wrap(final @NotNull String name, final @NotNull Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> @NotNull Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> wrap(final @NotNull String name, final @NotNull Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <T16> the 16th argument type
+   * @param <R> the result type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> @NotNull Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> wrap(final @NotNull String name, final @NotNull Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the operation
+   * @param <E> the exception type
+   * @return an instrumented operation
+   * @since 1.0.0
+   */
+  public static <E extends Throwable> @NotNull RunnableE<E> wrap(final @NotNull String name, final @NotNull RunnableE<E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return () -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      try {
+        fn.run();
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, null);
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <R, E extends Throwable> @NotNull SupplierE<R, E> wrap(final @NotNull String name, final @NotNull SupplierE<R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return () -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.get();
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the operation
+   * @param <T1> the 1st argument type
+   * @param <E> the exception type
+   * @return an instrumented operation
+   * @since 1.0.0
+   */
+  public static <T1, E extends Throwable> @NotNull Consumer1E<T1, E> wrap(final @NotNull String name, final @NotNull Consumer1E<T1, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return t1 -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      try {
+        fn.accept(t1);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, null);
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the operation
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <E> the exception type
+   * @return an instrumented operation
+   * @since 1.0.0
+   */
+  public static <T1, T2, E extends Throwable> @NotNull Consumer2E<T1, T2, E> wrap(final @NotNull String name, final @NotNull Consumer2E<T1, T2, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      try {
+        fn.accept(t1, t2);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, null);
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the operation
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <E> the exception type
+   * @return an instrumented operation
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, E extends Throwable> @NotNull Consumer3E<T1, T2, T3, E> wrap(final @NotNull String name, final @NotNull Consumer3E<T1, T2, T3, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      try {
+        fn.accept(t1, t2, t3);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, null);
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, R, E extends Throwable> @NotNull Function1E<T1, R, E> wrap(final @NotNull String name, final @NotNull Function1E<T1, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return t1 -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, R, E extends Throwable> @NotNull Function2E<T1, T2, R, E> wrap(final @NotNull String name, final @NotNull Function2E<T1, T2, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, R, E extends Throwable> @NotNull Function3E<T1, T2, T3, R, E> wrap(final @NotNull String name, final @NotNull Function3E<T1, T2, T3, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, R, E extends Throwable> @NotNull Function4E<T1, T2, T3, T4, R, E> wrap(final @NotNull String name, final @NotNull Function4E<T1, T2, T3, T4, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, R, E extends Throwable> @NotNull Function5E<T1, T2, T3, T4, T5, R, E> wrap(final @NotNull String name, final @NotNull Function5E<T1, T2, T3, T4, T5, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, R, E extends Throwable> @NotNull Function6E<T1, T2, T3, T4, T5, T6, R, E> wrap(final @NotNull String name, final @NotNull Function6E<T1, T2, T3, T4, T5, T6, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, R, E extends Throwable> @NotNull Function7E<T1, T2, T3, T4, T5, T6, T7, R, E> wrap(final @NotNull String name, final @NotNull Function7E<T1, T2, T3, T4, T5, T6, T7, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, R, E extends Throwable> @NotNull Function8E<T1, T2, T3, T4, T5, T6, T7, T8, R, E> wrap(final @NotNull String name, final @NotNull Function8E<T1, T2, T3, T4, T5, T6, T7, T8, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R, E extends Throwable> @NotNull Function9E<T1, T2, T3, T4, T5, T6, T7, T8, T9, R, E> wrap(final @NotNull String name, final @NotNull Function9E<T1, T2, T3, T4, T5, T6, T7, T8, T9, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R, E extends Throwable> @NotNull Function10E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R, E> wrap(final @NotNull String name, final @NotNull Function10E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R, E extends Throwable> @NotNull Function11E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R, E> wrap(final @NotNull String name, final @NotNull Function11E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R, E extends Throwable> @NotNull Function12E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R, E> wrap(final @NotNull String name, final @NotNull Function12E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R, E extends Throwable> @NotNull Function13E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R, E> wrap(final @NotNull String name, final @NotNull Function13E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R, E extends Throwable> @NotNull Function14E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R, E> wrap(final @NotNull String name, final @NotNull Function14E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R, E extends Throwable> @NotNull Function15E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R, E> wrap(final @NotNull String name, final @NotNull Function15E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+
+  /**
+   * Wraps {@code fn} so that its invocations are recorded in the {@link MetricsRegistry#global() global registry} under {@code name}.
+   *
+   * @param name the name
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <T16> the 16th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return an instrumented function
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R, E extends Throwable> @NotNull Function16E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R, E> wrap(final @NotNull String name, final @NotNull Function16E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R, E> fn) {
+    requireNonNull(fn, "fn");
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics(name);
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16) -> {
+      final Object event = metrics.begin();
+      final long start = System.nanoTime();
+      final R result;
+      try {
+        result = fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16);
+      } catch (final Throwable e) {
+        metrics.failure(start, event, e);
+        throw e;
+      }
+      metrics.success(start, event, result);
+      return result;
+    };
+  }
+}
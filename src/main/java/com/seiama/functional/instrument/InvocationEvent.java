@@ -0,0 +1,108 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import com.seiama.functional.adt.either.Either;
+import org.jetbrains.annotations.Nullable;
+// CHECKSTYLE:OFF
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+// CHECKSTYLE:ON
+
+// Disabled by default. When disabled, begin/end/shouldCommit are no-ops and the JIT removes the allocation.
+// Only referenced through InvocationMetrics, which never loads this class when jdk.jfr is absent.
+@Name(InvocationEvent.NAME)
+@Label("Function Invocation")
+@Category({"Functional", "Instrumented"})
+@Description("An invocation of a function wrapped by Instrumented")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("0 ms")
+final class InvocationEvent extends Event {
+  static final String NAME = "com.seiama.functional.Invocation";
+  static final String RETURNED = "returned";
+  static final String LEFT = "left";
+  static final String RIGHT = "right";
+  static final String THREW = "threw";
+
+  @Label("Name")
+  @Description("The name the function was instrumented with")
+  String name;
+
+  @Label("Outcome")
+  @Description("How the invocation completed: returned, left, right or threw")
+  String outcome;
+
+  @Label("Exception Class")
+  @Description("The class of the exception thrown by the invocation, if any")
+  @Nullable Class<?> exceptionClass;
+
+  @Label("Sampling")
+  @Description("Records one in every N invocations")
+  @Name("sampling")
+  @SettingDefinition
+  @SuppressWarnings("unused") // invoked by the recorder
+  boolean sampling(final SamplingControl control) {
+    return control.sample();
+  }
+
+  static InvocationEvent start() {
+    final InvocationEvent event = new InvocationEvent();
+    event.begin();
+    return event;
+  }
+
+  void succeeded(final String functionName, final @Nullable Object result) {
+    this.end();
+    if (this.shouldCommit()) {
+      this.name = functionName;
+      this.outcome = outcome(result);
+      this.commit();
+    }
+  }
+
+  void failed(final String functionName, final Throwable error) {
+    this.end();
+    if (this.shouldCommit()) {
+      this.name = functionName;
+      this.outcome = THREW;
+      this.exceptionClass = error.getClass();
+      this.commit();
+    }
+  }
+
+  static String outcome(final @Nullable Object result) {
+    if (result instanceof Either<?, ?> either) {
+      return either.left().isPresent() ? LEFT : RIGHT;
+    }
+    return RETURNED;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Call counts, error counts and latencies of an instrumented function.
+ *
+ * <p>Invocations are also reported to Java Flight Recorder as {@code com.seiama.functional.Invocation}
+ * events. The event is disabled by default; once enabled, it honours the usual {@code threshold} setting and a
+ * {@code sampling} setting that records one in every {@code N} invocations. The {@code jdk.jfr} module is an
+ * optional dependency of this library; without it, no events are emitted.</p>
+ *
+ * @since 1.0.0
+ * @see Instrumented
+ */
+public final class InvocationMetrics {
+  // jdk.jfr is an optional dependency: InvocationEvent must not be loaded when the module is absent
+  private static final boolean FLIGHT_RECORDER = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+  private final String name;
+  private final Histogram latency = new Histogram();
+  private final LongAdder errors = new LongAdder();
+  private final ConcurrentHashMap<Class<?>, LongAdder> errorsByType = new ConcurrentHashMap<>();
+
+  InvocationMetrics(final String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the name.
+   *
+   * @return the name
+   * @since 1.0.0
+   */
+  public @NotNull String name() {
+    return this.name;
+  }
+
+  /**
+   * Gets the number of completed invocations, successful or not.
+   *
+   * @return the number of invocations
+   * @since 1.0.0
+   */
+  public long calls() {
+    return this.latency.snapshot().count();
+  }
+
+  /**
+   * Gets the number of invocations that threw an exception.
+   *
+   * @return the number of errors
+   * @since 1.0.0
+   */
+  public long errors() {
+    return this.errors.sum();
+  }
+
+  /**
+   * Gets the number of invocations that threw an exception, by exception class name.
+   *
+   * @return the number of errors by exception class name
+   * @since 1.0.0
+   */
+  public @NotNull Map<String, Long> errorsByType() {
+    final Map<String, Long> errors = new TreeMap<>();
+    this.errorsByType.forEach((type, count) -> errors.put(type.getName(), count.sum()));
+    return errors;
+  }
+
+  /**
+   * Takes a snapshot of the invocation latencies, in nanoseconds.
+   *
+   * @return a snapshot
+   * @since 1.0.0
+   */
+  public @NotNull Histogram.Snapshot latency() {
+    return this.latency.snapshot();
+  }
+
+  // the InvocationEvent for an invocation, or null without Java Flight Recorder
+  @Nullable Object begin() {
+    return FLIGHT_RECORDER ? InvocationEvent.start() : null;
+  }
+
+  void success(final long start, final @Nullable Object event, final @Nullable Object result) {
+    this.latency.record(System.nanoTime() - start);
+    if (event != null) {
+      ((InvocationEvent) event).succeeded(this.name, result);
+    }
+  }
+
+  void failure(final long start, final @Nullable Object event, final Throwable error) {
+    this.latency.record(System.nanoTime() - start);
+    if (event != null) {
+      ((InvocationEvent) event).failed(this.name, error);
+    }
+    this.errors.increment();
+    final Class<?> type = error.getClass();
+    LongAdder count = this.errorsByType.get(type);
+    if (count == null) {
+      count = this.errorsByType.computeIfAbsent(type, key -> new LongAdder());
+    }
+    count.increment();
+  }
+}
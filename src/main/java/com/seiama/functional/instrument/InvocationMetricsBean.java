@@ -0,0 +1,85 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.Map;
+
+@SuppressWarnings("checkstyle:MethodName")
+final class InvocationMetricsBean implements InvocationMetricsMXBean {
+  private final InvocationMetrics metrics;
+
+  InvocationMetricsBean(final InvocationMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public String getName() {
+    return this.metrics.name();
+  }
+
+  @Override
+  public long getCalls() {
+    return this.metrics.calls();
+  }
+
+  @Override
+  public long getErrors() {
+    return this.metrics.errors();
+  }
+
+  @Override
+  public Map<String, Long> getErrorsByType() {
+    return this.metrics.errorsByType();
+  }
+
+  @Override
+  public double getMeanNanos() {
+    return this.metrics.latency().mean();
+  }
+
+  @Override
+  public long getMaxNanos() {
+    return this.metrics.latency().max();
+  }
+
+  @Override
+  public long getP50Nanos() {
+    return this.metrics.latency().percentile(0.5);
+  }
+
+  @Override
+  public long getP90Nanos() {
+    return this.metrics.latency().percentile(0.9);
+  }
+
+  @Override
+  public long getP99Nanos() {
+    return this.metrics.latency().percentile(0.99);
+  }
+
+  @Override
+  public long getP999Nanos() {
+    return this.metrics.latency().percentile(0.999);
+  }
+}
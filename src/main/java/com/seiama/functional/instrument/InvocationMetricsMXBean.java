@@ -0,0 +1,117 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link InvocationMetrics}.
+ *
+ * <p>Latencies are reported in nanoseconds.</p>
+ *
+ * @since 1.0.0
+ * @see MetricsRegistry#exportTo(javax.management.MBeanServer)
+ */
+@SuppressWarnings("checkstyle:MethodName") // required by the MXBean naming conventions
+public interface InvocationMetricsMXBean {
+  /**
+   * Gets the name of the instrumented function.
+   *
+   * @return the name
+   * @since 1.0.0
+   */
+  String getName();
+
+  /**
+   * Gets the number of completed invocations.
+   *
+   * @return the number of invocations
+   * @since 1.0.0
+   */
+  long getCalls();
+
+  /**
+   * Gets the number of invocations that threw an exception.
+   *
+   * @return the number of errors
+   * @since 1.0.0
+   */
+  long getErrors();
+
+  /**
+   * Gets the number of invocations that threw an exception, by exception class name.
+   *
+   * @return the number of errors by exception class name
+   * @since 1.0.0
+   */
+  Map<String, Long> getErrorsByType();
+
+  /**
+   * Gets the mean latency.
+   *
+   * @return the mean latency
+   * @since 1.0.0
+   */
+  double getMeanNanos();
+
+  /**
+   * Gets the maximum latency.
+   *
+   * @return the maximum latency
+   * @since 1.0.0
+   */
+  long getMaxNanos();
+
+  /**
+   * Gets the median latency.
+   *
+   * @return the median latency
+   * @since 1.0.0
+   */
+  long getP50Nanos();
+
+  /**
+   * Gets the 90th percentile latency.
+   *
+   * @return the 90th percentile latency
+   * @since 1.0.0
+   */
+  long getP90Nanos();
+
+  /**
+   * Gets the 99th percentile latency.
+   *
+   * @return the 99th percentile latency
+   * @since 1.0.0
+   */
+  long getP99Nanos();
+
+  /**
+   * Gets the 99.9th percentile latency.
+   *
+   * @return the 99.9th percentile latency
+   * @since 1.0.0
+   */
+  long getP999Nanos();
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.function.Consumer;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Everything touching java.management lives here, so that the rest of this package loads without the module.
+final class MBeans {
+  private static final String DOMAIN = "com.seiama.functional";
+
+  private MBeans() {
+  }
+
+  static Consumer<InvocationMetrics> exporter(final MBeanServer server) {
+    return metrics -> register(server, metrics);
+  }
+
+  static ObjectName objectName(final String name) throws JMException {
+    return new ObjectName(DOMAIN + ":type=Instrumented,name=" + ObjectName.quote(name));
+  }
+
+  private static void register(final MBeanServer server, final InvocationMetrics metrics) {
+    try {
+      server.registerMBean(new InvocationMetricsBean(metrics), objectName(metrics.name()));
+    } catch (final InstanceAlreadyExistsException ignored) {
+      // registered concurrently by exportTo and metrics
+    } catch (final JMException e) {
+      throw new IllegalStateException("Could not register metrics " + metrics.name(), e);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.management.MBeanServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A collection of {@link InvocationMetrics}, by name.
+ *
+ * @since 1.0.0
+ */
+public final class MetricsRegistry {
+  private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+  private final ConcurrentHashMap<String, InvocationMetrics> metrics = new ConcurrentHashMap<>();
+  private volatile @Nullable Consumer<InvocationMetrics> exporter;
+
+  private MetricsRegistry() {
+  }
+
+  /**
+   * Gets the registry used by {@link Instrumented}.
+   *
+   * @return the global registry
+   * @since 1.0.0
+   */
+  public static @NotNull MetricsRegistry global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Creates a new, empty registry.
+   *
+   * @return a registry
+   * @since 1.0.0
+   */
+  public static @NotNull MetricsRegistry create() {
+    return new MetricsRegistry();
+  }
+
+  /**
+   * Gets the metrics named {@code name}, creating them if necessary.
+   *
+   * @param name the name
+   * @return the metrics
+   * @since 1.0.0
+   */
+  public @NotNull InvocationMetrics metrics(final @NotNull String name) {
+    requireNonNull(name, "name");
+    final InvocationMetrics existing = this.metrics.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    final InvocationMetrics created = new InvocationMetrics(name);
+    final InvocationMetrics raced = this.metrics.putIfAbsent(name, created);
+    if (raced != null) {
+      return raced;
+    }
+    final Consumer<InvocationMetrics> exporter = this.exporter;
+    if (exporter != null) {
+      exporter.accept(created);
+    }
+    return created;
+  }
+
+  /**
+   * Gets all metrics in this registry.
+   *
+   * @return the metrics
+   * @since 1.0.0
+   */
+  public @NotNull List<InvocationMetrics> all() {
+    return new ArrayList<>(this.metrics.values());
+  }
+
+  /**
+   * Registers an {@link InvocationMetricsMXBean} with {@code server} for all current and future metrics in this registry.
+   *
+   * <p>Beans are named {@code com.seiama.functional:type=Instrumented,name=<name>}. The {@code java.management}
+   * module is an optional dependency of this library, needed only by callers of this method.</p>
+   *
+   * @param server the server
+   * @throws IllegalStateException if this registry is already exported
+   * @since 1.0.0
+   */
+  public synchronized void exportTo(final @NotNull MBeanServer server) {
+    requireNonNull(server, "server");
+    if (this.exporter != null) {
+      throw new IllegalStateException("registry is already exported");
+    }
+    final Consumer<InvocationMetrics> exporter = MBeans.exporter(server);
+    this.exporter = exporter;
+    for (final InvocationMetrics metrics : this.metrics.values()) {
+      exporter.accept(metrics);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+// CHECKSTYLE:OFF
+import jdk.jfr.SettingControl;
+// CHECKSTYLE:ON
+
+// The "sampling" setting of InvocationEvent: a positive integer N, recording one in every N events on average.
+// When several recordings are running, the most detailed setting wins.
+final class SamplingControl extends SettingControl {
+  private static final String DEFAULT = "1";
+  private volatile int rate = 1;
+
+  SamplingControl() {
+  }
+
+  boolean sample() {
+    final int rate = this.rate;
+    return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+  }
+
+  @Override
+  public String combine(final Set<String> values) {
+    int min = Integer.MAX_VALUE;
+    for (final String value : values) {
+      min = Math.min(min, parse(value));
+    }
+    return min == Integer.MAX_VALUE ? DEFAULT : Integer.toString(min);
+  }
+
+  @Override
+  public void setValue(final String value) {
+    this.rate = parse(value);
+  }
+
+  @Override
+  public String getValue() {
+    return Integer.toString(this.rate);
+  }
+
+  private static int parse(final String value) {
+    try {
+      return Math.max(1, Integer.parseInt(value.trim()));
+    } catch (final NumberFormatException e) {
+      return 1;
+    }
+  }
+}
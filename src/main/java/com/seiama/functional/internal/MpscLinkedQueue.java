@@ -0,0 +1,102 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.internal;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An unbounded lock-free queue for many producers and a single consumer.
+ *
+ * <p>Producers swap themselves in as the tail with a single atomic exchange and then link the previous tail to
+ * their node, so offering never retries. Between those two steps the new element is not yet visible to the consumer,
+ * which is why {@link #isEmpty()} may briefly report an empty queue while an offer is in progress.</p>
+ *
+ * <p>This class is not part of the public API.</p>
+ *
+ * @param <E> the element type
+ */
+public final class MpscLinkedQueue<E> {
+  private final AtomicReference<Node<E>> tail;
+  // only accessed by the consumer; always a node whose value has been consumed
+  private Node<E> head;
+
+  /**
+   * Constructs a new queue.
+   */
+  public MpscLinkedQueue() {
+    final Node<E> stub = new Node<>(null);
+    this.head = stub;
+    this.tail = new AtomicReference<>(stub);
+  }
+
+  /**
+   * Adds an element.
+   *
+   * @param element the element
+   */
+  public void offer(final @NotNull E element) {
+    final Node<E> node = new Node<>(element);
+    this.tail.getAndSet(node).next = node;
+  }
+
+  /**
+   * Removes the head element.
+   *
+   * <p>May only be called by the consumer.</p>
+   *
+   * @return the head element, or {@code null} if this queue is empty
+   */
+  public @Nullable E poll() {
+    final Node<E> next = this.head.next;
+    if (next == null) {
+      return null;
+    }
+    final E element = next.value;
+    next.value = null;
+    this.head = next;
+    return element;
+  }
+
+  /**
+   * Checks if this queue has no elements visible to the consumer.
+   *
+   * <p>May only be called by the consumer.</p>
+   *
+   * @return {@code true} if this queue is empty
+   */
+  public boolean isEmpty() {
+    return this.head.next == null;
+  }
+
+  private static final class Node<E> {
+    @Nullable E value;
+    volatile @Nullable Node<E> next;
+
+    Node(final @Nullable E value) {
+      this.value = value;
+    }
+  }
+}
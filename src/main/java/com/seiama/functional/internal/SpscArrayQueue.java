@@ -0,0 +1,118 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded lock-free queue for a single producer and a single consumer.
+ *
+ * <p>A slot is free when it holds {@code null}, so the producer and the consumer never read each other's index.
+ * Either side may move between threads as long as the hand-over establishes a happens-before edge.</p>
+ *
+ * <p>This class is not part of the public API.</p>
+ *
+ * @param <E> the element type
+ */
+public final class SpscArrayQueue<E> {
+  private final AtomicReferenceArray<E> buffer;
+  private final int mask;
+  // only accessed by the producer
+  private long producerIndex;
+  // only accessed by the consumer
+  private long consumerIndex;
+
+  /**
+   * Constructs a new queue.
+   *
+   * @param capacity the minimum capacity, rounded up to a power of two
+   */
+  public SpscArrayQueue(final int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity out of range: " + capacity);
+    }
+    final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+    this.buffer = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * Adds an element, if there is space.
+   *
+   * <p>May only be called by the producer.</p>
+   *
+   * @param element the element
+   * @return {@code true} if the element was added
+   */
+  public boolean offer(final @NotNull E element) {
+    final int offset = (int) this.producerIndex & this.mask;
+    if (this.buffer.get(offset) != null) {
+      return false;
+    }
+    this.buffer.lazySet(offset, element);
+    this.producerIndex++;
+    return true;
+  }
+
+  /**
+   * Removes the head element.
+   *
+   * <p>May only be called by the consumer.</p>
+   *
+   * @return the head element, or {@code null} if this queue is empty
+   */
+  public @Nullable E poll() {
+    final int offset = (int) this.consumerIndex & this.mask;
+    final E element = this.buffer.get(offset);
+    if (element != null) {
+      this.buffer.lazySet(offset, null);
+      this.consumerIndex++;
+    }
+    return element;
+  }
+
+  /**
+   * Gets the head element without removing it.
+   *
+   * <p>May only be called by the consumer.</p>
+   *
+   * @return the head element, or {@code null} if this queue is empty
+   */
+  public @Nullable E peek() {
+    return this.buffer.get((int) this.consumerIndex & this.mask);
+  }
+
+  /**
+   * Removes all elements.
+   *
+   * <p>May only be called by the consumer.</p>
+   */
+  public void clear() {
+    while (this.poll() != null) {
+      // discard
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thread utilities shared by the asynchronous parts of this library.
+ *
+ * <p>This class is not part of the public API.</p>
+ */
+public final class Threads {
+  private static final @Nullable MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+  private Threads() {
+  }
+
+  /**
+   * Checks if virtual threads are available on the running JVM.
+   *
+   * @return {@code true} if virtual threads are available
+   */
+  public static boolean virtualThreadsAvailable() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an executor that starts a new thread for each task.
+   *
+   * <p>Virtual threads are used when the running JVM supports them, otherwise
+   * idle daemon threads are reused across tasks.</p>
+   *
+   * @param name the thread name prefix
+   * @return an executor
+   */
+  public static @NotNull ExecutorService perTaskExecutor(final @NotNull String name) {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+      try {
+        return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+      } catch (final Throwable ignored) {
+        // fall through to platform threads
+      }
+    }
+    return Executors.newCachedThreadPool(daemonThreadFactory(name));
+  }
+
+  /**
+   * Gets the shared timer used to schedule delayed actions.
+   *
+   * <p>Scheduled actions must be short, as they run on a single daemon thread.</p>
+   *
+   * @return the timer
+   */
+  public static @NotNull ScheduledExecutorService timer() {
+    return Timer.INSTANCE;
+  }
+
+  /**
+   * Creates a thread factory producing daemon platform threads.
+   *
+   * @param name the thread name prefix
+   * @return a thread factory
+   */
+  public static @NotNull ThreadFactory daemonThreadFactory(final @NotNull String name) {
+    final AtomicInteger count = new AtomicInteger();
+    return task -> {
+      final Thread thread = new Thread(task, name + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static @Nullable MethodHandle findVirtualThreadPerTaskExecutor() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static final class Timer {
+    static final ScheduledExecutorService INSTANCE = createTimer();
+
+    private static ScheduledExecutorService createTimer() {
+      final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("functional-timer-"));
+      timer.setRemoveOnCancelPolicy(true);
+      return timer;
+    }
+  }
+}
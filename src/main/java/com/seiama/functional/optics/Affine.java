@@ -0,0 +1,120 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.optics;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A focus on a part of type {@code A} that a value of type {@code S} may or may not have.
+ *
+ * <p>Affines are what a {@link Lens} composed with a {@link Prism} produces. Setting the part of a value that does not
+ * have it returns the value unchanged.</p>
+ *
+ * @param <S> the whole type
+ * @param <A> the part type
+ * @since 1.0.0
+ */
+public interface Affine<S, A> {
+  /**
+   * Creates an affine from a getter and a setter.
+   *
+   * @param getter the getter
+   * @param setter the function returning a copy of the whole with the part replaced, or the whole if it has no part
+   * @param <S> the whole type
+   * @param <A> the part type
+   * @return an affine
+   * @since 1.0.0
+   */
+  static <S, A> @NotNull Affine<S, A> of(final @NotNull Function<? super S, ? extends Optional<? extends A>> getter, final @NotNull BiFunction<? super S, ? super A, ? extends S> setter) {
+    requireNonNull(getter, "getter");
+    requireNonNull(setter, "setter");
+    return new Affine<>() {
+      @Override
+      @SuppressWarnings("unchecked") // Optional is immutable, so widening its type is safe
+      public @NotNull Optional<A> getOption(final S whole) {
+        return (Optional<A>) getter.apply(whole);
+      }
+
+      @Override
+      public S set(final S whole, final A part) {
+        return setter.apply(whole, part);
+      }
+    };
+  }
+
+  /**
+   * Gets the part of {@code whole}, if it has one.
+   *
+   * @param whole the whole
+   * @return the part, or empty
+   * @since 1.0.0
+   */
+  @NotNull Optional<A> getOption(final S whole);
+
+  /**
+   * Creates a copy of {@code whole} with its part replaced by {@code part}, or returns {@code whole} if it has no part.
+   *
+   * @param whole the whole
+   * @param part the new part
+   * @return the updated whole
+   * @since 1.0.0
+   */
+  S set(final S whole, final A part);
+
+  /**
+   * Creates a copy of {@code whole} with its part replaced by the result of applying {@code fn} to it, or returns
+   * {@code whole} if it has no part.
+   *
+   * @param whole the whole
+   * @param fn the function
+   * @return the updated whole
+   * @since 1.0.0
+   */
+  default S modify(final S whole, final @NotNull Function<? super A, ? extends A> fn) {
+    requireNonNull(fn, "fn");
+    final Optional<A> part = this.getOption(whole);
+    return part.isPresent() ? this.set(whole, fn.apply(part.get())) : whole;
+  }
+
+  /**
+   * Creates an affine focusing on the part {@code next} focuses on, within the part of this affine.
+   *
+   * @param next the affine into the part
+   * @param <B> the new part type
+   * @return an affine
+   * @since 1.0.0
+   */
+  default <B> @NotNull Affine<S, B> andThen(final @NotNull Affine<A, B> next) {
+    requireNonNull(next, "next");
+    return of(
+      whole -> this.getOption(whole).flatMap(next::getOption),
+      (whole, part) -> this.modify(whole, inner -> next.set(inner, part))
+    );
+  }
+}
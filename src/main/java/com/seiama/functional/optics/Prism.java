@@ -0,0 +1,187 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.optics;
+
+import com.seiama.functional.adt.either.Either;
+import java.util.Optional;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A focus on one case of type {@code A} of a sum type {@code S}.
+ *
+ * <p>A prism can {@link #preview(Object) extract} its case from a value that matches it, and
+ * {@link #review(Object) build} a value of the sum type from the case.</p>
+ *
+ * @param <S> the sum type
+ * @param <A> the case type
+ * @since 1.0.0
+ */
+public interface Prism<S, A> {
+  /**
+   * Creates a prism from a matching function and a constructor.
+   *
+   * @param preview the function extracting the case, or returning empty if the value does not match it
+   * @param review the function building a value from the case
+   * @param <S> the sum type
+   * @param <A> the case type
+   * @return a prism
+   * @since 1.0.0
+   */
+  static <S, A> @NotNull Prism<S, A> of(final @NotNull Function<? super S, ? extends Optional<? extends A>> preview, final @NotNull Function<? super A, ? extends S> review) {
+    requireNonNull(preview, "preview");
+    requireNonNull(review, "review");
+    return new Prism<>() {
+      @Override
+      @SuppressWarnings("unchecked") // Optional is immutable, so widening its type is safe
+      public @NotNull Optional<A> preview(final S whole) {
+        return (Optional<A>) preview.apply(whole);
+      }
+
+      @Override
+      public S review(final A part) {
+        return review.apply(part);
+      }
+    };
+  }
+
+  /**
+   * Gets a prism focusing on the left case of an {@link Either}.
+   *
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a prism
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Prism<Either<L, R>, L> left() {
+    return of(either -> either.left(), Either::left);
+  }
+
+  /**
+   * Gets a prism focusing on the right case of an {@link Either}.
+   *
+   * @param <L> the left type
+   * @param <R> the right type
+   * @return a prism
+   * @since 1.0.0
+   */
+  static <L, R> @NotNull Prism<Either<L, R>, R> right() {
+    return of(either -> either.right(), Either::right);
+  }
+
+  /**
+   * Gets a prism focusing on the value of a present {@link Optional}.
+   *
+   * @param <A> the value type
+   * @return a prism
+   * @since 1.0.0
+   */
+  static <A> @NotNull Prism<Optional<A>, A> present() {
+    return of(Function.identity(), Optional::of);
+  }
+
+  /**
+   * Gets a prism focusing on the values of {@code S} that are instances of {@code type}, such as one case of a
+   * sealed interface.
+   *
+   * @param type the case type
+   * @param <S> the sum type
+   * @param <A> the case type
+   * @return a prism
+   * @since 1.0.0
+   */
+  static <S, A extends S> @NotNull Prism<S, A> instanceOf(final @NotNull Class<A> type) {
+    requireNonNull(type, "type");
+    return of(whole -> type.isInstance(whole) ? Optional.of(type.cast(whole)) : Optional.empty(), part -> part);
+  }
+
+  /**
+   * Extracts the case from {@code whole}, if it matches.
+   *
+   * @param whole the value
+   * @return the case, or empty
+   * @since 1.0.0
+   */
+  @NotNull Optional<A> preview(final S whole);
+
+  /**
+   * Builds a value from the case {@code part}.
+   *
+   * @param part the case
+   * @return the value
+   * @since 1.0.0
+   */
+  S review(final A part);
+
+  /**
+   * Applies {@code fn} to the case of {@code whole} and rebuilds the value, or returns {@code whole} if it does not match.
+   *
+   * @param whole the value
+   * @param fn the function
+   * @return the updated value
+   * @since 1.0.0
+   */
+  default S modify(final S whole, final @NotNull Function<? super A, ? extends A> fn) {
+    requireNonNull(fn, "fn");
+    final Optional<A> part = this.preview(whole);
+    return part.isPresent() ? this.review(fn.apply(part.get())) : whole;
+  }
+
+  /**
+   * Creates a prism focusing on the case {@code next} focuses on, within the case of this prism.
+   *
+   * @param next the prism into the case
+   * @param <B> the new case type
+   * @return a prism
+   * @since 1.0.0
+   */
+  default <B> @NotNull Prism<S, B> andThen(final @NotNull Prism<A, B> next) {
+    requireNonNull(next, "next");
+    return of(whole -> this.preview(whole).flatMap(next::preview), part -> this.review(next.review(part)));
+  }
+
+  /**
+   * Creates an affine focusing on the part {@code next} focuses on, within the case of this prism.
+   *
+   * @param next the lens into the case
+   * @param <B> the new part type
+   * @return an affine
+   * @since 1.0.0
+   */
+  default <B> @NotNull Affine<S, B> andThen(final @NotNull Lens<A, B> next) {
+    return this.asAffine().andThen(next.asAffine());
+  }
+
+  /**
+   * Views this prism as an affine.
+   *
+   * @return an affine
+   * @since 1.0.0
+   */
+  default @NotNull Affine<S, A> asAffine() {
+    return Affine.of(this::preview, (whole, part) -> this.preview(whole).isPresent() ? this.review(part) : whole);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.optics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// A lens on a record component, backed by method handles on its accessors and canonical constructor.
+// This is a record because the JIT trusts record fields as constants: reached through a static final field, both
+// method handles fold away and get/set compile down to the accessor and constructor calls.
+record RecordLens<S, A>(Class<?> componentType, MethodHandle getter, MethodHandle setter) implements Lens<S, A> {
+  private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER = MethodType.methodType(Object.class, Object.class, Object.class);
+  private static final ClassValue<Map<String, RecordLens<?, ?>>> CACHE = new ClassValue<>() {
+    @Override
+    protected Map<String, RecordLens<?, ?>> computeValue(final Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  @SuppressWarnings("unchecked")
+  static <S extends Record, A> RecordLens<S, A> of(final MethodHandles.Lookup lookup, final Class<S> type, final String component, final Class<? super A> componentType) {
+    if (!type.isRecord()) {
+      throw new IllegalArgumentException(type.getName() + " is not a record");
+    }
+    try {
+      // lenses are shared between callers, so each caller must prove access to the record itself
+      lookup.accessClass(type);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalArgumentException("Cannot access " + type.getName(), e);
+    }
+    final RecordLens<?, ?> lens = CACHE.get(type).computeIfAbsent(component, name -> create(lookup, type, name));
+    if (lens.componentType != componentType) {
+      throw new IllegalArgumentException("Component " + component + " of " + type.getName() + " is a " + lens.componentType.getName() + ", not a " + componentType.getName());
+    }
+    return (RecordLens<S, A>) lens;
+  }
+
+  private static RecordLens<?, ?> create(final MethodHandles.Lookup lookup, final Class<?> type, final String name) {
+    final RecordComponent[] components = type.getRecordComponents();
+    final Class<?>[] types = new Class<?>[components.length];
+    final MethodHandle[] accessors = new MethodHandle[components.length];
+    int index = -1;
+    try {
+      for (int i = 0; i < components.length; i++) {
+        types[i] = components[i].getType();
+        accessors[i] = lookup.unreflect(components[i].getAccessor());
+        if (components[i].getName().equals(name)) {
+          index = i;
+        }
+      }
+      if (index == -1) {
+        throw new IllegalArgumentException(type.getName() + " has no component " + name);
+      }
+      final MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types));
+      // read every other component from the record being copied, then route that record and the new value into place
+      final MethodHandle[] filters = accessors.clone();
+      filters[index] = null;
+      final MethodHandle copy = MethodHandles.filterArguments(constructor, 0, filters);
+      final int[] reorder = new int[components.length];
+      reorder[index] = 1;
+      final MethodHandle setter = MethodHandles.permuteArguments(copy, MethodType.methodType(type, type, types[index]), reorder);
+      return new RecordLens<>(MethodType.methodType(types[index]).wrap().returnType(), accessors[index].asType(GETTER), setter.asType(SETTER));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalArgumentException("Cannot access the components of " + type.getName(), e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public A get(final S whole) {
+    try {
+      return (A) this.getter.invokeExact((Object) whole);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public S set(final S whole, final A part) {
+    try {
+      return (S) this.setter.invokeExact((Object) whole, (Object) part);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new UndeclaredThrowableException(e);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+
+// A view of a byte buffer as ISO-8859-1 characters, read with absolute indices so the buffer's position is untouched.
+final class ByteText implements CharSequence {
+  private final ByteBuffer buffer;
+
+  ByteText(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public int length() {
+    return this.buffer.limit();
+  }
+
+  @Override
+  public char charAt(final int index) {
+    return (char) (this.buffer.get(index) & 0xFF);
+  }
+
+  @Override
+  public @NotNull CharSequence subSequence(final int start, final int end) {
+    return new Slice(this, start, end);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    final char[] chars = new char[this.buffer.limit()];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = this.charAt(i);
+    }
+    return new String(chars);
+  }
+}
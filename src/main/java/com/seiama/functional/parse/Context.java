@@ -0,0 +1,151 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// The state of a single parse: the input, the value produced by the last successful parser, and the furthest failure.
+final class Context {
+  final CharSequence text;
+  final int start;
+  final int end;
+  Object value;
+  private int errorOffset = -1;
+  private final Set<String> expected = new LinkedHashSet<>();
+  private int silent;
+  // the memo tables of the memoized parsers run so far, open addressed by parser id
+  private int[] memoIds;
+  private Memo[] memos;
+  private int memoCount;
+
+  Context(final CharSequence text, final int start, final int end) {
+    this.text = text;
+    this.start = start;
+    this.end = end;
+  }
+
+  void fail(final int offset, final String expected) {
+    if (this.silent > 0) {
+      return;
+    }
+    if (offset > this.errorOffset) {
+      this.errorOffset = offset;
+      this.expected.clear();
+    }
+    if (offset == this.errorOffset) {
+      this.expected.add(expected);
+    }
+  }
+
+  void silence() {
+    this.silent++;
+  }
+
+  void unsilence() {
+    this.silent--;
+  }
+
+  Memo memo(final int id) {
+    if (this.memos == null) {
+      this.memoIds = new int[8];
+      this.memos = new Memo[8];
+    }
+    final int mask = this.memos.length - 1;
+    int slot = id & mask;
+    while (this.memos[slot] != null) {
+      if (this.memoIds[slot] == id) {
+        return this.memos[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    final Memo memo = new Memo(this.start, this.end);
+    if (++this.memoCount * 2 > this.memos.length) {
+      this.growMemos();
+      this.insertMemo(id, memo);
+    } else {
+      this.memoIds[slot] = id;
+      this.memos[slot] = memo;
+    }
+    return memo;
+  }
+
+  ParseError error() {
+    return new ParseError(this.errorOffset, Collections.unmodifiableSet(new LinkedHashSet<>(this.expected)));
+  }
+
+  private void growMemos() {
+    final int[] oldIds = this.memoIds;
+    final Memo[] oldMemos = this.memos;
+    this.memoIds = new int[oldIds.length * 2];
+    this.memos = new Memo[oldMemos.length * 2];
+    for (int i = 0; i < oldMemos.length; i++) {
+      if (oldMemos[i] != null) {
+        this.insertMemo(oldIds[i], oldMemos[i]);
+      }
+    }
+  }
+
+  private void insertMemo(final int id, final Memo memo) {
+    final int mask = this.memos.length - 1;
+    int slot = id & mask;
+    while (this.memos[slot] != null) {
+      slot = (slot + 1) & mask;
+    }
+    this.memoIds[slot] = id;
+    this.memos[slot] = memo;
+  }
+
+  // The outcomes of one memoized parser, indexed by the offset it started at.
+  static final class Memo {
+    private final int start;
+    // the end offset plus two, so that zero means not yet run and one means failed
+    private final int[] ends;
+    private final Object[] values;
+
+    Memo(final int start, final int end) {
+      this.start = start;
+      this.ends = new int[end - start + 1];
+      this.values = new Object[end - start + 1];
+    }
+
+    boolean contains(final int offset) {
+      return this.ends[offset - this.start] != 0;
+    }
+
+    int end(final int offset) {
+      return this.ends[offset - this.start] - 2;
+    }
+
+    Object value(final int offset) {
+      return this.values[offset - this.start];
+    }
+
+    void put(final int offset, final int end, final Object value) {
+      this.ends[offset - this.start] = end + 2;
+      this.values[offset - this.start] = value;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The reason a parse failed: the furthest offset any parser reached before failing, and what was expected there.
+ *
+ * @param offset the offset in the input
+ * @param expected descriptions of what was expected at {@code offset}, in the order they were first reported
+ * @since 1.0.0
+ */
+public record ParseError(int offset, @NotNull Set<String> expected) {
+  /**
+   * Gets a human readable description of this error.
+   *
+   * @return the message
+   * @since 1.0.0
+   */
+  public @NotNull String message() {
+    return "expected " + String.join(" or ", this.expected) + " at offset " + this.offset;
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import com.seiama.functional.adt.either.Either;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A parser of values of type {@code T}.
+ *
+ * <p>Parsers work directly on the input through integer offsets, without copying it: text matched by
+ * {@link Parsers#takeWhile(java.util.function.IntPredicate) takeWhile} or {@link Parsers#span(Parser) span} is
+ * returned as a view of the input. A parser that fails reports it with a sentinel offset rather than a result
+ * object, so backtracking through {@link #or(Parser) alternatives} allocates nothing; a {@link ParseError} is only
+ * built once the whole parse has failed, describing the furthest point any parser reached.</p>
+ *
+ * <p>Alternatives are ordered, as in a parsing expression grammar: the first alternative that succeeds wins, even
+ * if a later one would have consumed more input. Parsers reached repeatedly at the same offset through different
+ * alternatives can be {@link #memo() memoized}, which bounds the cost of heavily backtracking grammars.</p>
+ *
+ * <p>Parsers are immutable and can be shared between threads.</p>
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public final class Parser<T> {
+  static final int FAILED = -1;
+  private static final AtomicInteger IDS = new AtomicInteger();
+  private final Step step;
+
+  Parser(final Step step) {
+    this.step = step;
+  }
+
+  /**
+   * Parses the whole of {@code input}.
+   *
+   * @param input the input
+   * @return the value, or the reason the input could not be parsed
+   * @since 1.0.0
+   */
+  public @NotNull Either<ParseError, T> parse(final @NotNull CharSequence input) {
+    return this.parse(input, 0, requireNonNull(input, "input").length());
+  }
+
+  /**
+   * Parses the characters of {@code input} from {@code start} to {@code end}.
+   *
+   * <p>Offsets reported in errors are offsets in {@code input}.</p>
+   *
+   * @param input the input
+   * @param start the start offset, inclusive
+   * @param end the end offset, exclusive
+   * @return the value, or the reason the input could not be parsed
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   * @since 1.0.0
+   */
+  public @NotNull Either<ParseError, T> parse(final @NotNull CharSequence input, final int start, final int end) {
+    Objects.checkFromToIndex(start, end, input.length());
+    return this.run(new Context(input, start, end));
+  }
+
+  /**
+   * Parses the bytes of {@code input} from its position to its limit, as ISO-8859-1 characters.
+   *
+   * <p>The buffer's position is not changed. Offsets reported in errors are indices in the buffer.</p>
+   *
+   * @param input the input
+   * @return the value, or the reason the input could not be parsed
+   * @since 1.0.0
+   */
+  public @NotNull Either<ParseError, T> parse(final @NotNull ByteBuffer input) {
+    return this.run(new Context(new ByteText(input), input.position(), input.limit()));
+  }
+
+  /**
+   * Creates a parser that applies {@code fn} to the value of this parser.
+   *
+   * @param fn the function
+   * @param <R> the new value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public <R> @NotNull Parser<R> map(final @NotNull Function<? super T, ? extends R> fn) {
+    requireNonNull(fn, "fn");
+    return new Parser<>((context, offset) -> {
+      final int end = this.step.apply(context, offset);
+      if (end != FAILED) {
+        context.value = fn.apply((T) context.value);
+      }
+      return end;
+    });
+  }
+
+  /**
+   * Creates a parser that produces {@code value} if this parser succeeds.
+   *
+   * @param value the value
+   * @param <R> the new value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public <R> @NotNull Parser<R> as(final @NotNull R value) {
+    requireNonNull(value, "value");
+    return new Parser<>((context, offset) -> {
+      final int end = this.step.apply(context, offset);
+      if (end != FAILED) {
+        context.value = value;
+      }
+      return end;
+    });
+  }
+
+  /**
+   * Creates a parser that tries this parser, then {@code other} from the same offset if this parser fails.
+   *
+   * @param other the alternative
+   * @return a parser
+   * @since 1.0.0
+   */
+  public @NotNull Parser<T> or(final @NotNull Parser<? extends T> other) {
+    requireNonNull(other, "other");
+    return new Parser<>((context, offset) -> {
+      final int end = this.step.apply(context, offset);
+      return end != FAILED ? end : other.step.apply(context, offset);
+    });
+  }
+
+  /**
+   * Creates a parser that runs this parser then {@code next}, keeping the value of {@code next}.
+   *
+   * @param next the next parser
+   * @param <R> the new value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public <R> @NotNull Parser<R> then(final @NotNull Parser<R> next) {
+    requireNonNull(next, "next");
+    return new Parser<>((context, offset) -> {
+      final int end = this.step.apply(context, offset);
+      return end == FAILED ? FAILED : next.step.apply(context, end);
+    });
+  }
+
+  /**
+   * Creates a parser that runs this parser then {@code next}, keeping the value of this parser.
+   *
+   * @param next the next parser
+   * @return a parser
+   * @since 1.0.0
+   */
+  public @NotNull Parser<T> skip(final @NotNull Parser<?> next) {
+    requireNonNull(next, "next");
+    return new Parser<>((context, offset) -> {
+      final int end = this.step.apply(context, offset);
+      if (end == FAILED) {
+        return FAILED;
+      }
+      final Object value = context.value;
+      final int after = next.step.apply(context, end);
+      context.value = value;
+      return after;
+    });
+  }
+
+  /**
+   * Creates a parser that runs {@code open}, this parser, then {@code close}, keeping the value of this parser.
+   *
+   * @param open the opening parser
+   * @param close the closing parser
+   * @return a parser
+   * @since 1.0.0
+   */
+  public @NotNull Parser<T> between(final @NotNull Parser<?> open, final @NotNull Parser<?> close) {
+    return open.then(this).skip(close);
+  }
+
+  /**
+   * Creates a parser that runs this parser as many times as it succeeds, collecting its values.
+   *
+   * <p>Repetition stops early if this parser succeeds without consuming input, which would otherwise loop forever.</p>
+   *
+   * @return a parser of a possibly empty, unmodifiable list
+   * @since 1.0.0
+   */
+  public @NotNull Parser<List<T>> many() {
+    return this.repeat(0, null);
+  }
+
+  /**
+   * Creates a parser that runs this parser as many times as it succeeds, at least once, collecting its values.
+   *
+   * @return a parser of a non-empty, unmodifiable list
+   * @since 1.0.0
+   */
+  public @NotNull Parser<List<T>> many1() {
+    return this.repeat(1, null);
+  }
+
+  /**
+   * Creates a parser that runs this parser as many times as it succeeds, separated by {@code separator}, collecting
+   * its values.
+   *
+   * @param separator the separator
+   * @return a parser of a possibly empty, unmodifiable list
+   * @since 1.0.0
+   */
+  public @NotNull Parser<List<T>> sepBy(final @NotNull Parser<?> separator) {
+    return this.repeat(0, requireNonNull(separator, "separator"));
+  }
+
+  /**
+   * Creates a parser that runs this parser as many times as it succeeds, at least once, separated by
+   * {@code separator}, collecting its values.
+   *
+   * @param separator the separator
+   * @return a parser of a non-empty, unmodifiable list
+   * @since 1.0.0
+   */
+  public @NotNull Parser<List<T>> sepBy1(final @NotNull Parser<?> separator) {
+    return this.repeat(1, requireNonNull(separator, "separator"));
+  }
+
+  /**
+   * Creates a parser that runs this parser if it can, producing empty without consuming input otherwise.
+   *
+   * @return a parser
+   * @since 1.0.0
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull Parser<Optional<T>> optional() {
+    return new Parser<>((context, offset) -> {
+      final int end = this.step.apply(context, offset);
+      if (end == FAILED) {
+        context.value = Optional.empty();
+        return offset;
+      }
+      context.value = Optional.of((T) context.value);
+      return end;
+    });
+  }
+
+  /**
+   * Creates a parser that reports failures of this parser as expecting {@code name}, rather than whatever failed
+   * within it.
+   *
+   * @param name the name
+   * @return a parser
+   * @since 1.0.0
+   */
+  public @NotNull Parser<T> label(final @NotNull String name) {
+    requireNonNull(name, "name");
+    return new Parser<>((context, offset) -> {
+      context.silence();
+      final int end;
+      try {
+        end = this.step.apply(context, offset);
+      } finally {
+        context.unsilence();
+      }
+      if (end == FAILED) {
+        context.fail(offset, name);
+      }
+      return end;
+    });
+  }
+
+  /**
+   * Creates a parser that remembers the outcome of this parser at each offset for the duration of a parse, so that
+   * it runs at most once per offset however often the grammar backtracks to it.
+   *
+   * <p>Failures are remembered without the errors reported while reaching them, so memoized parsers should be
+   * {@link #label(String) labelled}.</p>
+   *
+   * @return a parser
+   * @since 1.0.0
+   */
+  public @NotNull Parser<T> memo() {
+    final int id = IDS.getAndIncrement();
+    return new Parser<>((context, offset) -> {
+      final Context.Memo memo = context.memo(id);
+      if (memo.contains(offset)) {
+        context.value = memo.value(offset);
+        return memo.end(offset);
+      }
+      final int end = this.step.apply(context, offset);
+      memo.put(offset, end, end == FAILED ? null : context.value);
+      return end;
+    });
+  }
+
+  int apply(final Context context, final int offset) {
+    return this.step.apply(context, offset);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Either<ParseError, T> run(final Context context) {
+    final int end = this.step.apply(context, context.start);
+    if (end == context.end) {
+      return Either.right((T) context.value);
+    } else if (end != FAILED) {
+      context.fail(end, "end of input");
+    }
+    return Either.left(context.error());
+  }
+
+  @SuppressWarnings("unchecked")
+  private Parser<List<T>> repeat(final int min, final Parser<?> separator) {
+    return new Parser<>((context, offset) -> {
+      final List<T> values = new ArrayList<>();
+      int position = offset;
+      while (true) {
+        int next = position;
+        if (separator != null && !values.isEmpty()) {
+          next = separator.step.apply(context, next);
+          if (next == FAILED) {
+            break;
+          }
+        }
+        next = this.step.apply(context, next);
+        if (next == FAILED) {
+          break;
+        }
+        values.add((T) context.value);
+        if (next == position) {
+          break;
+        }
+        position = next;
+      }
+      if (values.size() < min) {
+        return FAILED;
+      }
+      context.value = Collections.unmodifiableList(values);
+      return position;
+    });
+  }
+
+  // the parsing function: the offset after the match with its value in the context, or FAILED
+  @FunctionalInterface
+  interface Step {
+    int apply(final Context context, final int offset);
+  }
+}
@@ -0,0 +1,824 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.function.Function10;
+import com.seiama.functional.function.Function11;
+import com.seiama.functional.function.Function12;
+import com.seiama.functional.function.Function13;
+import com.seiama.functional.function.Function14;
+import com.seiama.functional.function.Function15;
+import com.seiama.functional.function.Function16;
+import com.seiama.functional.function.Function3;
+import com.seiama.functional.function.Function4;
+import com.seiama.functional.function.Function5;
+import com.seiama.functional.function.Function6;
+import com.seiama.functional.function.Function7;
+import com.seiama.functional.function.Function8;
+import com.seiama.functional.function.Function9;
+import com.seiama.functional.function.VarFunction;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static com.seiama.functional.parse.Parser.FAILED;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Primitive {@link Parser}s and ways of combining them.
+ *
+ * @since 1.0.0
+ */
+public final class Parsers {
+  private static final Parser<Unit> END = new Parser<>((context, offset) -> {
+    if (offset == context.end) {
+      context.value = Unit.INSTANCE;
+      return offset;
+    }
+    context.fail(offset, "end of input");
+    return FAILED;
+  });
+  private static final Parser<Unit> WHITESPACE = skipWhile(Character::isWhitespace);
+  private static final Parser<Integer> INTEGER = new Parser<>(Parsers::integer);
+
+  private Parsers() {
+  }
+
+  /**
+   * Creates a parser that produces {@code value} without consuming input.
+   *
+   * @param value the value
+   * @param <T> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Parser<T> pure(final @NotNull T value) {
+    requireNonNull(value, "value");
+    return new Parser<>((context, offset) -> {
+      context.value = value;
+      return offset;
+    });
+  }
+
+  /**
+   * Creates a parser that always fails, expecting {@code expected}.
+   *
+   * @param expected a description of what was expected
+   * @param <T> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Parser<T> fail(final @NotNull String expected) {
+    requireNonNull(expected, "expected");
+    return new Parser<>((context, offset) -> {
+      context.fail(offset, expected);
+      return FAILED;
+    });
+  }
+
+  /**
+   * Gets a parser that succeeds only at the end of the input.
+   *
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<Unit> end() {
+    return END;
+  }
+
+  /**
+   * Creates a parser matching the character {@code c}.
+   *
+   * @param c the character
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<Character> character(final char c) {
+    return satisfy(ch -> ch == c, "'" + c + "'");
+  }
+
+  /**
+   * Creates a parser matching any character that satisfies {@code predicate}.
+   *
+   * @param predicate the predicate
+   * @param expected a description of the characters matched
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<Character> satisfy(final @NotNull IntPredicate predicate, final @NotNull String expected) {
+    requireNonNull(predicate, "predicate");
+    requireNonNull(expected, "expected");
+    return new Parser<>((context, offset) -> {
+      if (offset < context.end) {
+        final char c = context.text.charAt(offset);
+        if (predicate.test(c)) {
+          context.value = c;
+          return offset + 1;
+        }
+      }
+      context.fail(offset, expected);
+      return FAILED;
+    });
+  }
+
+  /**
+   * Creates a parser matching the string {@code string}, producing it.
+   *
+   * @param string the string
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<String> string(final @NotNull String string) {
+    requireNonNull(string, "string");
+    final String expected = '"' + string + '"';
+    return new Parser<>((context, offset) -> {
+      final int length = string.length();
+      if (context.end - offset >= length) {
+        final CharSequence text = context.text;
+        int i = 0;
+        while (i < length && text.charAt(offset + i) == string.charAt(i)) {
+          i++;
+        }
+        if (i == length) {
+          context.value = string;
+          return offset + length;
+        }
+      }
+      context.fail(offset, expected);
+      return FAILED;
+    });
+  }
+
+  /**
+   * Creates a parser matching the longest, possibly empty, run of characters that satisfy {@code predicate}.
+   *
+   * @param predicate the predicate
+   * @return a parser producing a view of the matched characters
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<CharSequence> takeWhile(final @NotNull IntPredicate predicate) {
+    return span(skipWhile(predicate));
+  }
+
+  /**
+   * Creates a parser matching the longest run of at least one character that satisfies {@code predicate}.
+   *
+   * @param predicate the predicate
+   * @param expected a description of the characters matched
+   * @return a parser producing a view of the matched characters
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<CharSequence> takeWhile1(final @NotNull IntPredicate predicate, final @NotNull String expected) {
+    requireNonNull(expected, "expected");
+    final Parser<CharSequence> parser = takeWhile(predicate);
+    return new Parser<>((context, offset) -> {
+      final int end = parser.apply(context, offset);
+      if (end == offset) {
+        context.fail(offset, expected);
+        return FAILED;
+      }
+      return end;
+    });
+  }
+
+  /**
+   * Creates a parser skipping the longest, possibly empty, run of characters that satisfy {@code predicate}.
+   *
+   * @param predicate the predicate
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<Unit> skipWhile(final @NotNull IntPredicate predicate) {
+    requireNonNull(predicate, "predicate");
+    return new Parser<>((context, offset) -> {
+      final CharSequence text = context.text;
+      int end = offset;
+      while (end < context.end && predicate.test(text.charAt(end))) {
+        end++;
+      }
+      context.value = Unit.INSTANCE;
+      return end;
+    });
+  }
+
+  /**
+   * Gets a parser skipping any whitespace.
+   *
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<Unit> whitespace() {
+    return WHITESPACE;
+  }
+
+  /**
+   * Gets a parser matching a decimal integer with an optional leading minus sign, without copying its digits.
+   *
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<Integer> integer() {
+    return INTEGER;
+  }
+
+  /**
+   * Creates a parser that runs {@code parser}, producing a view of the input it matched instead of its value.
+   *
+   * @param parser the parser
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static @NotNull Parser<CharSequence> span(final @NotNull Parser<?> parser) {
+    requireNonNull(parser, "parser");
+    return new Parser<>((context, offset) -> {
+      final int end = parser.apply(context, offset);
+      if (end != FAILED) {
+        context.value = new Slice(context.text, offset, end);
+      }
+      return end;
+    });
+  }
+
+  /**
+   * Creates a parser that tries each of {@code parsers} in turn from the same offset, producing the value of the
+   * first that succeeds.
+   *
+   * @param parsers the alternatives
+   * @param <T> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <T> @NotNull Parser<T> oneOf(final @NotNull Parser<? extends T> @NotNull... parsers) {
+    final Parser<?>[] alternatives = parsers.clone();
+    for (final Parser<?> parser : alternatives) {
+      requireNonNull(parser, "parser");
+    }
+    return new Parser<>((context, offset) -> {
+      for (final Parser<?> parser : alternatives) {
+        final int end = parser.apply(context, offset);
+        if (end != FAILED) {
+          return end;
+        }
+      }
+      return FAILED;
+    });
+  }
+
+  /**
+   * Creates a parser that defers to the parser supplied by {@code supplier}, for recursive grammars.
+   *
+   * <p>The supplier is called once, the first time the parser runs.</p>
+   *
+   * @param supplier the parser supplier
+   * @param <T> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Parser<T> lazy(final @NotNull Supplier<Parser<T>> supplier) {
+    requireNonNull(supplier, "supplier");
+    final Lazy<T> lazy = new Lazy<>(supplier);
+    return new Parser<>((context, offset) -> lazy.get().apply(context, offset));
+  }
+
+  /**
+   * Creates a parser that runs 2 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, R> @NotNull Parser<R> seq2(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull BiFunction<T1, T2, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2);
+  }
+
+  /**
+   * Creates a parser that runs 3 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, R> @NotNull Parser<R> seq3(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Function3<T1, T2, T3, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3);
+  }
+
+  /**
+   * Creates a parser that runs 4 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, R> @NotNull Parser<R> seq4(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Function4<T1, T2, T3, T4, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4);
+  }
+
+  /**
+   * Creates a parser that runs 5 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, R> @NotNull Parser<R> seq5(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Function5<T1, T2, T3, T4, T5, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5);
+  }
+
+  /**
+   * Creates a parser that runs 6 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, R> @NotNull Parser<R> seq6(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Function6<T1, T2, T3, T4, T5, T6, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6);
+  }
+
+  /**
+   * Creates a parser that runs 7 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, R> @NotNull Parser<R> seq7(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Function7<T1, T2, T3, T4, T5, T6, T7, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7);
+  }
+
+  /**
+   * Creates a parser that runs 8 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, R> @NotNull Parser<R> seq8(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Function8<T1, T2, T3, T4, T5, T6, T7, T8, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8);
+  }
+
+  /**
+   * Creates a parser that runs 9 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> @NotNull Parser<R> seq9(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9);
+  }
+
+  /**
+   * Creates a parser that runs 10 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> @NotNull Parser<R> seq10(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10);
+  }
+
+  /**
+   * Creates a parser that runs 11 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param p11 the 11th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <T11> the 11th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> @NotNull Parser<R> seq11(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Parser<T11> p11, final @NotNull Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11);
+  }
+
+  /**
+   * Creates a parser that runs 12 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param p11 the 11th parser
+   * @param p12 the 12th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <T11> the 11th value type
+   * @param <T12> the 12th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> @NotNull Parser<R> seq12(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Parser<T11> p11, final @NotNull Parser<T12> p12, final @NotNull Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12);
+  }
+
+  /**
+   * Creates a parser that runs 13 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param p11 the 11th parser
+   * @param p12 the 12th parser
+   * @param p13 the 13th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <T11> the 11th value type
+   * @param <T12> the 12th value type
+   * @param <T13> the 13th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> @NotNull Parser<R> seq13(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Parser<T11> p11, final @NotNull Parser<T12> p12, final @NotNull Parser<T13> p13, final @NotNull Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13);
+  }
+
+  /**
+   * Creates a parser that runs 14 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param p11 the 11th parser
+   * @param p12 the 12th parser
+   * @param p13 the 13th parser
+   * @param p14 the 14th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <T11> the 11th value type
+   * @param <T12> the 12th value type
+   * @param <T13> the 13th value type
+   * @param <T14> the 14th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> @NotNull Parser<R> seq14(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Parser<T11> p11, final @NotNull Parser<T12> p12, final @NotNull Parser<T13> p13, final @NotNull Parser<T14> p14, final @NotNull Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13, p14);
+  }
+
+  /**
+   * Creates a parser that runs 15 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param p11 the 11th parser
+   * @param p12 the 12th parser
+   * @param p13 the 13th parser
+   * @param p14 the 14th parser
+   * @param p15 the 15th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <T11> the 11th value type
+   * @param <T12> the 12th value type
+   * @param <T13> the 13th value type
+   * @param <T14> the 14th value type
+   * @param <T15> the 15th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> @NotNull Parser<R> seq15(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Parser<T11> p11, final @NotNull Parser<T12> p12, final @NotNull Parser<T13> p13, final @NotNull Parser<T14> p14, final @NotNull Parser<T15> p15, final @NotNull Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13, p14, p15);
+  }
+
+  /**
+   * Creates a parser that runs 16 parsers in sequence and combines their values with {@code fn}.
+   *
+   * @param p1 the 1st parser
+   * @param p2 the 2nd parser
+   * @param p3 the 3rd parser
+   * @param p4 the 4th parser
+   * @param p5 the 5th parser
+   * @param p6 the 6th parser
+   * @param p7 the 7th parser
+   * @param p8 the 8th parser
+   * @param p9 the 9th parser
+   * @param p10 the 10th parser
+   * @param p11 the 11th parser
+   * @param p12 the 12th parser
+   * @param p13 the 13th parser
+   * @param p14 the 14th parser
+   * @param p15 the 15th parser
+   * @param p16 the 16th parser
+   * @param fn the function
+   * @param <T1> the 1st value type
+   * @param <T2> the 2nd value type
+   * @param <T3> the 3rd value type
+   * @param <T4> the 4th value type
+   * @param <T5> the 5th value type
+   * @param <T6> the 6th value type
+   * @param <T7> the 7th value type
+   * @param <T8> the 8th value type
+   * @param <T9> the 9th value type
+   * @param <T10> the 10th value type
+   * @param <T11> the 11th value type
+   * @param <T12> the 12th value type
+   * @param <T13> the 13th value type
+   * @param <T14> the 14th value type
+   * @param <T15> the 15th value type
+   * @param <T16> the 16th value type
+   * @param <R> the value type
+   * @return a parser
+   * @since 1.0.0
+   */
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> @NotNull Parser<R> seq16(final @NotNull Parser<T1> p1, final @NotNull Parser<T2> p2, final @NotNull Parser<T3> p3, final @NotNull Parser<T4> p4, final @NotNull Parser<T5> p5, final @NotNull Parser<T6> p6, final @NotNull Parser<T7> p7, final @NotNull Parser<T8> p8, final @NotNull Parser<T9> p9, final @NotNull Parser<T10> p10, final @NotNull Parser<T11> p11, final @NotNull Parser<T12> p12, final @NotNull Parser<T13> p13, final @NotNull Parser<T14> p14, final @NotNull Parser<T15> p15, final @NotNull Parser<T16> p16, final @NotNull Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, ? extends R> fn) {
+    return sequence(VarFunction.of(requireNonNull(fn, "fn")), p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13, p14, p15, p16);
+  }
+
+  private static <R> Parser<R> sequence(final VarFunction<? extends R> fn, final Parser<?>... parsers) {
+    for (final Parser<?> parser : parsers) {
+      requireNonNull(parser, "parser");
+    }
+    return new Parser<>((context, offset) -> {
+      int position = offset;
+      final Object[] values = new Object[parsers.length];
+      for (int i = 0; i < parsers.length; i++) {
+        position = parsers[i].apply(context, position);
+        if (position == FAILED) {
+          return FAILED;
+        }
+        values[i] = context.value;
+      }
+      context.value = fn.applyArgs(values);
+      return position;
+    });
+  }
+
+  private static int integer(final Context context, final int offset) {
+    final CharSequence text = context.text;
+    int position = offset;
+    final boolean negative = position < context.end && text.charAt(position) == '-';
+    if (negative) {
+      position++;
+    }
+    final int digits = position;
+    // accumulate negatively, as Integer.parseInt does, so that MIN_VALUE fits
+    long value = 0;
+    while (position < context.end) {
+      final char c = text.charAt(position);
+      if (c < '0' || c > '9') {
+        break;
+      }
+      value = value * 10 - (c - '0');
+      if (value < Integer.MIN_VALUE) {
+        context.fail(offset, "integer");
+        return FAILED;
+      }
+      position++;
+    }
+    if (position == digits || (!negative && value == Integer.MIN_VALUE)) {
+      context.fail(offset, "integer");
+      return FAILED;
+    }
+    context.value = (int) (negative ? value : -value);
+    return position;
+  }
+
+  private static final class Lazy<T> {
+    private final Supplier<Parser<T>> supplier;
+    private volatile Parser<T> parser;
+
+    Lazy(final Supplier<Parser<T>> supplier) {
+      this.supplier = supplier;
+    }
+
+    Parser<T> get() {
+      Parser<T> parser = this.parser;
+      if (parser == null) {
+        parser = requireNonNull(this.supplier.get(), "parser");
+        this.parser = parser;
+      }
+      return parser;
+    }
+  }
+}
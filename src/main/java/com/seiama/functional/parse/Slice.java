@@ -0,0 +1,65 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import org.jetbrains.annotations.NotNull;
+
+// A view of a range of the input, copied only when converted to a string.
+final class Slice implements CharSequence {
+  private final CharSequence text;
+  private final int start;
+  private final int end;
+
+  Slice(final CharSequence text, final int start, final int end) {
+    this.text = text;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public int length() {
+    return this.end - this.start;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= this.length()) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return this.text.charAt(this.start + index);
+  }
+
+  @Override
+  public @NotNull CharSequence subSequence(final int start, final int end) {
+    if (start < 0 || start > end || end > this.length()) {
+      throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.length());
+    }
+    return new Slice(this.text, this.start + start, this.start + end);
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return new StringBuilder(this.length()).append(this.text, this.start, this.end).toString();
+  }
+}
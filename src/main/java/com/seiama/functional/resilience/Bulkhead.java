@@ -0,0 +1,156 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A guard that limits the number of concurrent invocations, rejecting excess invocations with {@link Rejected#BULKHEAD_FULL}.
+ *
+ * <p>Invocations run on the calling thread. Waiting for capacity parks the calling thread, which is cheap on virtual
+ * threads.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Bulkhead implements Guard<Rejected> {
+  private static final int UNBOUNDED = -1;
+  private final Semaphore permits;
+  private final long maxWaitNanos;
+  private final int queueCapacity;
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  private Bulkhead(final int maxConcurrent, final long maxWaitNanos, final int queueCapacity, final boolean fair) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+    }
+    this.permits = new Semaphore(maxConcurrent, fair);
+    this.maxWaitNanos = maxWaitNanos;
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * Creates a bulkhead that rejects invocations immediately once {@code maxConcurrent} invocations are in progress.
+   *
+   * @param maxConcurrent the maximum number of concurrent invocations
+   * @return a bulkhead
+   * @since 1.0.0
+   */
+  public static @NotNull Bulkhead semaphore(final int maxConcurrent) {
+    return new Bulkhead(maxConcurrent, 0, UNBOUNDED, false);
+  }
+
+  /**
+   * Creates a bulkhead that waits up to {@code maxWait} for one of {@code maxConcurrent} permits before rejecting an invocation.
+   *
+   * @param maxConcurrent the maximum number of concurrent invocations
+   * @param maxWait the maximum time to wait for a permit
+   * @return a bulkhead
+   * @since 1.0.0
+   */
+  public static @NotNull Bulkhead semaphore(final int maxConcurrent, final @NotNull Duration maxWait) {
+    return new Bulkhead(maxConcurrent, maxWait.toNanos(), UNBOUNDED, false);
+  }
+
+  /**
+   * Creates a bulkhead that queues up to {@code queueCapacity} invocations, in arrival order, once {@code maxConcurrent}
+   * invocations are in progress, rejecting invocations when the queue is full.
+   *
+   * @param maxConcurrent the maximum number of concurrent invocations
+   * @param queueCapacity the maximum number of waiting invocations
+   * @return a bulkhead
+   * @since 1.0.0
+   */
+  public static @NotNull Bulkhead queue(final int maxConcurrent, final int queueCapacity) {
+    if (queueCapacity < 0) {
+      throw new IllegalArgumentException("queueCapacity must not be negative: " + queueCapacity);
+    }
+    return new Bulkhead(maxConcurrent, Long.MAX_VALUE, queueCapacity, true);
+  }
+
+  @Override
+  public <R, E extends Throwable> @NotNull Either<Rejected, R> call(final @NotNull SupplierE<? extends R, ? extends E> fn) throws E {
+    requireNonNull(fn, "fn");
+    if (!this.tryAcquire()) {
+      return Rejected.BULKHEAD_FULL.asLeft();
+    }
+    try {
+      return Either.right(fn.get());
+    } finally {
+      this.permits.release();
+    }
+  }
+
+  /**
+   * Gets the number of invocations that may start without waiting.
+   *
+   * @return the number of available permits
+   * @since 1.0.0
+   */
+  public int available() {
+    return this.permits.availablePermits();
+  }
+
+  /**
+   * Gets the number of invocations waiting for a permit.
+   *
+   * @return the number of waiting invocations
+   * @since 1.0.0
+   */
+  public int waiting() {
+    return this.queueCapacity == UNBOUNDED ? this.permits.getQueueLength() : this.waiting.get();
+  }
+
+  private boolean tryAcquire() {
+    try {
+      // a timed acquire honours fairness, unlike the untimed one
+      if (this.permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+        return true;
+      }
+      if (this.queueCapacity == UNBOUNDED) {
+        return this.maxWaitNanos > 0 && this.permits.tryAcquire(this.maxWaitNanos, TimeUnit.NANOSECONDS);
+      }
+      if (this.waiting.incrementAndGet() > this.queueCapacity) {
+        this.waiting.decrementAndGet();
+        return false;
+      }
+      try {
+        this.permits.acquire();
+        return true;
+      } finally {
+        this.waiting.decrementAndGet();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,357 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A guard that stops invoking a function while it keeps failing.
+ *
+ * <p>Outcomes are tracked in a sliding window. Once the failure rate in the window reaches the threshold, the breaker
+ * opens and rejects invocations with {@link Rejected#CIRCUIT_OPEN} without invoking the function. After a wait, the
+ * breaker lets a limited number of trial invocations through: if they all succeed the breaker closes, otherwise it
+ * opens again.</p>
+ *
+ * <p>The breaker state is a single atomic word, and the sliding windows are lock-free.</p>
+ *
+ * @since 1.0.0
+ */
+public final class CircuitBreaker implements Guard<Rejected> {
+  // state word: state (2 bits) | trials started (10 bits) | trials succeeded (10 bits) | opened at, in millis (42 bits)
+  private static final int TRIALS_SHIFT = 2;
+  private static final int SUCCESSES_SHIFT = 12;
+  private static final int OPENED_AT_SHIFT = 22;
+  private static final long STATE_MASK = 0b11;
+  private static final long COUNT_MASK = (1L << 10) - 1;
+  private static final int MAX_TRIALS = (int) COUNT_MASK;
+  private static final long CLOSED = 0;
+  private static final long OPEN = 1;
+  private static final long HALF_OPEN = 2;
+  private static final int REJECT = -1;
+  private final AtomicLong state = new AtomicLong(CLOSED);
+  private final long origin = System.nanoTime();
+  private final SlidingWindow window;
+  private final double failureRateThreshold;
+  private final long minimumCalls;
+  private final long waitMillis;
+  private final int trialCalls;
+  private final Predicate<? super Throwable> recordOn;
+
+  private CircuitBreaker(final Builder builder) {
+    this.window = builder.windowDuration != null
+      ? new SlidingWindow.Time(builder.windowDuration.toNanos(), builder.windowSize)
+      : new SlidingWindow.Count(builder.windowSize);
+    this.failureRateThreshold = builder.failureRateThreshold;
+    this.minimumCalls = builder.minimumCalls;
+    this.waitMillis = builder.waitDuration.toMillis();
+    this.trialCalls = builder.trialCalls;
+    this.recordOn = builder.recordOn;
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @return a new builder
+   * @since 1.0.0
+   */
+  public static @NotNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public <R, E extends Throwable> @NotNull Either<Rejected, R> call(final @NotNull SupplierE<? extends R, ? extends E> fn) throws E {
+    requireNonNull(fn, "fn");
+    final long permit = this.tryAcquire();
+    if (permit == REJECT) {
+      return Rejected.CIRCUIT_OPEN.asLeft();
+    }
+    final R result;
+    try {
+      result = fn.get();
+    } catch (final Throwable t) {
+      this.onComplete(permit, this.recordOn.test(t));
+      throw t;
+    }
+    this.onComplete(permit, false);
+    return Either.right(result);
+  }
+
+  /**
+   * Gets the current state of this breaker.
+   *
+   * @return the current state
+   * @since 1.0.0
+   */
+  public @NotNull State state() {
+    final long state = this.state.get() & STATE_MASK;
+    if (state == OPEN) {
+      return State.OPEN;
+    } else if (state == HALF_OPEN) {
+      return State.HALF_OPEN;
+    }
+    return State.CLOSED;
+  }
+
+  /**
+   * Gets the failure rate within the sliding window, between {@code 0} and {@code 1}.
+   *
+   * @return the failure rate
+   * @since 1.0.0
+   */
+  public double failureRate() {
+    final long totals = this.window.totals();
+    final long calls = SlidingWindow.calls(totals);
+    return calls == 0 ? 0 : (double) SlidingWindow.failures(totals) / calls;
+  }
+
+  private long now() {
+    return (System.nanoTime() - this.origin) / 1_000_000;
+  }
+
+  // returns the state the permit was granted in, or REJECT
+  private long tryAcquire() {
+    while (true) {
+      final long word = this.state.get();
+      final long state = word & STATE_MASK;
+      if (state == CLOSED) {
+        return CLOSED;
+      } else if (state == OPEN) {
+        if (this.now() - (word >>> OPENED_AT_SHIFT) < this.waitMillis) {
+          return REJECT;
+        }
+        if (this.state.compareAndSet(word, HALF_OPEN | (1L << TRIALS_SHIFT))) {
+          return HALF_OPEN;
+        }
+      } else {
+        if (((word >>> TRIALS_SHIFT) & COUNT_MASK) >= this.trialCalls) {
+          return REJECT;
+        }
+        if (this.state.compareAndSet(word, word + (1L << TRIALS_SHIFT))) {
+          return HALF_OPEN;
+        }
+      }
+    }
+  }
+
+  private void onComplete(final long permit, final boolean failure) {
+    if (permit == CLOSED) {
+      final long totals = this.window.record(failure);
+      final long calls = SlidingWindow.calls(totals);
+      if (failure && calls >= this.minimumCalls && SlidingWindow.failures(totals) >= this.failureRateThreshold * calls) {
+        this.state.compareAndSet(CLOSED, this.openWord());
+      }
+      return;
+    }
+    while (true) {
+      final long word = this.state.get();
+      if ((word & STATE_MASK) != HALF_OPEN) {
+        return;
+      }
+      final long updated;
+      if (failure) {
+        updated = this.openWord();
+      } else if (((word >>> SUCCESSES_SHIFT) & COUNT_MASK) + 1 >= this.trialCalls) {
+        updated = CLOSED;
+      } else {
+        updated = word + (1L << SUCCESSES_SHIFT);
+      }
+      if (this.state.compareAndSet(word, updated)) {
+        if (updated == CLOSED) {
+          this.window.reset();
+        }
+        return;
+      }
+    }
+  }
+
+  private long openWord() {
+    return OPEN | (this.now() << OPENED_AT_SHIFT);
+  }
+
+  /**
+   * The state of a circuit breaker.
+   *
+   * @since 1.0.0
+   */
+  public enum State {
+    /**
+     * Invocations are permitted and their outcomes recorded.
+     *
+     * @since 1.0.0
+     */
+    CLOSED,
+    /**
+     * Invocations are rejected.
+     *
+     * @since 1.0.0
+     */
+    OPEN,
+    /**
+     * A limited number of trial invocations are permitted.
+     *
+     * @since 1.0.0
+     */
+    HALF_OPEN;
+  }
+
+  /**
+   * A builder for {@link CircuitBreaker}.
+   *
+   * @since 1.0.0
+   */
+  public static final class Builder {
+    private int windowSize = 100;
+    private @Nullable Duration windowDuration;
+    private double failureRateThreshold = 0.5;
+    private long minimumCalls = 10;
+    private Duration waitDuration = Duration.ofSeconds(30);
+    private int trialCalls = 1;
+    private Predicate<? super Throwable> recordOn = t -> true;
+
+    private Builder() {
+    }
+
+    /**
+     * Tracks the outcomes of the last {@code size} invocations.
+     *
+     * @param size the number of invocations
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder countWindow(final int size) {
+      if (size < 1) {
+        throw new IllegalArgumentException("size must be positive: " + size);
+      }
+      this.windowSize = size;
+      this.windowDuration = null;
+      return this;
+    }
+
+    /**
+     * Tracks the outcomes of the invocations completed within the last {@code duration}, split into {@code buckets} buckets.
+     *
+     * @param duration the window duration
+     * @param buckets the number of buckets
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder timeWindow(final @NotNull Duration duration, final int buckets) {
+      if (buckets < 1) {
+        throw new IllegalArgumentException("buckets must be positive: " + buckets);
+      }
+      this.windowSize = buckets;
+      this.windowDuration = requireNonNull(duration, "duration");
+      return this;
+    }
+
+    /**
+     * Sets the failure rate at which the breaker opens.
+     *
+     * @param threshold the threshold, between {@code 0} and {@code 1}
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder failureRateThreshold(final double threshold) {
+      if (threshold <= 0 || threshold > 1) {
+        throw new IllegalArgumentException("threshold must be within (0, 1]: " + threshold);
+      }
+      this.failureRateThreshold = threshold;
+      return this;
+    }
+
+    /**
+     * Sets the minimum number of invocations in the window before the failure rate is considered.
+     *
+     * @param minimumCalls the minimum number of invocations
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder minimumCalls(final long minimumCalls) {
+      if (minimumCalls < 1) {
+        throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+      }
+      this.minimumCalls = minimumCalls;
+      return this;
+    }
+
+    /**
+     * Sets how long the breaker stays open before permitting trial invocations.
+     *
+     * @param duration the duration
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder waitDuration(final @NotNull Duration duration) {
+      this.waitDuration = requireNonNull(duration, "duration");
+      return this;
+    }
+
+    /**
+     * Sets the number of trial invocations that must succeed to close the breaker again.
+     *
+     * @param trialCalls the number of trial invocations
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder trialCalls(final int trialCalls) {
+      if (trialCalls < 1 || trialCalls > MAX_TRIALS) {
+        throw new IllegalArgumentException("trialCalls must be within [1, " + MAX_TRIALS + "]: " + trialCalls);
+      }
+      this.trialCalls = trialCalls;
+      return this;
+    }
+
+    /**
+     * Sets the predicate deciding which exceptions count as failures.
+     *
+     * <p>By default, every exception counts as a failure. Exceptions that do not are recorded as successes.</p>
+     *
+     * @param predicate the predicate
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder recordIf(final @NotNull Predicate<? super Throwable> predicate) {
+      this.recordOn = requireNonNull(predicate, "predicate");
+      return this;
+    }
+
+    /**
+     * Builds the circuit breaker.
+     *
+     * @return a circuit breaker
+     * @since 1.0.0
+     */
+    public @NotNull CircuitBreaker build() {
+      return new CircuitBreaker(this);
+    }
+  }
+}
@@ -0,0 +1,462 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Function10E;
+import com.seiama.functional.function.exceptional.Function11E;
+import com.seiama.functional.function.exceptional.Function12E;
+import com.seiama.functional.function.exceptional.Function13E;
+import com.seiama.functional.function.exceptional.Function14E;
+import com.seiama.functional.function.exceptional.Function15E;
+import com.seiama.functional.function.exceptional.Function16E;
+import com.seiama.functional.function.exceptional.Function1E;
+import com.seiama.functional.function.exceptional.Function2E;
+import com.seiama.functional.function.exceptional.Function3E;
+import com.seiama.functional.function.exceptional.Function4E;
+import com.seiama.functional.function.exceptional.Function5E;
+import com.seiama.functional.function.exceptional.Function6E;
+import com.seiama.functional.function.exceptional.Function7E;
+import com.seiama.functional.function.exceptional.Function8E;
+import com.seiama.functional.function.exceptional.Function9E;
+import com.seiama.functional.function.exceptional.RunnableE;
+import com.seiama.functional.function.exceptional.SupplierE;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A policy that guards function invocations, reporting its own failures as a left value.
+ *
+ * <p>Exceptions thrown by a guarded function are rethrown to the caller unless the policy handles them.</p>
+ *
+ * @param <F> the failure type
+ * @since 1.0.0
+ */
+public interface Guard<F> {
+  /**
+   * Invokes {@code fn} under this guard.
+   *
+   * <p>{@code fn} must not return {@code null}.</p>
+   *
+   * @param fn the function
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return the result, or a failure if this guard prevented the invocation from completing
+   * @throws E if {@code fn} throws an exception that this guard does not handle
+   * @since 1.0.0
+   */
+  <R, E extends Throwable> @NotNull Either<F, R> call(final @NotNull SupplierE<? extends R, ? extends E> fn) throws E;
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <R, E extends Throwable> @NotNull SupplierE<Either<F, R>, E> wrap(final @NotNull SupplierE<? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return () -> this.call(fn);
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <E extends Throwable> @NotNull SupplierE<Either<F, Unit>, E> wrap(final @NotNull RunnableE<? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return () -> this.call(() -> {
+      fn.run();
+      return Unit.INSTANCE;
+    });
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, R, E extends Throwable> @NotNull Function1E<T1, Either<F, R>, E> wrap(final @NotNull Function1E<? super T1, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return t1 -> this.call(() -> fn.apply(t1));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, R, E extends Throwable> @NotNull Function2E<T1, T2, Either<F, R>, E> wrap(final @NotNull Function2E<? super T1, ? super T2, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2) -> this.call(() -> fn.apply(t1, t2));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, R, E extends Throwable> @NotNull Function3E<T1, T2, T3, Either<F, R>, E> wrap(final @NotNull Function3E<? super T1, ? super T2, ? super T3, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3) -> this.call(() -> fn.apply(t1, t2, t3));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, R, E extends Throwable> @NotNull Function4E<T1, T2, T3, T4, Either<F, R>, E> wrap(final @NotNull Function4E<? super T1, ? super T2, ? super T3, ? super T4, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4) -> this.call(() -> fn.apply(t1, t2, t3, t4));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, R, E extends Throwable> @NotNull Function5E<T1, T2, T3, T4, T5, Either<F, R>, E> wrap(final @NotNull Function5E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, R, E extends Throwable> @NotNull Function6E<T1, T2, T3, T4, T5, T6, Either<F, R>, E> wrap(final @NotNull Function6E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, R, E extends Throwable> @NotNull Function7E<T1, T2, T3, T4, T5, T6, T7, Either<F, R>, E> wrap(final @NotNull Function7E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, R, E extends Throwable> @NotNull Function8E<T1, T2, T3, T4, T5, T6, T7, T8, Either<F, R>, E> wrap(final @NotNull Function8E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, R, E extends Throwable> @NotNull Function9E<T1, T2, T3, T4, T5, T6, T7, T8, T9, Either<F, R>, E> wrap(final @NotNull Function9E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R, E extends Throwable> @NotNull Function10E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, Either<F, R>, E> wrap(final @NotNull Function10E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R, E extends Throwable> @NotNull Function11E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, Either<F, R>, E> wrap(final @NotNull Function11E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? super T11, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R, E extends Throwable> @NotNull Function12E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, Either<F, R>, E> wrap(final @NotNull Function12E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? super T11, ? super T12, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R, E extends Throwable> @NotNull Function13E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, Either<F, R>, E> wrap(final @NotNull Function13E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? super T11, ? super T12, ? super T13, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R, E extends Throwable> @NotNull Function14E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, Either<F, R>, E> wrap(final @NotNull Function14E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? super T11, ? super T12, ? super T13, ? super T14, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R, E extends Throwable> @NotNull Function15E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, Either<F, R>, E> wrap(final @NotNull Function15E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? super T11, ? super T12, ? super T13, ? super T14, ? super T15, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
+  }
+
+  /**
+   * Wraps {@code fn} so that each invocation is guarded.
+   *
+   * @param fn the function
+   * @param <T1> the 1st argument type
+   * @param <T2> the 2nd argument type
+   * @param <T3> the 3rd argument type
+   * @param <T4> the 4th argument type
+   * @param <T5> the 5th argument type
+   * @param <T6> the 6th argument type
+   * @param <T7> the 7th argument type
+   * @param <T8> the 8th argument type
+   * @param <T9> the 9th argument type
+   * @param <T10> the 10th argument type
+   * @param <T11> the 11th argument type
+   * @param <T12> the 12th argument type
+   * @param <T13> the 13th argument type
+   * @param <T14> the 14th argument type
+   * @param <T15> the 15th argument type
+   * @param <T16> the 16th argument type
+   * @param <R> the result type
+   * @param <E> the exception type
+   * @return a guarded function
+   * @since 1.0.0
+   */
+  default <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R, E extends Throwable> @NotNull Function16E<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, Either<F, R>, E> wrap(final @NotNull Function16E<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? super T9, ? super T10, ? super T11, ? super T12, ? super T13, ? super T14, ? super T15, ? super T16, ? extends R, ? extends E> fn) {
+    requireNonNull(fn, "fn");
+    return (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16) -> this.call(() -> fn.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
+  }
+}
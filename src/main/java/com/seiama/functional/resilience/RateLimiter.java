@@ -0,0 +1,94 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.time.Duration;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A guard that limits the rate of invocations, rejecting excess invocations with {@link Rejected#RATE_LIMITED}.
+ *
+ * <p>The limiter is a lock-free token bucket whose entire state is a single timestamp, so acquiring a permit is one
+ * compare-and-set and rejecting an invocation does not allocate.</p>
+ *
+ * @since 1.0.0
+ */
+public final class RateLimiter implements Guard<Rejected> {
+  private final TokenBucket bucket;
+
+  private RateLimiter(final TokenBucket bucket) {
+    this.bucket = bucket;
+  }
+
+  /**
+   * Creates a rate limiter permitting {@code permits} invocations per {@code period}, with bursts of up to {@code permits} invocations.
+   *
+   * @param permits the number of invocations per period
+   * @param period the period
+   * @return a rate limiter
+   * @since 1.0.0
+   */
+  public static @NotNull RateLimiter of(final int permits, final @NotNull Duration period) {
+    return of(permits, period, permits);
+  }
+
+  /**
+   * Creates a rate limiter permitting {@code permits} invocations per {@code period}, with bursts of up to {@code burst} invocations.
+   *
+   * @param permits the number of invocations per period
+   * @param period the period
+   * @param burst the maximum number of invocations permitted at once
+   * @return a rate limiter
+   * @since 1.0.0
+   */
+  public static @NotNull RateLimiter of(final int permits, final @NotNull Duration period, final int burst) {
+    if (permits < 1) {
+      throw new IllegalArgumentException("permits must be positive: " + permits);
+    }
+    return new RateLimiter(new TokenBucket(burst, Math.max(1, period.toNanos() / permits)));
+  }
+
+  @Override
+  public <R, E extends Throwable> @NotNull Either<Rejected, R> call(final @NotNull SupplierE<? extends R, ? extends E> fn) throws E {
+    requireNonNull(fn, "fn");
+    if (!this.bucket.tryAcquire()) {
+      return Rejected.RATE_LIMITED.asLeft();
+    }
+    return Either.right(fn.get());
+  }
+
+  /**
+   * Gets the number of invocations that would currently be permitted.
+   *
+   * @return the number of available permits
+   * @since 1.0.0
+   */
+  public long available() {
+    return this.bucket.available();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+
+/**
+ * The reason a guard refused to invoke a function.
+ *
+ * <p>Each reason has a single preallocated left value, so rejecting an invocation does not allocate.</p>
+ *
+ * @since 1.0.0
+ */
+public enum Rejected {
+  /**
+   * A circuit breaker is open.
+   *
+   * @since 1.0.0
+   */
+  CIRCUIT_OPEN,
+  /**
+   * A bulkhead has no capacity left.
+   *
+   * @since 1.0.0
+   */
+  BULKHEAD_FULL,
+  /**
+   * A rate limiter has no permits left.
+   *
+   * @since 1.0.0
+   */
+  RATE_LIMITED;
+
+  private final Either<Rejected, ?> left = Either.left(this);
+
+  @SuppressWarnings("unchecked") // a left value does not hold a right value
+  <R> Either<Rejected, R> asLeft() {
+    return (Either<Rejected, R>) this.left;
+  }
+}
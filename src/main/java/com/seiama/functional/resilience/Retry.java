@@ -0,0 +1,261 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A guard that retries failed invocations with exponential backoff and jitter.
+ *
+ * <p>Only exceptions matched by the policy are retried; any other exception is rethrown immediately. An
+ * {@link InterruptedException} is never retried: it is rethrown as is, and the interrupt status is not re-asserted.
+ * Waiting between attempts parks the calling thread rather than sleeping, which is cheap on virtual threads.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Retry implements Guard<Retry.Exhausted> {
+  private final int maxAttempts;
+  private final long initialDelay;
+  private final long maxDelay;
+  private final double multiplier;
+  private final double jitter;
+  private final Predicate<? super Throwable> retryOn;
+  private final RetryBudget budget;
+
+  private Retry(final Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialDelay = builder.initialDelay.toNanos();
+    this.maxDelay = builder.maxDelay.toNanos();
+    this.multiplier = builder.multiplier;
+    this.jitter = builder.jitter;
+    this.retryOn = builder.retryOn;
+    this.budget = builder.budget;
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @return a new builder
+   * @since 1.0.0
+   */
+  public static @NotNull Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public <R, E extends Throwable> @NotNull Either<Exhausted, R> call(final @NotNull SupplierE<? extends R, ? extends E> fn) throws E {
+    requireNonNull(fn, "fn");
+    int attempt = 0;
+    while (true) {
+      attempt++;
+      final R result;
+      try {
+        result = fn.get();
+      } catch (final Throwable t) {
+        if (t instanceof InterruptedException) {
+          // the caller was cancelled, and the exception itself tells it so
+          throw t;
+        }
+        if (!this.retryOn.test(t)) {
+          throw t;
+        }
+        if (attempt >= this.maxAttempts || !this.budget.tryAcquire() || !pause(this.delay(attempt))) {
+          return Either.left(new Exhausted(attempt, t));
+        }
+        continue;
+      }
+      return Either.right(result);
+    }
+  }
+
+  long delay(final int attempt) {
+    final double exponential = this.initialDelay * Math.pow(this.multiplier, attempt - 1);
+    final double capped = Math.min(exponential, this.maxDelay);
+    return (long) (capped - capped * this.jitter * ThreadLocalRandom.current().nextDouble());
+  }
+
+  // parks until the delay has elapsed, returning false if interrupted
+  private static boolean pause(final long nanos) {
+    final long deadline = System.nanoTime() + nanos;
+    long remaining = nanos;
+    while (remaining > 0) {
+      LockSupport.parkNanos(remaining);
+      if (Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+      remaining = deadline - System.nanoTime();
+    }
+    return true;
+  }
+
+  /**
+   * The failure returned when an invocation could not succeed within the allowed attempts.
+   *
+   * <p>Retries stop when the maximum number of attempts is reached, when the {@link RetryBudget} runs out, or when the
+   * calling thread is interrupted while waiting.</p>
+   *
+   * @param attempts the number of attempts made
+   * @param cause the exception thrown by the last attempt
+   * @since 1.0.0
+   */
+  public record Exhausted(int attempts, @NotNull Throwable cause) {
+  }
+
+  /**
+   * A builder for {@link Retry}.
+   *
+   * @since 1.0.0
+   */
+  public static final class Builder {
+    private int maxAttempts = 3;
+    private Duration initialDelay = Duration.ofMillis(100);
+    private Duration maxDelay = Duration.ofSeconds(10);
+    private double multiplier = 2;
+    private double jitter = 0.5;
+    private Predicate<? super Throwable> retryOn = t -> t instanceof Exception && !(t instanceof InterruptedException);
+    private RetryBudget budget = RetryBudget.unlimited();
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the maximum number of attempts, including the first.
+     *
+     * @param maxAttempts the maximum number of attempts
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder maxAttempts(final int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Sets the backoff between attempts.
+     *
+     * <p>The delay before the {@code n}th retry is {@code initialDelay * multiplier^(n - 1)}, capped at {@code maxDelay}.</p>
+     *
+     * @param initialDelay the delay before the first retry
+     * @param maxDelay the maximum delay
+     * @param multiplier the factor applied to the delay after each retry
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder backoff(final @NotNull Duration initialDelay, final @NotNull Duration maxDelay, final double multiplier) {
+      if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+        throw new IllegalArgumentException("invalid delays: " + initialDelay + ", " + maxDelay);
+      }
+      if (multiplier < 1) {
+        throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+      }
+      this.initialDelay = initialDelay;
+      this.maxDelay = maxDelay;
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /**
+     * Sets the jitter, the fraction of each delay that is randomly subtracted from it.
+     *
+     * @param jitter the jitter, between {@code 0} and {@code 1}
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder jitter(final double jitter) {
+      if (jitter < 0 || jitter > 1) {
+        throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter);
+      }
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * Sets the exception types that are retried.
+     *
+     * <p>By default, every {@link Exception} except {@link InterruptedException} is retried.</p>
+     *
+     * @param types the exception types
+     * @return this builder
+     * @since 1.0.0
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final @NotNull Builder retryOn(final @NotNull Class<? extends Throwable> @NotNull... types) {
+      final Class<?>[] copy = types.clone();
+      return this.retryIf(t -> {
+        for (final Class<?> type : copy) {
+          if (type.isInstance(t)) {
+            return true;
+          }
+        }
+        return false;
+      });
+    }
+
+    /**
+     * Sets the predicate deciding which exceptions are retried.
+     *
+     * @param predicate the predicate
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder retryIf(final @NotNull Predicate<? super Throwable> predicate) {
+      this.retryOn = requireNonNull(predicate, "predicate");
+      return this;
+    }
+
+    /**
+     * Sets the budget retries are taken from.
+     *
+     * @param budget the budget
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder budget(final @NotNull RetryBudget budget) {
+      this.budget = requireNonNull(budget, "budget");
+      return this;
+    }
+
+    /**
+     * Builds the retry policy.
+     *
+     * @return a retry policy
+     * @since 1.0.0
+     */
+    public @NotNull Retry build() {
+      return new Retry(this);
+    }
+  }
+}
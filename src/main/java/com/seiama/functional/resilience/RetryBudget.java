@@ -0,0 +1,86 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import java.time.Duration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A budget of retries that can be shared between {@link Retry} policies to stop retry storms under load.
+ *
+ * <p>The budget is a token bucket: each retry takes a token, and tokens are replenished at a fixed rate.</p>
+ *
+ * @since 1.0.0
+ */
+public final class RetryBudget {
+  private static final RetryBudget UNLIMITED = new RetryBudget(null);
+  private final @Nullable TokenBucket bucket;
+
+  private RetryBudget(final @Nullable TokenBucket bucket) {
+    this.bucket = bucket;
+  }
+
+  /**
+   * Gets a budget that never runs out.
+   *
+   * @return a budget
+   * @since 1.0.0
+   */
+  public static @NotNull RetryBudget unlimited() {
+    return UNLIMITED;
+  }
+
+  /**
+   * Creates a budget holding at most {@code capacity} retries, replenishing one retry every {@code period}.
+   *
+   * @param capacity the maximum number of retries available at once
+   * @param period the time it takes to replenish a single retry
+   * @return a budget
+   * @since 1.0.0
+   */
+  public static @NotNull RetryBudget of(final int capacity, final @NotNull Duration period) {
+    return new RetryBudget(new TokenBucket(capacity, period.toNanos()));
+  }
+
+  /**
+   * Tries to take a retry from this budget.
+   *
+   * @return {@code true} if a retry was available
+   * @since 1.0.0
+   */
+  public boolean tryAcquire() {
+    return this.bucket == null || this.bucket.tryAcquire();
+  }
+
+  /**
+   * Gets the number of retries currently available.
+   *
+   * @return the number of retries available
+   * @since 1.0.0
+   */
+  public long available() {
+    return this.bucket == null ? Long.MAX_VALUE : this.bucket.available();
+  }
+}
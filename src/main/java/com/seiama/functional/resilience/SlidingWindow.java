@@ -0,0 +1,174 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Lock-free sliding windows of call outcomes. Totals are packed into a single long as
+// calls * 2^32 + failures, where failures may briefly be negative. Under contention a snapshot may
+// briefly lag behind the most recent outcomes.
+abstract sealed class SlidingWindow {
+  static long calls(final long totals) {
+    return (totals - (int) totals) >>> 32;
+  }
+
+  static long failures(final long totals) {
+    // deltas for the same slot can land out of order, briefly pushing failures out of range
+    return Math.max(0, Math.min((int) totals, calls(totals)));
+  }
+
+  // records an outcome, returning the totals including it
+  abstract long record(final boolean failure);
+
+  abstract long totals();
+
+  abstract void reset();
+
+  static final class Count extends SlidingWindow {
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+    private final int size;
+    // swapped for a fresh window on reset, so that outcomes recorded into the old one are dropped with it
+    private final AtomicReference<Window> window;
+
+    Count(final int size) {
+      if (size < 1) {
+        throw new IllegalArgumentException("size must be positive: " + size);
+      }
+      this.size = size;
+      this.window = new AtomicReference<>(new Window(size));
+    }
+
+    @Override
+    long record(final boolean failure) {
+      final Window window = this.window.get();
+      final int index = (int) Long.remainderUnsigned(window.cursor.getAndIncrement(), window.outcomes.length());
+      final int previous = window.outcomes.getAndSet(index, failure ? FAILURE : SUCCESS);
+      final long calls = previous == EMPTY ? 1 : 0;
+      final long failures = (failure ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+      return window.totals.addAndGet((calls << 32) + failures);
+    }
+
+    @Override
+    long totals() {
+      return this.window.get().totals.get();
+    }
+
+    @Override
+    void reset() {
+      this.window.set(new Window(this.size));
+    }
+
+    private static final class Window {
+      final AtomicIntegerArray outcomes;
+      final AtomicLong cursor = new AtomicLong();
+      final AtomicLong totals = new AtomicLong();
+
+      Window(final int size) {
+        this.outcomes = new AtomicIntegerArray(size);
+      }
+    }
+  }
+
+  // Each bucket is packed as tick (24 bits) | calls (20 bits) | failures (20 bits), so that
+  // rolling a bucket over to a new tick and counting into it is a single CAS.
+  static final class Time extends SlidingWindow {
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long TICK_MASK = (1L << 24) - 1;
+    private final AtomicLongArray buckets;
+    private final long bucketNanos;
+    private final long origin = System.nanoTime();
+
+    Time(final long windowNanos, final int buckets) {
+      if (buckets < 1 || buckets > TICK_MASK / 2) {
+        throw new IllegalArgumentException("invalid bucket count: " + buckets);
+      }
+      this.bucketNanos = Math.max(1, windowNanos / buckets);
+      this.buckets = new AtomicLongArray(buckets);
+      for (int i = 0; i < buckets; i++) {
+        this.buckets.set(i, pack(TICK_MASK, 0, 0));
+      }
+    }
+
+    private static long pack(final long tick, final long calls, final long failures) {
+      return ((tick & TICK_MASK) << (COUNT_BITS * 2)) | (calls << COUNT_BITS) | failures;
+    }
+
+    private long tick() {
+      return (System.nanoTime() - this.origin) / this.bucketNanos;
+    }
+
+    @Override
+    long record(final boolean failure) {
+      final long tick = this.tick();
+      final int index = (int) (tick % this.buckets.length());
+      while (true) {
+        final long bucket = this.buckets.get(index);
+        final long updated;
+        if (bucket >>> (COUNT_BITS * 2) != (tick & TICK_MASK)) {
+          updated = pack(tick, 1, failure ? 1 : 0);
+        } else {
+          final long calls = Math.min(COUNT_MASK, ((bucket >>> COUNT_BITS) & COUNT_MASK) + 1);
+          final long failures = Math.min(COUNT_MASK, (bucket & COUNT_MASK) + (failure ? 1 : 0));
+          updated = pack(tick, calls, failures);
+        }
+        if (this.buckets.compareAndSet(index, bucket, updated)) {
+          break;
+        }
+      }
+      return this.totals(tick);
+    }
+
+    @Override
+    long totals() {
+      return this.totals(this.tick());
+    }
+
+    private long totals(final long tick) {
+      long calls = 0;
+      long failures = 0;
+      for (int i = 0; i < this.buckets.length(); i++) {
+        final long bucket = this.buckets.get(i);
+        final long age = (tick - (bucket >>> (COUNT_BITS * 2))) & TICK_MASK;
+        if (age < this.buckets.length()) {
+          calls += (bucket >>> COUNT_BITS) & COUNT_MASK;
+          failures += bucket & COUNT_MASK;
+        }
+      }
+      return (calls << 32) | failures;
+    }
+
+    @Override
+    void reset() {
+      for (int i = 0; i < this.buckets.length(); i++) {
+        this.buckets.set(i, pack(TICK_MASK, 0, 0));
+      }
+    }
+  }
+}
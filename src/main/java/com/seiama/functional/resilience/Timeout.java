@@ -0,0 +1,267 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.SupplierE;
+import com.seiama.functional.internal.Threads;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A guard that abandons invocations that do not complete in time, returning {@link Expired} and interrupting the
+ * thread running the invocation.
+ *
+ * <p>Deadlines propagate to nested guarded invocations: an invocation made while another timeout is in effect gets
+ * at most the remaining time of the outer invocation, and is not started at all once that time has run out.</p>
+ *
+ * @since 1.0.0
+ */
+public final class Timeout implements Guard<Timeout.Expired> {
+  private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+  private static final int RUNNING = 0;
+  private static final int DONE = 1;
+  private static final int CANCELLED = 2;
+  private static final int INTERRUPTED = 3;
+  private final Duration timeout;
+  private final long timeoutNanos;
+  private final @Nullable Executor executor;
+
+  private Timeout(final Duration timeout, final @Nullable Executor executor) {
+    if (timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("timeout must be positive: " + timeout);
+    }
+    this.timeout = timeout;
+    this.timeoutNanos = timeout.toNanos();
+    this.executor = executor;
+  }
+
+  /**
+   * Creates a timeout that runs each invocation on a new virtual thread when available, or on a reused daemon thread otherwise.
+   *
+   * @param timeout the timeout
+   * @return a timeout
+   * @since 1.0.0
+   */
+  public static @NotNull Timeout of(final @NotNull Duration timeout) {
+    return new Timeout(timeout, Shared.EXECUTOR);
+  }
+
+  /**
+   * Creates a timeout that runs each invocation on {@code executor}.
+   *
+   * @param timeout the timeout
+   * @param executor the executor
+   * @return a timeout
+   * @since 1.0.0
+   */
+  public static @NotNull Timeout of(final @NotNull Duration timeout, final @NotNull Executor executor) {
+    return new Timeout(timeout, requireNonNull(executor, "executor"));
+  }
+
+  /**
+   * Creates a timeout that runs each invocation on the calling thread, interrupting it when the timeout expires.
+   *
+   * <p>The calling thread is not interrupted after the invocation completes.</p>
+   *
+   * @param timeout the timeout
+   * @return a timeout
+   * @since 1.0.0
+   */
+  public static @NotNull Timeout watchdog(final @NotNull Duration timeout) {
+    return new Timeout(timeout, null);
+  }
+
+  /**
+   * Gets the time remaining before the deadline of the timeout in effect on the calling thread, if any.
+   *
+   * @return the remaining time
+   * @since 1.0.0
+   */
+  public static @NotNull Optional<Duration> remaining() {
+    final Long deadline = DEADLINE.get();
+    if (deadline == null) {
+      return Optional.empty();
+    }
+    return Optional.of(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+  }
+
+  @Override
+  public <R, E extends Throwable> @NotNull Either<Expired, R> call(final @NotNull SupplierE<? extends R, ? extends E> fn) throws E {
+    requireNonNull(fn, "fn");
+    final long now = System.nanoTime();
+    long deadline = now + this.timeoutNanos;
+    final Long inherited = DEADLINE.get();
+    if (inherited != null && inherited - deadline < 0) {
+      deadline = inherited;
+    }
+    final long remaining = deadline - now;
+    if (remaining <= 0) {
+      return Either.left(new Expired(this.timeout));
+    }
+    return this.executor != null
+      ? this.offload(fn, deadline, remaining, this.executor)
+      : this.watch(fn, deadline, remaining, inherited);
+  }
+
+  private <R, E extends Throwable> Either<Expired, R> offload(final SupplierE<? extends R, ? extends E> fn, final long deadline, final long remaining, final Executor executor) throws E {
+    final Task<R> task = new Task<>(fn, deadline);
+    executor.execute(task);
+    boolean completed;
+    try {
+      completed = task.done.await(remaining, TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      completed = false;
+    }
+    if (!completed && task.cancel()) {
+      return Either.left(new Expired(this.timeout));
+    }
+    if (task.failure != null) {
+      throw Timeout.<E>unchecked(task.failure);
+    }
+    return Either.right(task.result);
+  }
+
+  private <R, E extends Throwable> Either<Expired, R> watch(final SupplierE<? extends R, ? extends E> fn, final long deadline, final long remaining, final @Nullable Long inherited) throws E {
+    final Thread caller = Thread.currentThread();
+    final AtomicInteger state = new AtomicInteger(RUNNING);
+    final ScheduledFuture<?> alarm = Threads.timer().schedule(() -> {
+      if (state.compareAndSet(RUNNING, CANCELLED)) {
+        caller.interrupt();
+        state.set(INTERRUPTED);
+      }
+    }, remaining, TimeUnit.NANOSECONDS);
+    DEADLINE.set(deadline);
+    R result = null;
+    Throwable failure = null;
+    try {
+      result = fn.get();
+    } catch (final Throwable t) {
+      failure = t;
+    } finally {
+      restore(inherited);
+    }
+    if (!state.compareAndSet(RUNNING, DONE)) {
+      awaitInterrupt(state);
+      return Either.left(new Expired(this.timeout));
+    }
+    alarm.cancel(false);
+    if (failure != null) {
+      throw Timeout.<E>unchecked(failure);
+    }
+    return Either.right(result);
+  }
+
+  private static void restore(final @Nullable Long deadline) {
+    if (deadline == null) {
+      DEADLINE.remove();
+    } else {
+      DEADLINE.set(deadline);
+    }
+  }
+
+  // waits until the interrupt sent on expiry has been delivered, then clears it
+  private static void awaitInterrupt(final AtomicInteger state) {
+    while (state.get() != INTERRUPTED) {
+      Thread.onSpinWait();
+    }
+    Thread.interrupted();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> E unchecked(final Throwable t) {
+    return (E) t;
+  }
+
+  /**
+   * The failure returned when an invocation does not complete in time.
+   *
+   * @param timeout the timeout of the guard that expired
+   * @since 1.0.0
+   */
+  public record Expired(@NotNull Duration timeout) {
+  }
+
+  private static final class Task<R> implements Runnable {
+    private final SupplierE<? extends R, ?> fn;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile @Nullable Thread runner;
+    private @Nullable R result;
+    private @Nullable Throwable failure;
+
+    Task(final SupplierE<? extends R, ?> fn, final long deadline) {
+      this.fn = fn;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public void run() {
+      this.runner = Thread.currentThread();
+      if (this.state.get() == RUNNING) {
+        DEADLINE.set(this.deadline);
+        try {
+          this.result = this.fn.get();
+        } catch (final Throwable t) {
+          this.failure = t;
+        } finally {
+          DEADLINE.remove();
+        }
+      }
+      if (!this.state.compareAndSet(RUNNING, DONE)) {
+        awaitInterrupt(this.state);
+      }
+      this.runner = null;
+      this.done.countDown();
+    }
+
+    // returns false if the task completed before it could be cancelled
+    boolean cancel() {
+      if (!this.state.compareAndSet(RUNNING, CANCELLED)) {
+        return false;
+      }
+      final Thread runner = this.runner;
+      if (runner != null) {
+        runner.interrupt();
+      }
+      this.state.set(INTERRUPTED);
+      return true;
+    }
+  }
+
+  private static final class Shared {
+    static final Executor EXECUTOR = Threads.perTaskExecutor("functional-timeout-");
+  }
+}
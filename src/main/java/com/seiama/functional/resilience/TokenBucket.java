@@ -0,0 +1,69 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// A lock-free token bucket using the generic cell rate algorithm: the whole state is the
+// theoretical arrival time of the next token, so acquiring a token is a single CAS.
+final class TokenBucket {
+  private static final long MAX_TOLERANCE = Long.MAX_VALUE >> 2;
+  private final AtomicLong arrival;
+  private final long interval;
+  private final long tolerance;
+
+  TokenBucket(final long capacity, final long intervalNanos) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    if (intervalNanos < 1) {
+      throw new IllegalArgumentException("interval must be positive: " + intervalNanos);
+    }
+    this.interval = intervalNanos;
+    this.tolerance = capacity > MAX_TOLERANCE / intervalNanos ? MAX_TOLERANCE : capacity * intervalNanos;
+    this.arrival = new AtomicLong(System.nanoTime());
+  }
+
+  boolean tryAcquire() {
+    final long now = System.nanoTime();
+    while (true) {
+      final long arrival = this.arrival.get();
+      final long next = (arrival - now > 0 ? arrival : now) + this.interval;
+      if (next - now > this.tolerance) {
+        return false;
+      }
+      if (this.arrival.compareAndSet(arrival, next)) {
+        return true;
+      }
+    }
+  }
+
+  long available() {
+    final long debt = this.arrival.get() - System.nanoTime();
+    if (debt <= 0) {
+      return this.tolerance / this.interval;
+    }
+    return (this.tolerance - debt) / this.interval;
+  }
+}
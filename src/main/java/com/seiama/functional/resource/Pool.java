@@ -0,0 +1,212 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resource;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded, lock-free pool of reusable objects, such as buffers or parsers that are expensive to create.
+ *
+ * <p>Idle objects are kept in a fixed array of slots. Borrowing takes any idle object, starting the search at a slot
+ * derived from the calling thread so that threads tend not to contend for the same slot, and creates a new object
+ * if none is idle. Returning an object resets it and puts it back in a free slot, or disposes of it if the pool is
+ * full. A pool never blocks.</p>
+ *
+ * @param <T> the object type
+ * @since 1.0.0
+ */
+public final class Pool<T> {
+  private final Supplier<? extends T> factory;
+  private final Consumer<? super T> reset;
+  private final Consumer<? super T> dispose;
+  private final AtomicReferenceArray<T> slots;
+  private final Resource<T> resource;
+
+  private Pool(final Builder<T> builder) {
+    this.factory = builder.factory;
+    this.reset = builder.reset;
+    this.dispose = builder.dispose;
+    this.slots = new AtomicReferenceArray<>(builder.capacity);
+    this.resource = Resource.of(this::borrow, this::release);
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @param factory the factory creating new objects
+   * @param <T> the object type
+   * @return a builder
+   * @since 1.0.0
+   */
+  public static <T> @NotNull Builder<T> builder(final @NotNull Supplier<? extends T> factory) {
+    return new Builder<>(requireNonNull(factory, "factory"));
+  }
+
+  /**
+   * Takes an idle object from this pool, or creates a new one if none is idle.
+   *
+   * @return an object
+   * @since 1.0.0
+   */
+  public @NotNull T borrow() {
+    final int length = this.slots.length();
+    final int start = this.start(length);
+    for (int i = 0; i < length; i++) {
+      final int index = (start + i) % length;
+      final T value = this.slots.getPlain(index);
+      if (value != null && this.slots.compareAndSet(index, value, null)) {
+        return value;
+      }
+    }
+    return requireNonNull(this.factory.get(), "factory returned null");
+  }
+
+  /**
+   * Resets {@code value} and returns it to this pool, or disposes of it if the pool is full.
+   *
+   * <p>An object must not be used after it is returned.</p>
+   *
+   * @param value the object
+   * @since 1.0.0
+   */
+  public void release(final @NotNull T value) {
+    requireNonNull(value, "value");
+    this.reset.accept(value);
+    final int length = this.slots.length();
+    final int start = this.start(length);
+    for (int i = 0; i < length; i++) {
+      final int index = (start + i) % length;
+      if (this.slots.getPlain(index) == null && this.slots.compareAndSet(index, null, value)) {
+        return;
+      }
+    }
+    this.dispose.accept(value);
+  }
+
+  /**
+   * Gets a resource that borrows an object from this pool and returns it once used.
+   *
+   * @return a resource
+   * @since 1.0.0
+   */
+  public @NotNull Resource<T> resource() {
+    return this.resource;
+  }
+
+  /**
+   * Gets the number of idle objects in this pool.
+   *
+   * <p>The count is a snapshot that may be outdated by the time it is returned.</p>
+   *
+   * @return the number of idle objects
+   * @since 1.0.0
+   */
+  public int idle() {
+    int count = 0;
+    for (int i = 0; i < this.slots.length(); i++) {
+      if (this.slots.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private int start(final int length) {
+    final long id = Thread.currentThread().getId();
+    return (int) (((id * 0x9E3779B97F4A7C15L) >>> 33) % length);
+  }
+
+  /**
+   * A builder for {@link Pool}s.
+   *
+   * @param <T> the object type
+   * @since 1.0.0
+   */
+  public static final class Builder<T> {
+    private final Supplier<? extends T> factory;
+    private Consumer<? super T> reset = value -> { };
+    private Consumer<? super T> dispose = value -> { };
+    private int capacity = Math.max(Runtime.getRuntime().availableProcessors() * 2, 8);
+
+    private Builder(final Supplier<? extends T> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * Sets the maximum number of idle objects kept.
+     *
+     * <p>By default, twice the number of processors are kept, and at least eight.</p>
+     *
+     * @param capacity the capacity
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> capacity(final int capacity) {
+      if (capacity < 1) {
+        throw new IllegalArgumentException("capacity must be positive: " + capacity);
+      }
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets the action that resets objects as they are returned, such as clearing a buffer.
+     *
+     * @param reset the reset action
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> reset(final @NotNull Consumer<? super T> reset) {
+      this.reset = requireNonNull(reset, "reset");
+      return this;
+    }
+
+    /**
+     * Sets the action that disposes of objects returned while the pool is full.
+     *
+     * @param dispose the dispose action
+     * @return this builder
+     * @since 1.0.0
+     */
+    public @NotNull Builder<T> dispose(final @NotNull Consumer<? super T> dispose) {
+      this.dispose = requireNonNull(dispose, "dispose");
+      return this;
+    }
+
+    /**
+     * Builds the pool.
+     *
+     * @return a pool
+     * @since 1.0.0
+     */
+    public @NotNull Pool<T> build() {
+      return new Pool<>(this);
+    }
+  }
+}
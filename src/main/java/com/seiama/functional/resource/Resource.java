@@ -0,0 +1,198 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resource;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Consumer1E;
+import com.seiama.functional.function.exceptional.Function1E;
+import com.seiama.functional.function.exceptional.RunnableE;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A description of how to acquire a value of type {@code A} and release it once it is no longer needed.
+ *
+ * <p>Nothing is acquired until the resource is {@link #use(Function1E) used}. Resources composed with
+ * {@link #flatMap(Function)} are acquired in order and released in reverse order, and every acquired resource is
+ * released even if acquiring a later one, using them, or releasing another one fails.</p>
+ *
+ * <p>Failures are returned rather than thrown: the first failure becomes the left value, with any failures that
+ * happen while releasing afterwards {@link Throwable#addSuppressed(Throwable) suppressed} on it.</p>
+ *
+ * @param <A> the value type
+ * @since 1.0.0
+ */
+public final class Resource<A> {
+  private final Allocator<A> allocator;
+
+  private Resource(final Allocator<A> allocator) {
+    this.allocator = allocator;
+  }
+
+  /**
+   * Creates a resource that acquires a value with {@code acquire} and releases it with {@code release}.
+   *
+   * @param acquire the acquire action
+   * @param release the release action
+   * @param <A> the value type
+   * @return a resource
+   * @since 1.0.0
+   */
+  public static <A> @NotNull Resource<A> of(final @NotNull SupplierE<? extends A, ?> acquire, final @NotNull Consumer1E<? super A, ?> release) {
+    requireNonNull(acquire, "acquire");
+    requireNonNull(release, "release");
+    return new Resource<>(finalizers -> {
+      final A value = acquire.get();
+      finalizers.push(() -> release.accept(value));
+      return value;
+    });
+  }
+
+  /**
+   * Creates a resource that acquires a value with {@code acquire} and {@link AutoCloseable#close() closes} it.
+   *
+   * @param acquire the acquire action
+   * @param <A> the value type
+   * @return a resource
+   * @since 1.0.0
+   */
+  public static <A extends AutoCloseable> @NotNull Resource<A> closeable(final @NotNull SupplierE<? extends A, ?> acquire) {
+    return of(acquire, AutoCloseable::close);
+  }
+
+  /**
+   * Creates a resource holding {@code value}, which needs no release.
+   *
+   * @param value the value
+   * @param <A> the value type
+   * @return a resource
+   * @since 1.0.0
+   */
+  public static <A> @NotNull Resource<A> pure(final A value) {
+    return new Resource<>(finalizers -> value);
+  }
+
+  /**
+   * Acquires a value with {@code acquire}, applies {@code use} to it, then releases it with {@code release}.
+   *
+   * @param acquire the acquire action
+   * @param use the function using the value, which must not return {@code null}
+   * @param release the release action
+   * @param <A> the value type
+   * @param <T> the result type
+   * @return the result, or the first failure with later failures suppressed on it
+   * @since 1.0.0
+   */
+  public static <A, T> @NotNull Either<Throwable, T> bracket(final @NotNull SupplierE<? extends A, ?> acquire, final @NotNull Function1E<? super A, ? extends T, ?> use, final @NotNull Consumer1E<? super A, ?> release) {
+    return of(acquire, release).use(use);
+  }
+
+  /**
+   * Creates a resource that applies {@code fn} to the value of this resource.
+   *
+   * @param fn the function
+   * @param <B> the new value type
+   * @return a resource
+   * @since 1.0.0
+   */
+  public <B> @NotNull Resource<B> map(final @NotNull Function<? super A, ? extends B> fn) {
+    requireNonNull(fn, "fn");
+    return new Resource<>(finalizers -> fn.apply(this.allocator.allocate(finalizers)));
+  }
+
+  /**
+   * Creates a resource that acquires this resource, then the resource returned by {@code fn}.
+   *
+   * <p>The second resource is released before this one.</p>
+   *
+   * @param fn the function
+   * @param <B> the new value type
+   * @return a resource
+   * @since 1.0.0
+   */
+  public <B> @NotNull Resource<B> flatMap(final @NotNull Function<? super A, ? extends Resource<B>> fn) {
+    requireNonNull(fn, "fn");
+    return new Resource<>(finalizers -> {
+      final Resource<B> next = fn.apply(this.allocator.allocate(finalizers));
+      return next.allocator.allocate(finalizers);
+    });
+  }
+
+  /**
+   * Acquires this resource, applies {@code use} to its value, then releases it.
+   *
+   * <p>A {@link VirtualMachineError} is not returned: it is rethrown once every resource is released. If the
+   * failure is an {@link InterruptedException}, the thread's interrupt status is restored before it is returned.</p>
+   *
+   * @param use the function using the value, which must not return {@code null}
+   * @param <T> the result type
+   * @return the result, or the first failure with later failures suppressed on it
+   * @since 1.0.0
+   */
+  public <T> @NotNull Either<Throwable, T> use(final @NotNull Function1E<? super A, ? extends T, ?> use) {
+    requireNonNull(use, "use");
+    final Deque<RunnableE<?>> finalizers = new ArrayDeque<>();
+    Throwable failure = null;
+    T result = null;
+    try {
+      result = requireNonNull(use.apply(this.allocator.allocate(finalizers)), "result");
+    } catch (final Throwable t) {
+      failure = t;
+    }
+    RunnableE<?> finalizer;
+    while ((finalizer = finalizers.poll()) != null) {
+      try {
+        finalizer.run();
+      } catch (final Throwable t) {
+        if (failure == null) {
+          failure = t;
+        } else if (t instanceof VirtualMachineError && !(failure instanceof VirtualMachineError)) {
+          // the JVM is in trouble, which outranks whatever failed first
+          t.addSuppressed(failure);
+          failure = t;
+        } else if (failure != t) {
+          failure.addSuppressed(t);
+        }
+      }
+    }
+    if (failure instanceof VirtualMachineError error) {
+      throw error;
+    }
+    if (failure instanceof InterruptedException) {
+      Thread.currentThread().interrupt();
+    }
+    return failure == null ? Either.right(result) : Either.left(failure);
+  }
+
+  @FunctionalInterface
+  private interface Allocator<A> {
+    // acquires the value, pushing the action that releases it
+    A allocate(final Deque<RunnableE<?>> finalizers) throws Throwable;
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.stm;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.RunnableE;
+import com.seiama.functional.function.exceptional.SupplierE;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Software transactional memory over {@link TRef}s.
+ *
+ * <p>Transactions use the TL2 algorithm: reads are validated against a global version clock as they are made, so a
+ * transaction never observes an inconsistent state, and writes are buffered until commit, when the written
+ * references are locked and the reads revalidated. A transaction that conflicts with a concurrent commit is run
+ * again, so transaction bodies must not have side effects other than on {@link TRef}s.</p>
+ *
+ * <p>The read and write logs of each thread are reused across transactions. Transactions started inside another
+ * transaction join the outer transaction.</p>
+ *
+ * <p>Control flow inside a transaction relies on internal unchecked exceptions, which transaction bodies must not
+ * catch.</p>
+ *
+ * @since 1.0.0
+ */
+public final class STM {
+  private static final int DEFAULT_MAX_ATTEMPTS = 1000;
+  private static final int MAX_BACKOFF_SHIFT = 10;
+
+  private STM() {
+  }
+
+  /**
+   * Runs {@code body} as a transaction, retrying on conflicts up to a default limit.
+   *
+   * @param body the transaction body, which must not return {@code null}
+   * @param <T> the result type
+   * @param <E> the exception type
+   * @return the result, or a conflict if the transaction could not commit
+   * @throws E if {@code body} throws an exception, in which case the transaction is rolled back
+   * @since 1.0.0
+   */
+  public static <T, E extends Throwable> @NotNull Either<Conflict, T> atomically(final @NotNull SupplierE<? extends T, ? extends E> body) throws E {
+    return atomically(DEFAULT_MAX_ATTEMPTS, body);
+  }
+
+  /**
+   * Runs {@code body} as a transaction, retrying on conflicts up to a default limit.
+   *
+   * @param body the transaction body
+   * @param <E> the exception type
+   * @return unit, or a conflict if the transaction could not commit
+   * @throws E if {@code body} throws an exception, in which case the transaction is rolled back
+   * @since 1.0.0
+   */
+  public static <E extends Throwable> @NotNull Either<Conflict, Unit> atomically(final @NotNull RunnableE<? extends E> body) throws E {
+    requireNonNull(body, "body");
+    return atomically(DEFAULT_MAX_ATTEMPTS, () -> {
+      body.run();
+      return Unit.INSTANCE;
+    });
+  }
+
+  /**
+   * Runs {@code body} as a transaction, retrying on conflicts up to {@code maxAttempts} times.
+   *
+   * <p>Waiting for a change after {@link #retry()} does not count as an attempt.</p>
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @param body the transaction body, which must not return {@code null}
+   * @param <T> the result type
+   * @param <E> the exception type
+   * @return the result, or a conflict if the transaction could not commit
+   * @throws E if {@code body} throws an exception, in which case the transaction is rolled back
+   * @since 1.0.0
+   */
+  public static <T, E extends Throwable> @NotNull Either<Conflict, T> atomically(final int maxAttempts, final @NotNull SupplierE<? extends T, ? extends E> body) throws E {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+    }
+    requireNonNull(body, "body");
+    final Transaction transaction = Transaction.local();
+    if (transaction.active()) {
+      return Either.right(body.get());
+    }
+    int attempts = 0;
+    while (attempts < maxAttempts) {
+      transaction.begin();
+      try {
+        final T result = body.get();
+        if (transaction.commit()) {
+          return Either.right(result);
+        }
+      } catch (final Transaction.Signal signal) {
+        if (signal == Transaction.Signal.RETRY) {
+          if (!transaction.awaitChange()) {
+            return Either.left(new Conflict(attempts + 1));
+          }
+          continue;
+        }
+      } finally {
+        transaction.end();
+      }
+      backoff(attempts++);
+    }
+    return Either.left(new Conflict(attempts));
+  }
+
+  /**
+   * Aborts the current transaction and runs it again once one of the references it read has changed.
+   *
+   * <p>This method never returns normally.</p>
+   *
+   * @param <T> the type of the value this method never returns
+   * @return never
+   * @throws IllegalStateException if called outside of a transaction
+   * @since 1.0.0
+   */
+  public static <T> T retry() {
+    if (Transaction.current() == null) {
+      throw new IllegalStateException("STM.retry must be called inside STM.atomically");
+    }
+    throw Transaction.Signal.RETRY;
+  }
+
+  /**
+   * Runs {@code first}, or {@code second} if {@code first} calls {@link #retry()}.
+   *
+   * <p>The writes of {@code first} are discarded before {@code second} runs. If both call {@link #retry()}, the
+   * transaction waits for a change to any reference read by either.</p>
+   *
+   * @param first the first alternative
+   * @param second the second alternative
+   * @param <T> the result type
+   * @param <E> the exception type
+   * @return the result of the alternative that did not retry
+   * @throws E if the alternative that ran last throws an exception
+   * @throws IllegalStateException if called outside of a transaction
+   * @since 1.0.0
+   */
+  public static <T, E extends Throwable> T orElse(final @NotNull SupplierE<? extends T, ? extends E> first, final @NotNull SupplierE<? extends T, ? extends E> second) throws E {
+    requireNonNull(first, "first");
+    requireNonNull(second, "second");
+    final Transaction transaction = Transaction.current();
+    if (transaction == null) {
+      throw new IllegalStateException("STM.orElse must be called inside STM.atomically");
+    }
+    final Object[] savepoint = transaction.savepoint();
+    try {
+      return first.get();
+    } catch (final Transaction.Signal signal) {
+      if (signal != Transaction.Signal.RETRY) {
+        throw signal;
+      }
+      transaction.rollback(savepoint);
+      return second.get();
+    }
+  }
+
+  private static void backoff(final int attempt) {
+    if (attempt < MAX_BACKOFF_SHIFT) {
+      for (int i = 1 << attempt; i > 0; i--) {
+        Thread.onSpinWait();
+      }
+    } else {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * The failure returned when a transaction could not commit within the allowed attempts.
+   *
+   * <p>A transaction also gives up, keeping the interrupt status, when its thread is interrupted while waiting
+   * after {@link #retry()}.</p>
+   *
+   * @param attempts the number of attempts made
+   * @since 1.0.0
+   */
+  public record Conflict(int attempts) {
+  }
+}
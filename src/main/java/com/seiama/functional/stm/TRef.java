@@ -0,0 +1,138 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.stm;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A transactional reference, read and written inside {@link STM#atomically(com.seiama.functional.function.exceptional.SupplierE) transactions}.
+ *
+ * @param <T> the value type
+ * @since 1.0.0
+ */
+public final class TRef<T> {
+  private static final VarHandle META;
+  // the version of the last commit to this reference, shifted left by one; the low bit is set while a commit holds the lock
+  @SuppressWarnings("unused") // accessed through META
+  private volatile long meta;
+  private volatile @Nullable T value;
+
+  static {
+    try {
+      META = MethodHandles.lookup().findVarHandle(TRef.class, "meta", long.class);
+    } catch (final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private TRef(final @Nullable T value) {
+    this.value = value;
+  }
+
+  /**
+   * Creates a transactional reference.
+   *
+   * @param initial the initial value
+   * @param <T> the value type
+   * @return a transactional reference
+   * @since 1.0.0
+   */
+  public static <T> @NotNull TRef<T> of(final @Nullable T initial) {
+    return new TRef<>(initial);
+  }
+
+  /**
+   * Gets the value.
+   *
+   * <p>Outside of a transaction, this returns the latest committed value.</p>
+   *
+   * @return the value
+   * @since 1.0.0
+   */
+  public @Nullable T get() {
+    final Transaction transaction = Transaction.current();
+    if (transaction == null) {
+      return this.value;
+    }
+    return transaction.read(this);
+  }
+
+  /**
+   * Sets the value.
+   *
+   * @param value the new value
+   * @throws IllegalStateException if called outside of a transaction
+   * @since 1.0.0
+   */
+  public void set(final @Nullable T value) {
+    final Transaction transaction = Transaction.current();
+    if (transaction == null) {
+      throw new IllegalStateException("TRef.set must be called inside STM.atomically");
+    }
+    transaction.write(this, value);
+  }
+
+  /**
+   * Updates the value by applying {@code fn} to the current value.
+   *
+   * @param fn the function
+   * @return the new value
+   * @throws IllegalStateException if called outside of a transaction
+   * @since 1.0.0
+   */
+  public @Nullable T update(final @NotNull Function<? super T, ? extends T> fn) {
+    requireNonNull(fn, "fn");
+    final T value = fn.apply(this.get());
+    this.set(value);
+    return value;
+  }
+
+  long meta() {
+    return (long) META.getVolatile(this);
+  }
+
+  boolean tryLock(final long meta) {
+    return META.compareAndSet(this, meta, meta | 1);
+  }
+
+  void unlock(final long meta) {
+    META.setVolatile(this, meta);
+  }
+
+  @Nullable T value() {
+    return this.value;
+  }
+
+  void value(final @Nullable Object value) {
+    @SuppressWarnings("unchecked") // the transaction log only stores values written through set
+    final T typed = (T) value;
+    this.value = typed;
+  }
+}
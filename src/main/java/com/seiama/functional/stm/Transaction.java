@@ -0,0 +1,222 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.stm;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
+
+// A TL2 transaction. Each thread owns one instance, whose read and write logs are reused across transactions.
+final class Transaction {
+  private static final AtomicLong CLOCK = new AtomicLong();
+  private static final AtomicInteger WAITERS = new AtomicInteger();
+  private static final Object COMMITS = new Object();
+  private static final ThreadLocal<Transaction> LOCAL = ThreadLocal.withInitial(Transaction::new);
+  private boolean active;
+  private long readVersion;
+  private TRef<?>[] reads = new TRef<?>[16];
+  private int readCount;
+  private TRef<?>[] writes = new TRef<?>[8];
+  private @Nullable Object[] values = new Object[8];
+  private long[] metas = new long[8];
+  private int writeCount;
+
+  static @Nullable Transaction current() {
+    final Transaction transaction = LOCAL.get();
+    return transaction.active ? transaction : null;
+  }
+
+  static Transaction local() {
+    return LOCAL.get();
+  }
+
+  boolean active() {
+    return this.active;
+  }
+
+  void begin() {
+    this.active = true;
+    this.readVersion = CLOCK.get();
+  }
+
+  void end() {
+    Arrays.fill(this.reads, 0, this.readCount, null);
+    Arrays.fill(this.writes, 0, this.writeCount, null);
+    Arrays.fill(this.values, 0, this.writeCount, null);
+    this.readCount = 0;
+    this.writeCount = 0;
+    this.active = false;
+  }
+
+  @SuppressWarnings("unchecked") // values are stored by write, which is typed by the reference
+  <T> @Nullable T read(final TRef<T> ref) {
+    for (int i = this.writeCount - 1; i >= 0; i--) {
+      if (this.writes[i] == ref) {
+        return (T) this.values[i];
+      }
+    }
+    final long before = ref.meta();
+    final T value = ref.value();
+    final long after = ref.meta();
+    if ((before & 1) != 0 || before != after || before >>> 1 > this.readVersion) {
+      throw Signal.CONFLICT;
+    }
+    if (this.readCount == this.reads.length) {
+      this.reads = Arrays.copyOf(this.reads, this.readCount << 1);
+    }
+    this.reads[this.readCount++] = ref;
+    return value;
+  }
+
+  <T> void write(final TRef<T> ref, final @Nullable T value) {
+    for (int i = this.writeCount - 1; i >= 0; i--) {
+      if (this.writes[i] == ref) {
+        this.values[i] = value;
+        return;
+      }
+    }
+    if (this.writeCount == this.writes.length) {
+      final int length = this.writeCount << 1;
+      this.writes = Arrays.copyOf(this.writes, length);
+      this.values = Arrays.copyOf(this.values, length);
+      this.metas = Arrays.copyOf(this.metas, length);
+    }
+    this.writes[this.writeCount] = ref;
+    this.values[this.writeCount] = value;
+    this.writeCount++;
+  }
+
+  @Nullable Object[] savepoint() {
+    return Arrays.copyOf(this.values, this.writeCount);
+  }
+
+  void rollback(final @Nullable Object[] savepoint) {
+    Arrays.fill(this.writes, savepoint.length, this.writeCount, null);
+    Arrays.fill(this.values, savepoint.length, this.writeCount, null);
+    System.arraycopy(savepoint, 0, this.values, 0, savepoint.length);
+    this.writeCount = savepoint.length;
+  }
+
+  boolean commit() {
+    if (this.writeCount == 0) {
+      // every read was validated against the read version when it was made
+      return true;
+    }
+    for (int i = 0; i < this.writeCount; i++) {
+      final TRef<?> ref = this.writes[i];
+      final long meta = ref.meta();
+      if ((meta & 1) != 0 || meta >>> 1 > this.readVersion || !ref.tryLock(meta)) {
+        this.unlock(i);
+        return false;
+      }
+      this.metas[i] = meta;
+    }
+    final long writeVersion = CLOCK.incrementAndGet();
+    if (writeVersion != this.readVersion + 1 && !this.validateReads()) {
+      this.unlock(this.writeCount);
+      return false;
+    }
+    for (int i = 0; i < this.writeCount; i++) {
+      this.writes[i].value(this.values[i]);
+    }
+    for (int i = 0; i < this.writeCount; i++) {
+      this.writes[i].unlock(writeVersion << 1);
+    }
+    if (WAITERS.get() > 0) {
+      synchronized (COMMITS) {
+        COMMITS.notifyAll();
+      }
+    }
+    return true;
+  }
+
+  // blocks until a reference read by this transaction may have changed, returning false if interrupted
+  boolean awaitChange() {
+    if (this.readCount == 0) {
+      throw new IllegalStateException("STM.retry called without reading any TRef");
+    }
+    WAITERS.incrementAndGet();
+    try {
+      synchronized (COMMITS) {
+        while (!this.readsChanged()) {
+          COMMITS.wait();
+        }
+      }
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      WAITERS.decrementAndGet();
+    }
+  }
+
+  private boolean validateReads() {
+    for (int i = 0; i < this.readCount; i++) {
+      final TRef<?> ref = this.reads[i];
+      final long meta = ref.meta();
+      if (meta >>> 1 > this.readVersion || (meta & 1) != 0 && !this.writing(ref)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean readsChanged() {
+    for (int i = 0; i < this.readCount; i++) {
+      final long meta = this.reads[i].meta();
+      if ((meta & 1) != 0 || meta >>> 1 > this.readVersion) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean writing(final TRef<?> ref) {
+    for (int i = 0; i < this.writeCount; i++) {
+      if (this.writes[i] == ref) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void unlock(final int count) {
+    for (int i = 0; i < count; i++) {
+      this.writes[i].unlock(this.metas[i]);
+    }
+  }
+
+  // control flow signals thrown through user code; preallocated and without stack traces
+  static final class Signal extends RuntimeException {
+    static final Signal CONFLICT = new Signal("conflict");
+    static final Signal RETRY = new Signal("retry");
+    private static final long serialVersionUID = 1L;
+
+    private Signal(final String message) {
+      super(message, null, false, false);
+    }
+  }
+}
@@ -22,10 +22,30 @@
  * SOFTWARE.
  */
 module com.seiama.functional {
+  requires static transitive java.management;
+  requires static jdk.jfr;
   requires static transitive org.jetbrains.annotations;
 
   exports com.seiama.functional;
+  exports com.seiama.functional.algebra;
+  exports com.seiama.functional.adt.chunk;
   exports com.seiama.functional.adt.either;
+  exports com.seiama.functional.adt.ior;
+  exports com.seiama.functional.adt.seq;
+  exports com.seiama.functional.codec;
+  exports com.seiama.functional.concurrent;
+  exports com.seiama.functional.effect;
+  exports com.seiama.functional.flow;
   exports com.seiama.functional.function;
   exports com.seiama.functional.function.exceptional;
+  exports com.seiama.functional.graph;
+  exports com.seiama.functional.incremental;
+  exports com.seiama.functional.instrument;
+  exports com.seiama.functional.optics;
+  exports com.seiama.functional.parse;
+  exports com.seiama.functional.resilience;
+  exports com.seiama.functional.resource;
+  exports com.seiama.functional.stm;
+
+  opens com.seiama.functional.instrument to jdk.jfr;
 }
@@ -0,0 +1,57 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ByteChunkTest {
+  @Test
+  void testBuffers() {
+    final ByteBuffer source = ByteBuffer.wrap("header:payload".getBytes(StandardCharsets.US_ASCII));
+    source.position(7);
+    final ByteChunk chunk = ByteChunk.copyOf(source);
+    assertEquals(7, source.position());
+    assertEquals(7, chunk.size());
+    final ByteBuffer view = chunk.slice(3, 7).asByteBuffer();
+    assertEquals(0, view.position());
+    assertEquals(4, view.remaining());
+    assertEquals("load", StandardCharsets.US_ASCII.decode(view).toString());
+    assertThrows(ReadOnlyBufferException.class, () -> chunk.asByteBuffer().put((byte) 0));
+  }
+
+  @Test
+  void testValues() {
+    final ByteChunk chunk = ByteChunk.of((byte) 1, (byte) -1).concat(ByteChunk.of((byte) 127));
+    assertEquals(ByteChunk.of((byte) 2, (byte) -2, (byte) -2), chunk.map(b -> b * 2));
+    assertArrayEquals(new int[] {1, -1, 127}, chunk.stream().toArray());
+    assertEquals("[1, -1, 127]", chunk.toString());
+  }
+}
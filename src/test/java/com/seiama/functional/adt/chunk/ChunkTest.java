@@ -0,0 +1,116 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.adt.either.Partition;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkTest {
+  @Test
+  void testSlice() {
+    final Chunk<String> chunk = Chunk.of("a", "b", "c", "d", "e");
+    final Chunk<String> slice = chunk.slice(1, 4);
+    assertEquals(List.of("b", "c", "d"), slice.asList());
+    assertEquals(Chunk.of("c"), slice.slice(1, 2));
+    assertSame(chunk, chunk.slice(0, 5));
+    assertTrue(chunk.slice(2, 2).isEmpty());
+    assertThrows(IndexOutOfBoundsException.class, () -> slice.get(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> chunk.slice(3, 6));
+  }
+
+  @Test
+  void testOfCopies() {
+    final String[] values = {"a", "b"};
+    final Chunk<String> chunk = Chunk.of(values);
+    values[0] = "z";
+    assertEquals("a", chunk.get(0));
+    assertThrows(UnsupportedOperationException.class, () -> chunk.asList().set(0, "z"));
+  }
+
+  @Test
+  void testConcat() {
+    Chunk<Integer> chunk = Chunk.empty();
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      chunk = chunk.concat(Chunk.of(i, -i));
+      expected.add(i);
+      expected.add(-i);
+    }
+    assertEquals(2000, chunk.size());
+    // appending keeps the tree balanced, rather than copying it whenever it gets too deep
+    assertTrue(chunk.depth < 16);
+    assertEquals(expected, chunk.asList());
+    assertEquals(expected.subList(10, 1990), chunk.slice(10, 1990).asList());
+    assertEquals(expected, chunk.stream().collect(Collectors.toList()));
+    assertEquals(Chunk.copyOf(expected), chunk);
+    assertEquals(expected.hashCode(), chunk.hashCode());
+  }
+
+  @Test
+  void testSliceOfConcatAvoidsFlattening() {
+    final Chunk<String> chunk = Chunk.of("a", "b").concat(Chunk.of("c", "d"));
+    assertEquals(Chunk.of("d"), chunk.slice(3, 4));
+    assertEquals(Chunk.of("b", "c"), chunk.slice(1, 3));
+    assertEquals("[a, b, c, d]", chunk.toString());
+  }
+
+  @Test
+  void testFlattenedConcat() {
+    final Chunk<String> chunk = Chunk.of("a", "b").concat(Chunk.of("c", "d"));
+    assertEquals(List.of("a", "b", "c", "d"), chunk.asList());
+    assertEquals(Chunk.of("d"), chunk.slice(3, 4));
+    assertEquals(Chunk.of("b", "c"), chunk.slice(1, 3));
+    assertEquals(List.of("a", "b", "c", "d", "e"), chunk.concat(Chunk.of("e")).asList());
+  }
+
+  @Test
+  void testMap() throws IOException {
+    final Chunk<String> chunk = Chunk.of("1", "22", "333").slice(1, 3);
+    assertEquals(Chunk.of(2, 3), chunk.map(String::length));
+    assertEquals(IntChunk.of(2, 3), chunk.mapToInt(String::length));
+    assertEquals(LongChunk.of(22, 333), chunk.mapToLong(Long::parseLong));
+    assertThrows(IOException.class, () -> chunk.map(value -> {
+      throw new IOException(value);
+    }));
+  }
+
+  @Test
+  void testPartition() {
+    final Chunk<Integer> chunk = Chunk.copyOf(IntStream.range(0, 10).boxed().toList());
+    final Partition<String, Integer> partition = chunk.partition(i -> i % 3 == 0 ? Either.left("x" + i) : Either.right(i));
+    assertEquals(List.of("x0", "x3", "x6", "x9"), partition.lefts());
+    assertEquals(List.of(1, 2, 4, 5, 7, 8), partition.rights());
+  }
+}
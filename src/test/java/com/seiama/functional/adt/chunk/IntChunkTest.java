@@ -0,0 +1,64 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.chunk;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class IntChunkTest {
+  @Test
+  void testSliceAndConcat() {
+    IntChunk chunk = IntChunk.empty();
+    for (int i = 0; i < 500; i++) {
+      chunk = chunk.concat(IntChunk.of(i));
+    }
+    assertArrayEquals(IntStream.range(0, 500).toArray(), chunk.toArray());
+    assertEquals(IntChunk.of(10, 11, 12), chunk.slice(10, 13));
+    assertEquals(IntChunk.of(10, 11, 12).hashCode(), chunk.slice(10, 13).hashCode());
+    assertNotEquals(IntChunk.of(10, 11), chunk.slice(10, 13));
+    assertEquals(124_750, chunk.sum());
+    assertEquals("[1, 2]", chunk.slice(1, 3).toString());
+  }
+
+  @Test
+  void testMap() {
+    final IntChunk chunk = IntChunk.of(1, 2, 3, Integer.MAX_VALUE).slice(2, 4);
+    assertEquals(IntChunk.of(6, -2), chunk.map(i -> i * 2));
+    assertEquals(Chunk.of("3", String.valueOf(Integer.MAX_VALUE)), chunk.mapToObj(String::valueOf));
+    assertEquals(3L + Integer.MAX_VALUE, chunk.sum());
+    assertEquals(3L + Integer.MAX_VALUE, chunk.stream().asLongStream().sum());
+  }
+
+  @Test
+  void testLongChunk() {
+    final LongChunk chunk = LongChunk.of(1, 2).concat(LongChunk.of(Long.MAX_VALUE));
+    assertEquals(Long.MAX_VALUE, chunk.get(2));
+    assertArrayEquals(new long[] {2, Long.MAX_VALUE}, chunk.slice(1, 3).toArray());
+    assertEquals(3, chunk.stream().count());
+  }
+}
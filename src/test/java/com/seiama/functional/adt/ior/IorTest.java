@@ -0,0 +1,117 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.ior;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.algebra.Monoid;
+import com.seiama.functional.algebra.Semigroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IorTest {
+  private static final Semigroup<List<String>> WARNINGS = Monoid.list();
+
+  @Test
+  void testFlatMapAccumulatesLefts() {
+    final Ior<List<String>, Integer> result = Ior.<List<String>, Integer>both(List.of("a"), 1)
+      .flatMap(WARNINGS, value -> Ior.both(List.of("b"), value + 1))
+      .flatMap(WARNINGS, value -> Ior.right(value * 10));
+    assertEquals(Ior.both(List.of("a", "b"), 20), result);
+    assertEquals(Ior.left(List.of("a", "b", "c")), result.flatMap(WARNINGS, value -> Ior.left(List.of("c"))));
+    final AtomicInteger calls = new AtomicInteger();
+    assertEquals(Ior.left(List.of("x")), Ior.<List<String>, Integer>left(List.of("x")).flatMap(WARNINGS, value -> Ior.right(calls.incrementAndGet())));
+    assertEquals(0, calls.get());
+  }
+
+  @Test
+  void testEitherConversions() {
+    assertEquals(Either.right(1), Ior.both("warning", 1).toEither());
+    assertEquals(Either.left("error"), Ior.left("error").toEither());
+    assertEquals(Ior.right(1), Ior.fromEither(Either.right(1)));
+    assertEquals(Ior.left("error"), Ior.fromEither(Either.left("error")));
+    assertEquals(Ior.both(1, "warning"), Ior.both("warning", 1).swap());
+  }
+
+  @Test
+  void testFold() {
+    assertEquals("w:1", Ior.both("w", 1).fold(l -> l, r -> "" + r, (l, r) -> l + ":" + r));
+    assertEquals(List.of("w", "1"), Ior.both("w", 1).map(l -> l, String::valueOf).fold(List::of, List::of, List::of));
+  }
+
+  @Test
+  void testSequence() {
+    final List<Ior<List<String>, Integer>> rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(i % 3 == 0 ? Ior.both(List.of("row " + i), i) : Ior.right(i));
+    }
+    assertEquals(Ior.both(List.of("row 0", "row 3", "row 6", "row 9"), List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)), Ior.sequence(rows, WARNINGS));
+    rows.set(4, Ior.left(List.of("bad row 4")));
+    assertEquals(Ior.left(List.of("row 0", "row 3", "bad row 4")), Ior.sequence(rows, WARNINGS));
+    final AtomicInteger visited = new AtomicInteger();
+    Ior.traverse(rows, WARNINGS, row -> {
+      visited.incrementAndGet();
+      return row;
+    });
+    assertEquals(5, visited.get());
+    assertEquals(Ior.right(List.of()), Ior.sequence(List.<Ior<List<String>, Integer>>of(), WARNINGS));
+  }
+
+  @Test
+  void testCollector() {
+    final Ior<Integer, List<Integer>> result = IntStream.range(0, 100_000)
+      .parallel()
+      .mapToObj(i -> i % 1000 == 0 ? Ior.<Integer, Integer>both(1, i) : Ior.<Integer, Integer>right(i))
+      .collect(Ior.collector(Monoid.intSum()));
+    assertEquals(100, result.left().orElseThrow());
+    final List<Integer> values = result.right().orElseThrow();
+    assertEquals(100_000, values.size());
+    for (int i = 0; i < values.size(); i++) {
+      assertEquals(i, values.get(i));
+    }
+    final Ior<Integer, List<Integer>> failed = IntStream.range(0, 10_000)
+      .parallel()
+      .mapToObj(i -> i == 5000 ? Ior.<Integer, Integer>left(1) : Ior.<Integer, Integer>right(i))
+      .collect(Ior.collector(Monoid.intSum()));
+    assertEquals(Ior.left(1), failed);
+  }
+
+  @Test
+  void testSemigroup() {
+    final Semigroup<Ior<List<String>, Integer>> semigroup = Ior.semigroup(WARNINGS, Monoid.intSum());
+    assertEquals(Ior.both(List.of("a"), 3), semigroup.combine(Ior.left(List.of("a")), Ior.right(3)));
+    assertEquals(Ior.right(5), semigroup.combine(Ior.right(2), Ior.right(3)));
+    assertEquals(Ior.both(List.of("a", "b"), 2), semigroup.combine(Ior.both(List.of("a"), 2), Ior.left(List.of("b"))));
+    assertEquals(Ior.left(List.of("a", "b")), semigroup.combine(Ior.left(List.of("a")), Ior.left(List.of("b"))));
+    assertEquals(Ior.both(List.of("a", "b"), 2), semigroup.combine(Ior.left(List.of("a")), Ior.both(List.of("b"), 2)));
+    assertEquals(Ior.both(List.of("b"), 3), semigroup.combine(Ior.right(3), Ior.left(List.of("b"))));
+    assertEquals(Ior.both(List.of("b"), 5), semigroup.combine(Ior.right(3), Ior.both(List.of("b"), 2)));
+    assertEquals(Ior.both(List.of("a"), 5), semigroup.combine(Ior.both(List.of("a"), 2), Ior.right(3)));
+    assertEquals(Ior.both(List.of("a", "b"), 5), semigroup.combine(Ior.both(List.of("a"), 2), Ior.both(List.of("b"), 3)));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.adt.seq;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.adt.either.Partition;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazySeqTest {
+  @Test
+  void testMapAndFilterApplyInOrder() {
+    final LazySeq<String> seq = LazySeq.of(1, 2, 3, 4, 5, 6)
+      .map(n -> n * 10)
+      .filter(n -> n % 20 == 0)
+      .map(n -> n + 1)
+      .filter(n -> n > 21)
+      .map(String::valueOf);
+    assertEquals(List.of("41", "61"), seq.toList());
+    assertEquals(List.of("41", "61"), seq.toList());
+  }
+
+  @Test
+  void testLaziness() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LazySeq<Integer> seq = LazySeq.of(1, 2, 3).map(n -> {
+      calls.incrementAndGet();
+      return n;
+    });
+    assertEquals(0, calls.get());
+    assertEquals(Optional.of(1), seq.first());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testIterateAndTake() {
+    assertEquals(List.of(1, 2, 4, 8), LazySeq.iterate(1, n -> n * 2).take(4).toList());
+    assertEquals(List.of(2, 4), LazySeq.iterate(1, n -> n + 1).filter(n -> n % 2 == 0).take(2).toList());
+  }
+
+  @Test
+  void testFlatMap() {
+    assertEquals(List.of(1, 1, 2, 1, 2, 3), LazySeq.of(1, 2, 3).flatMap(n -> LazySeq.iterate(1, i -> i + 1).take(n)).toList());
+    assertEquals(List.of(), LazySeq.of(1, 2).flatMap(n -> List.of()).toList());
+  }
+
+  @Test
+  void testCollectEither() {
+    final LazySeq<Either<String, Integer>> seq = LazySeq.of(Either.left("a"), Either.right(1), Either.left("b"), Either.right(2));
+    assertEquals(List.of(1, 2), seq.collectRight(e -> e).toList());
+    assertEquals(List.of("a", "b"), seq.collectLeft(e -> e).toList());
+    assertEquals(new Partition<>(List.of("a", "b"), List.of(1, 2)), seq.partition(e -> e));
+  }
+
+  @Test
+  void testMemoize() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LazySeq<Integer> seq = LazySeq.from(List.of(1, 2, 3)).map(n -> {
+      calls.incrementAndGet();
+      return n * 2;
+    }).memoize();
+    assertEquals(Optional.of(2), seq.first());
+    assertEquals(1, calls.get());
+    assertEquals(List.of(2, 4, 6), seq.toList());
+    assertEquals(List.of(2, 4, 6), seq.toList());
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void testFoldAndCount() {
+    final LazySeq<Integer> seq = LazySeq.from(new ArrayList<>(List.of(1, 2, 3, 4)));
+    assertEquals(10, seq.fold(0, Integer::sum));
+    assertEquals(2, seq.filter(n -> n > 2).count());
+    assertEquals(0, LazySeq.empty().count());
+  }
+
+  @Test
+  void testIterator() {
+    final Iterator<Integer> iterator = LazySeq.from((Iterable<Integer>) List.of(1, 2)::iterator).iterator();
+    assertTrue(iterator.hasNext());
+    assertTrue(iterator.hasNext());
+    assertEquals(1, iterator.next());
+    assertEquals(2, iterator.next());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.algebra;
+
+import com.seiama.functional.adt.either.Either;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FoldsTest {
+  @Test
+  void testSumsMatchSequentialFold() {
+    final Integer[] values = IntStream.range(0, 1_000_000).boxed().toArray(Integer[]::new);
+    final long expected = 999_999L * 1_000_000L / 2;
+    assertEquals(expected, Folds.foldMap(values, Integer::longValue, Monoid.longSum()));
+    assertEquals(expected, Folds.foldMap(List.of(values), Integer::longValue, Monoid.longSum()));
+    assertEquals(expected, Folds.foldMap(new LinkedList<>(List.of(values)), Integer::longValue, Monoid.longSum()));
+    assertEquals(expected, Folds.foldMap(IntStream.range(0, 1_000_000).boxed().spliterator(), Integer::longValue, Monoid.longSum()));
+  }
+
+  @Test
+  void testPreservesEncounterOrder() {
+    final List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      values.add(i % 10);
+    }
+    final String folded = Folds.foldMap(values, String::valueOf, Monoid.string());
+    assertEquals(50_000, folded.length());
+    for (int i = 0; i < folded.length(); i++) {
+      assertEquals((char) ('0' + i % 10), folded.charAt(i));
+    }
+    assertEquals(values, Folds.foldMap(values, List::of, Monoid.list()));
+  }
+
+  @Test
+  void testEitherReduction() {
+    final List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+    final Monoid<Either<String, Integer>> monoid = Monoid.accumulating(Monoid.string(), Monoid.intSum());
+    assertEquals(Either.left("x4999x9998"), Folds.foldMap(values, i -> i % 4999 == 0 && i > 0 ? Either.left("x" + i) : Either.right(1), monoid));
+  }
+
+  @Test
+  void testEmptyAndFailing() {
+    assertEquals(0, Folds.foldMap(new Integer[0], i -> i, Monoid.intSum()));
+    final List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+    assertThrows(IllegalStateException.class, () -> Folds.foldMap(values, i -> {
+      if (i == 5000) {
+        throw new IllegalStateException();
+      }
+      return i;
+    }, Monoid.intSum()));
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.algebra;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MonoidTest {
+  @Test
+  void testInstances() {
+    assertEquals(6, Monoid.intSum().combineAll(List.of(1, 2, 3)));
+    assertEquals(24L, Monoid.longProduct().combineAll(List.of(2L, 3L, 4L)));
+    assertEquals(BigInteger.TEN, Monoid.bigIntegerSum().combine(BigInteger.TWO, BigInteger.valueOf(8)));
+    assertEquals("abc", Monoid.string().combineAll(List.of("a", "b", "c")));
+    assertEquals(List.of(1, 2, 3), Monoid.<Integer>list().combine(List.of(1), List.of(2, 3)));
+    assertEquals(List.of(1, 2, 3), Monoid.<Integer>list().combineAll(List.of(List.of(1), List.of(), List.of(2, 3))));
+    assertEquals(Unit.INSTANCE, Monoid.unit().combineAll(List.of()));
+    assertEquals(0, Monoid.intSum().combineAll(List.of()));
+  }
+
+  @Test
+  void testListCombineAllBuildsOneList() {
+    final List<List<Integer>> values = new ArrayList<>();
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 200_000; i++) {
+      values.add(List.of(i));
+      expected.add(i);
+    }
+    assertEquals(expected, Monoid.<Integer>list().combineAll(values));
+    assertEquals(expected, Folds.foldMap(new LinkedList<>(expected), List::of, Monoid.list()));
+  }
+
+  @Test
+  void testSemigroups() {
+    assertEquals("a", Semigroup.<String>first().combine("a", "b"));
+    assertEquals("b", Semigroup.<String>last().combine("a", "b"));
+    assertEquals(1, Semigroup.<Integer>min(Comparator.naturalOrder()).combine(3, 1));
+    assertEquals(3, Semigroup.<Integer>max(Comparator.naturalOrder()).combine(3, 1));
+    assertEquals(1024, Monoid.intProduct().repeat(2, 10));
+    assertEquals("ababab", Monoid.string().repeat("ab", 3));
+    assertThrows(IllegalArgumentException.class, () -> Monoid.string().repeat("ab", 0));
+  }
+
+  @Test
+  void testEitherStopsAtFirstLeft() {
+    final Monoid<Either<String, Integer>> monoid = Monoid.either(Monoid.intSum());
+    assertEquals(Either.right(0), monoid.empty());
+    assertEquals(Either.right(3), monoid.combineAll(List.of(Either.right(1), Either.right(2))));
+    assertEquals(Either.left("a"), monoid.combineAll(List.of(Either.right(1), Either.left("a"), Either.left("b"))));
+  }
+
+  @Test
+  void testEitherAccumulatesLefts() {
+    final Monoid<Either<String, Integer>> monoid = Monoid.accumulating(Monoid.string(), Monoid.intSum());
+    assertEquals(Either.right(3), monoid.combineAll(List.of(Either.right(1), Either.right(2))));
+    assertEquals(Either.left("ab"), monoid.combineAll(List.of(Either.right(1), Either.left("a"), Either.right(2), Either.left("b"))));
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.codec;
+
+import com.seiama.functional.adt.either.Either;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EitherCodecTest {
+  private static final EitherCodec<String, Long> CODEC = EitherCodec.of(Codec.utf8(), Codec.int64());
+
+  @Test
+  void testRoundTrip() {
+    for (final ByteBuffer buffer : buffers(64)) {
+      final Either<String, Long> left = Either.left("héllo 😀");
+      final Either<String, Long> right = Either.right(42L);
+      CODEC.encode(left, buffer);
+      CODEC.encode(right, buffer);
+      assertEquals(CODEC.size(left) + CODEC.size(right), buffer.position());
+      buffer.flip();
+      assertEquals(left, CODEC.decode(buffer));
+      assertEquals(right, CODEC.decode(buffer));
+      assertFalse(buffer.hasRemaining());
+    }
+  }
+
+  @Test
+  void testUtf8MatchesJdk() {
+    final String value = "aé中😀z";
+    final ByteBuffer buffer = ByteBuffer.allocate(Codec.utf8().size(value));
+    Codec.utf8().encode(value, buffer);
+    buffer.flip();
+    assertEquals(value.getBytes(StandardCharsets.UTF_8).length, buffer.getInt());
+    assertEquals(value, new String(buffer.array(), 4, buffer.remaining(), StandardCharsets.UTF_8));
+    final ByteBuffer unpaired = ByteBuffer.allocate(16);
+    Codec.utf8().encode("a" + Character.highSurrogate(0x1F600), unpaired);
+    unpaired.flip();
+    assertEquals("a?", Codec.utf8().decode(unpaired));
+  }
+
+  @Test
+  void testBatchRoundTrip() {
+    final List<Either<String, Long>> values = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      values.add(i % 3 == 0 ? Either.left("error " + i) : Either.right((long) i));
+    }
+    for (final ByteBuffer buffer : buffers(CODEC.sizeAll(values))) {
+      CODEC.encodeAll(values, buffer);
+      assertFalse(buffer.hasRemaining());
+      buffer.flip();
+      assertEquals(values, CODEC.decodeAll(buffer));
+      assertFalse(buffer.hasRemaining());
+    }
+  }
+
+  @Test
+  void testBatchEmpty() {
+    final ByteBuffer buffer = ByteBuffer.allocate(CODEC.sizeAll(List.of()));
+    CODEC.encodeAll(List.of(), buffer);
+    buffer.flip();
+    assertEquals(List.of(), CODEC.decodeAll(buffer));
+  }
+
+  @Test
+  void testOverflowLeavesBufferUntouched() {
+    final ByteBuffer buffer = ByteBuffer.allocate(4);
+    assertThrows(BufferOverflowException.class, () -> CODEC.encode(Either.right(1L), buffer));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void testUnknownTag() {
+    assertThrows(IllegalArgumentException.class, () -> CODEC.decode(ByteBuffer.wrap(new byte[] {2})));
+  }
+
+  @Test
+  void testMappedCodec() {
+    final Codec<Boolean> booleans = Codec.int32().map(value -> value ? 1 : 0, value -> value != 0);
+    final EitherCodec<Boolean, Integer> codec = EitherCodec.of(booleans, Codec.int32());
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec.encode(Either.left(true), buffer);
+    buffer.flip();
+    assertEquals(Either.left(true), codec.decode(buffer));
+  }
+
+  @Test
+  void testLargeBatchRoundTrip() {
+    final List<Either<String, Long>> values = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      values.add(i % 10 == 0 ? Either.left("failed " + i) : Either.right((long) i));
+    }
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(CODEC.sizeAll(values));
+    CODEC.encodeAll(values, buffer);
+    assertFalse(buffer.hasRemaining());
+    buffer.flip();
+    assertEquals(values, CODEC.decodeAll(buffer));
+    assertFalse(buffer.hasRemaining());
+  }
+
+  private static List<ByteBuffer> buffers(final int capacity) {
+    return List.of(
+      ByteBuffer.allocate(capacity),
+      ByteBuffer.allocateDirect(capacity),
+      ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN)
+    );
+  }
+}
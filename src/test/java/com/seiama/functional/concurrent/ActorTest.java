@@ -0,0 +1,165 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActorTest {
+  @Test
+  void testProcessesMessagesInOrder() throws InterruptedException {
+    final List<Integer> seen = new ArrayList<>();
+    final CountDownLatch done = new CountDownLatch(1000);
+    final Actor<Integer> actor = Actor.builder((Integer message) -> {
+      seen.add(message);
+      done.countDown();
+    }).batchSize(16).build();
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(Either.right(Unit.INSTANCE), actor.tell(i));
+    }
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, seen.get(i));
+    }
+    // the count is published once the batch holding the last message finishes
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (actor.processed() < 1000 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    assertEquals(1000, actor.processed());
+    assertEquals(0, actor.depth());
+  }
+
+  @Test
+  void testConcurrentSenders() throws InterruptedException {
+    final long[] total = new long[1];
+    final CountDownLatch done = new CountDownLatch(8 * 10_000);
+    final Actor<Long> actor = Actor.of((Long message) -> {
+      total[0] += message;
+      done.countDown();
+    });
+    final Thread[] senders = new Thread[8];
+    for (int i = 0; i < senders.length; i++) {
+      senders[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          actor.tell(1L);
+        }
+      });
+      senders[i].start();
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(80_000L, total[0]);
+  }
+
+  @Test
+  void testBoundedMailboxDrops() throws InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch started = new CountDownLatch(1);
+    final Actor<String> actor = Actor.builder((String message) -> {
+      started.countDown();
+      release.await();
+    }).bounded(2, Actor.Overflow.DROP).build();
+    actor.tell("first");
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertEquals(Either.right(Unit.INSTANCE), actor.tell("a"));
+    assertEquals(Either.right(Unit.INSTANCE), actor.tell("b"));
+    assertEquals(Either.left(Actor.Dropped.MAILBOX_FULL), actor.tell("c"));
+    assertEquals(2, actor.depth());
+    assertEquals(1, actor.dropped());
+    release.countDown();
+  }
+
+  @Test
+  void testBoundedMailboxBlocks() throws InterruptedException {
+    final CountDownLatch done = new CountDownLatch(100);
+    final Actor<Integer> actor = Actor.builder((Integer message) -> {
+      Thread.sleep(0, 1000);
+      done.countDown();
+    }).bounded(4, Actor.Overflow.BLOCK).build();
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Either.right(Unit.INSTANCE), actor.tell(i));
+      assertTrue(actor.depth() <= 4);
+    }
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(0, actor.dropped());
+  }
+
+  @Test
+  void testErrorsDoNotStopActor() throws InterruptedException {
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+    final Actor<String> actor = Actor.builder((String message) -> {
+      if (message.equals("fail")) {
+        throw new IOException(message);
+      }
+      done.countDown();
+    }).onError((message, e) -> error.set(e)).build();
+    actor.tell("fail");
+    actor.tell("ok");
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertInstanceOf(IOException.class, error.get());
+  }
+
+  @Test
+  void testThrowingErrorHandlerDoesNotStopActor() throws InterruptedException {
+    final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+    final Actor<String> actor = Actor.builder((String message) -> {
+      if (message.equals("fail")) {
+        throw new IOException(message);
+      }
+      done.countDown();
+    }).onError((message, e) -> {
+      throw new IllegalStateException("handler");
+    }).executor(task -> {
+      final Thread thread = new Thread(task);
+      thread.setUncaughtExceptionHandler((t, e) -> uncaught.set(e));
+      thread.start();
+    }).build();
+    actor.tell("fail");
+    actor.tell("ok");
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, uncaught.get());
+    assertInstanceOf(IOException.class, uncaught.get().getSuppressed()[0]);
+  }
+
+  @Test
+  void testStop() {
+    final Actor<String> actor = Actor.of(message -> { });
+    actor.stop();
+    assertTrue(actor.isStopped());
+    assertEquals(Either.left(Actor.Dropped.STOPPED), actor.tell("late"));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Consumer2E;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AtomTest {
+  @Test
+  void testSwap() {
+    final Atom<Integer> atom = Atom.of(1);
+    assertEquals(2, atom.swap(value -> value + 1));
+    assertEquals(12, atom.swap(Integer::sum, 10));
+    assertEquals(12, atom.get());
+    assertEquals(12, atom.set(3));
+    assertTrue(atom.compareAndSet(atom.get(), 4));
+    assertFalse(atom.compareAndSet(5, 6));
+  }
+
+  @Test
+  void testConcurrentSwaps() throws InterruptedException {
+    final Atom<Long> atom = Atom.of(0L);
+    final Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          atom.swap(Long::sum, 1L);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(80_000L, atom.get());
+  }
+
+  @Test
+  void testValidator() {
+    assertThrows(IllegalArgumentException.class, () -> Atom.of(-1, value -> value >= 0));
+    final Atom<Integer> atom = Atom.of(1, value -> value >= 0);
+    assertThrows(IllegalArgumentException.class, () -> atom.swap(value -> value - 2));
+    assertEquals(1, atom.get());
+    assertEquals(Either.left(new Atom.Invalid<>(1, -1)), atom.swapResult(value -> value - 2));
+    assertEquals(Either.right(3), atom.swapResult(value -> value + 2));
+  }
+
+  @Test
+  void testWatchers() {
+    final Atom<String> atom = Atom.of("a");
+    final List<String> seen = new ArrayList<>();
+    atom.watch((previous, value) -> seen.add(previous + "->" + value));
+    atom.swap(value -> value + "b");
+    atom.set("c");
+    assertEquals(List.of("a->ab", "ab->c"), seen);
+  }
+
+  @Test
+  void testWatcherFailureDoesNotUndoUpdate() {
+    final Atom<String> atom = Atom.of("a");
+    final List<String> seen = new ArrayList<>();
+    atom.watch((previous, value) -> {
+      throw new IOException("watcher");
+    });
+    atom.watch((previous, value) -> seen.add(value));
+    final CompletionException e = assertThrows(CompletionException.class, () -> atom.set("b"));
+    assertInstanceOf(IOException.class, e.getCause());
+    assertEquals("b", atom.get());
+    assertEquals(List.of("b"), seen);
+  }
+
+  @Test
+  void testUnwatch() {
+    final Atom<Integer> atom = Atom.of(0);
+    final List<Integer> seen = new ArrayList<>();
+    final Consumer2E<Integer, Integer, RuntimeException> watcher = (previous, value) -> seen.add(value);
+    atom.watch(watcher);
+    atom.set(1);
+    assertTrue(atom.unwatch(watcher));
+    assertFalse(atom.unwatch(watcher));
+    atom.set(2);
+    assertEquals(List.of(1), seen);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.concurrent;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelineTest {
+  @Test
+  void testStagesRunInOrderAcrossWraps() {
+    final long[] total = new long[1];
+    final AtomicLong mismatches = new AtomicLong();
+    final Pipeline<Event> pipeline = Pipeline.builder(Event::new)
+      .bufferSize(8)
+      .stage((Event event) -> event.doubled = event.value * 2)
+      .stage((Event event) -> {
+        if (event.doubled != event.value * 2) {
+          mismatches.incrementAndGet();
+        }
+        total[0] += event.doubled;
+      })
+      .build();
+    for (int i = 0; i < 100_000; i++) {
+      final long value = i;
+      pipeline.publish((Event event) -> event.value = value);
+    }
+    pipeline.close();
+    assertEquals(100_000, pipeline.processed());
+    assertEquals(0, mismatches.get());
+    assertEquals(99_999L * 100_000L, total[0]);
+  }
+
+  @Test
+  void testTryPublishWhenFull() {
+    final CountDownLatch release = new CountDownLatch(1);
+    final Pipeline<Event> pipeline = Pipeline.builder(Event::new)
+      .bufferSize(2)
+      .waitStrategy(WaitStrategy.PARK)
+      .stage((Event event) -> release.await())
+      .build();
+    assertTrue(pipeline.tryPublish((Event event) -> event.value = 1));
+    assertTrue(pipeline.tryPublish((Event event) -> event.value = 2));
+    assertFalse(pipeline.tryPublish((Event event) -> event.value = 3));
+    release.countDown();
+    pipeline.close();
+    assertEquals(2, pipeline.processed());
+  }
+
+  @Test
+  void testErrorsDoNotStopTheEvent() {
+    final AtomicLong errors = new AtomicLong();
+    final AtomicLong reached = new AtomicLong();
+    final Pipeline<Event> pipeline = Pipeline.builder(Event::new)
+      .stage((Event event) -> {
+        if (event.value % 2 == 0) {
+          throw new IllegalArgumentException();
+        }
+      })
+      .stage((Event event) -> reached.incrementAndGet())
+      .onError((event, error) -> errors.incrementAndGet())
+      .build();
+    for (int i = 0; i < 10; i++) {
+      final long value = i;
+      pipeline.publish((Event event) -> event.value = value);
+    }
+    pipeline.close();
+    assertEquals(5, errors.get());
+    assertEquals(10, reached.get());
+  }
+
+  @Test
+  void testThrowingErrorHandlerDoesNotStallTheRing() {
+    final AtomicInteger uncaught = new AtomicInteger();
+    final Pipeline<Event> pipeline = Pipeline.builder(Event::new)
+      .bufferSize(4)
+      .stage((Event event) -> {
+        throw new IOException("stage");
+      })
+      .onError((event, error) -> {
+        throw new IllegalStateException("handler");
+      })
+      .threadFactory(task -> {
+        final Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((t, e) -> uncaught.incrementAndGet());
+        return thread;
+      })
+      .build();
+    for (int i = 0; i < 100; i++) {
+      pipeline.publish((Event event) -> event.value = 1);
+    }
+    pipeline.close();
+    assertEquals(100, pipeline.processed());
+    assertEquals(100, uncaught.get());
+  }
+
+  @Test
+  void testClosedPipelineRejectsEvents() {
+    final Pipeline<Event> pipeline = Pipeline.builder(Event::new).stage((Event event) -> { }).build();
+    pipeline.close();
+    assertThrows(IllegalStateException.class, () -> pipeline.publish((Event event) -> event.value = 1));
+    assertThrows(IllegalStateException.class, () -> Pipeline.builder(Event::new).build());
+    assertThrows(IllegalArgumentException.class, () -> Pipeline.builder(Event::new).bufferSize(12));
+  }
+
+  @Test
+  void testLaterStagesSeeEarlierStagesInOrder() {
+    final long[] expected = {0};
+    final long[] mismatches = {0};
+    final Pipeline<Event> pipeline = Pipeline.builder(Event::new)
+      .waitStrategy(WaitStrategy.BUSY_SPIN)
+      .bufferSize(64)
+      .stage((Event event) -> event.doubled = event.value * 2)
+      .stage((Event event) -> {
+        // only this stage's thread touches the counters
+        if (event.value != expected[0]++ || event.doubled != event.value * 2) {
+          mismatches[0]++;
+        }
+      })
+      .build();
+    for (int i = 0; i < 50_000; i++) {
+      final long value = i;
+      pipeline.publish((Event event) -> event.value = value);
+    }
+    pipeline.close();
+    assertEquals(50_000, pipeline.processed());
+    assertEquals(50_000, expected[0]);
+    assertEquals(0, mismatches[0]);
+  }
+
+  static final class Event {
+    long value;
+    long doubled;
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.effect;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.internal.Threads;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IOTest {
+  @Test
+  void testPureAndFail() throws InterruptedException {
+    assertEquals(Either.right("abc"), IO.pure("abc").run());
+    assertEquals(Either.left("def"), IO.fail("def").run());
+  }
+
+  @Test
+  void testFlatMapIsStackSafe() throws InterruptedException {
+    IO<String, Integer> io = IO.pure(0);
+    for (int i = 0; i < 100_000; i++) {
+      io = io.flatMap(n -> IO.pure(n + 1));
+    }
+    assertEquals(Either.right(100_000), io.run());
+  }
+
+  @Test
+  void testAttempt() throws InterruptedException {
+    final IOException exception = new IOException("boom");
+    assertEquals(Either.left(exception), IO.<IOException, String>attempt(() -> {
+      throw exception;
+    }).run());
+    assertEquals(Either.right(Unit.INSTANCE), IO.<IOException>attempt(() -> { }).run());
+    assertThrows(IllegalStateException.class, () -> IO.attempt(() -> {
+      throw new IllegalStateException();
+    }).run());
+  }
+
+  @Test
+  void testRecover() throws InterruptedException {
+    final IO<String, Integer> io = IO.<String, Integer>fail("abc")
+      .map(n -> n + 1)
+      .recover(error -> IO.pure(error.length()));
+    assertEquals(Either.right(3), io.run());
+    assertEquals(Either.left(3), IO.fail("abc").mapError(String::length).run());
+    assertEquals(Either.right(Either.left("abc")), IO.fail("abc").attempt().run());
+  }
+
+  @Test
+  void testForkJoin() throws InterruptedException {
+    final IO<String, Integer> io = IO.<String, Integer>pure(20)
+      .<String>fork()
+      .flatMap(fiber -> fiber.join().map(n -> n + 1));
+    assertEquals(Either.right(21), io.run());
+  }
+
+  @Test
+  void testRace() throws InterruptedException {
+    final IO<String, Either<String, String>> io = IO.race(IO.<String>sleep(Duration.ofSeconds(10)).map(unit -> "slow"), IO.pure("fast"));
+    assertEquals(Either.right(Either.right("fast")), io.run());
+  }
+
+  @Test
+  void testTimeout() throws InterruptedException {
+    final IO<String, String> slow = IO.<String>sleep(Duration.ofSeconds(10)).map(unit -> "slow");
+    assertEquals(Either.left("timeout"), slow.timeout(Duration.ofMillis(10), () -> "timeout").run());
+    assertEquals(Either.right("fast"), IO.<String, String>pure("fast").timeout(Duration.ofSeconds(10), () -> "timeout").run());
+  }
+
+  @Test
+  void testTimeoutReleasesTimer() throws InterruptedException {
+    final ScheduledThreadPoolExecutor timer = (ScheduledThreadPoolExecutor) Threads.timer();
+    final int before = timer.getQueue().size();
+    final IO<String, String> slow = IO.<String>sleep(Duration.ofHours(1)).map(unit -> "slow");
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Either.left("timeout"), slow.timeout(Duration.ofMillis(1), () -> "timeout").run());
+    }
+    awaitQueueSize(timer, before);
+  }
+
+  @Test
+  void testCancelPropagatesToRace() throws InterruptedException {
+    final ScheduledThreadPoolExecutor timer = (ScheduledThreadPoolExecutor) Threads.timer();
+    final int before = timer.getQueue().size();
+    final Fiber<String, Either<Unit, Unit>> fiber = IO.race(IO.<String>sleep(Duration.ofHours(1)), IO.<String>sleep(Duration.ofHours(1))).start(Scheduler.defaultScheduler());
+    awaitQueueSize(timer, before + 2);
+    fiber.cancel();
+    awaitQueueSize(timer, before);
+  }
+
+  @Test
+  void testCancelReleasesTimerAfterEarlierSleep() throws InterruptedException {
+    final ScheduledThreadPoolExecutor timer = (ScheduledThreadPoolExecutor) Threads.timer();
+    final int before = timer.getQueue().size();
+    final IO<String, Unit> sleeps = IO.<String>sleep(Duration.ZERO).flatMap(unit -> IO.sleep(Duration.ofHours(1)));
+    final List<Fiber<String, Unit>> fibers = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      fibers.add(sleeps.start(Scheduler.defaultScheduler()));
+    }
+    awaitQueueSize(timer, before + 100);
+    fibers.forEach(Fiber::cancel);
+    awaitQueueSize(timer, before);
+  }
+
+  @Test
+  void testCancel() {
+    final Fiber<String, Unit> fiber = IO.<String>sleep(Duration.ofSeconds(10)).start(Scheduler.defaultScheduler());
+    fiber.cancel();
+    assertTrue(fiber.isDone());
+    assertThrows(CancellationException.class, fiber::await);
+  }
+
+  @Test
+  void testYieldingDoesNotStarveOtherFibers() throws InterruptedException {
+    try (final Scheduler scheduler = Scheduler.bounded(1)) {
+      final AtomicInteger spins = new AtomicInteger();
+      final Fiber<String, Unit> spinner = spin(spins).start(scheduler);
+      assertEquals(Either.right("done"), IO.pure("done").run(scheduler));
+      spinner.cancel();
+    }
+  }
+
+  private static IO<String, Unit> spin(final AtomicInteger spins) {
+    return IO.<String>unit().flatMap(unit -> {
+      spins.incrementAndGet();
+      return spin(spins);
+    });
+  }
+
+  private static void awaitQueueSize(final ScheduledThreadPoolExecutor timer, final int size) throws InterruptedException {
+    final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (timer.getQueue().size() != size && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertEquals(size, timer.getQueue().size());
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.flow;
+
+import com.seiama.functional.adt.either.Either;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherProcessorTest {
+  @Test
+  void testRoutesLefts() {
+    final List<String> lefts = new ArrayList<>();
+    final EitherProcessor<Either<String, Integer>, String, Integer> processor = EitherProcessor.split(lefts::add);
+    final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+    processor.subscribe(recorder);
+    final Source<Either<String, Integer>> source = Source.start(processor, List.of(Either.right(1), Either.left("a"), Either.right(2), Either.left("b")));
+    assertEquals(List.of(1, 2), recorder.items);
+    assertEquals(List.of("a", "b"), lefts);
+    assertTrue(recorder.completed);
+  }
+
+  @Test
+  void testRespectsDownstreamDemand() {
+    final List<String> lefts = new ArrayList<>();
+    final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.route(i -> i % 2 == 0 ? Either.right(i) : Either.left("odd " + i), lefts::add, 4);
+    final Recorder<Integer> recorder = new Recorder<>(1);
+    processor.subscribe(recorder);
+    final List<Integer> items = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      items.add(i);
+    }
+    final Source<Integer> source = Source.start(processor, items);
+    assertEquals(List.of(0), recorder.items);
+    recorder.subscription.request(2);
+    assertEquals(List.of(0, 2, 4), recorder.items);
+    assertEquals(List.of("odd 1", "odd 3", "odd 5"), lefts);
+    recorder.subscription.request(Long.MAX_VALUE);
+    assertEquals(10, recorder.items.size());
+    assertEquals(10, lefts.size());
+    assertTrue(recorder.completed);
+    // an initial batch of four, then batches of three
+    assertEquals(4L, source.requests.get(0));
+    assertTrue(source.requests.stream().skip(1).allMatch(n -> n == 3L), source.requests.toString());
+  }
+
+  @Test
+  void testAttemptRoutesCheckedExceptions() {
+    final List<IOException> errors = new ArrayList<>();
+    final EitherProcessor<String, IOException, Integer> processor = EitherProcessor.attempt(value -> {
+      if (value.isEmpty()) {
+        throw new IOException("empty");
+      }
+      return value.length();
+    }, errors::add);
+    final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+    processor.subscribe(recorder);
+    Source.start(processor, List.of("a", "", "abc"));
+    assertEquals(List.of(1, 3), recorder.items);
+    assertEquals(1, errors.size());
+    assertTrue(recorder.completed);
+  }
+
+  @Test
+  void testDefectCancelsUpstream() {
+    final EitherProcessor<String, IOException, Integer> processor = EitherProcessor.attempt(Integer::parseInt, error -> { });
+    final Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+    processor.subscribe(recorder);
+    final Source<String> source = Source.start(processor, List.of("1", "x", "3"));
+    assertEquals(List.of(1), recorder.items);
+    assertInstanceOf(NumberFormatException.class, recorder.error);
+    assertTrue(source.cancelled);
+  }
+
+  @Test
+  void testSingleSubscriber() {
+    final EitherProcessor<Either<String, Integer>, String, Integer> processor = EitherProcessor.split(left -> { });
+    processor.subscribe(new Recorder<>(1));
+    final Recorder<Integer> second = new Recorder<>(1);
+    processor.subscribe(second);
+    assertInstanceOf(IllegalStateException.class, second.error);
+  }
+
+  @Test
+  void testAsynchronousPublisher() throws InterruptedException {
+    final int count = 100_000;
+    final AtomicLong lefts = new AtomicLong();
+    final EitherProcessor<Integer, Integer, Integer> processor = EitherProcessor.route(i -> i % 10 == 0 ? Either.left(i) : Either.right(i), left -> lefts.incrementAndGet());
+    final ConcurrentLinkedQueue<Integer> received = new ConcurrentLinkedQueue<>();
+    final CountDownLatch completed = new CountDownLatch(1);
+    processor.subscribe(new Flow.Subscriber<>() {
+      private Flow.Subscription subscription;
+
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(16);
+      }
+
+      @Override
+      public void onNext(final Integer item) {
+        received.add(item);
+        this.subscription.request(1);
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        completed.countDown();
+      }
+
+      @Override
+      public void onComplete() {
+        completed.countDown();
+      }
+    });
+    try (final SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      for (int i = 0; i < count; i++) {
+        publisher.submit(i);
+      }
+    }
+    assertTrue(completed.await(10, TimeUnit.SECONDS));
+    assertEquals(count / 10, lefts.get());
+    assertEquals(count - count / 10, received.size());
+  }
+
+  static final class Source<T> implements Flow.Subscription {
+    final List<Long> requests = new ArrayList<>();
+    private final List<T> items;
+    private final Flow.Subscriber<? super T> subscriber;
+    private int index;
+    private long demand;
+    private boolean emitting;
+    boolean cancelled;
+
+    private Source(final List<T> items, final Flow.Subscriber<? super T> subscriber) {
+      this.items = items;
+      this.subscriber = subscriber;
+    }
+
+    static <T> Source<T> start(final Flow.Subscriber<? super T> subscriber, final List<T> items) {
+      final Source<T> source = new Source<>(items, subscriber);
+      subscriber.onSubscribe(source);
+      return source;
+    }
+
+    @Override
+    public void request(final long n) {
+      this.requests.add(n);
+      this.demand += n;
+      if (this.emitting) {
+        return;
+      }
+      this.emitting = true;
+      while (this.demand > 0 && this.index < this.items.size() && !this.cancelled) {
+        this.demand--;
+        this.subscriber.onNext(this.items.get(this.index++));
+      }
+      if (this.index == this.items.size() && !this.cancelled) {
+        this.index++;
+        this.subscriber.onComplete();
+      }
+      this.emitting = false;
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+    }
+  }
+
+  static final class Recorder<T> implements Flow.Subscriber<T> {
+    final List<T> items = new ArrayList<>();
+    private final long initial;
+    Flow.Subscription subscription;
+    Throwable error;
+    boolean completed;
+
+    Recorder(final long initial) {
+      this.initial = initial;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(this.initial);
+    }
+
+    @Override
+    public void onNext(final T item) {
+      this.items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.completed = true;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.function;
+
+import com.seiama.functional.function.exceptional.Function1E;
+import com.seiama.functional.function.exceptional.Function2E;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("unchecked") // class literals of generic interfaces are raw
+class FunctionsTest {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  static int sum3(final int a, final int b, final int c) {
+    return a + b + c;
+  }
+
+  static String join(final String a, final long b, final double c, final char d) {
+    return a + b + c + d;
+  }
+
+  static void collect(final StringBuilder sink, final String a, final String b) {
+    sink.append(a).append(b);
+  }
+
+  static String read(final String path) throws IOException {
+    if (path.isEmpty()) {
+      throw new IOException("empty");
+    }
+    return path;
+  }
+
+  String greet(final String name, final String suffix) {
+    return "hello " + name + suffix;
+  }
+
+  @Test
+  void testStaticMethods() throws NoSuchMethodException {
+    final Function3<Integer, Integer, Integer, Integer> sum = Functions.bind(LOOKUP, method("sum3", int.class, int.class, int.class), Function3.class);
+    assertEquals(6, sum.apply(1, 2, 3));
+    final Function4<String, Long, Double, Character, String> join = Functions.bind(LOOKUP, method("join", String.class, long.class, double.class, char.class), Function4.class);
+    assertEquals("a21.5c", join.apply("a", 2L, 1.5, 'c'));
+    final Consumer3<StringBuilder, String, String> collect = Functions.bind(LOOKUP, method("collect", StringBuilder.class, String.class, String.class), Consumer3.class);
+    final StringBuilder sink = new StringBuilder();
+    collect.accept(sink, "a", "b");
+    assertEquals("ab", sink.toString());
+  }
+
+  @Test
+  void testBindingsAreCached() throws NoSuchMethodException {
+    final Method sum3 = method("sum3", int.class, int.class, int.class);
+    assertSame(Functions.bind(LOOKUP, sum3, Function3.class).getClass(), Functions.bind(LOOKUP, sum3, Function3.class).getClass());
+  }
+
+  @Test
+  void testInstanceMethods() throws NoSuchMethodException {
+    final Method greet = method("greet", String.class, String.class);
+    final Function3<FunctionsTest, String, String, String> unbound = Functions.bind(LOOKUP, greet, Function3.class);
+    assertEquals("hello a!", unbound.apply(this, "a", "!"));
+    final Function2E<String, String, String, RuntimeException> bound = Functions.bind(LOOKUP, greet, this, Function2E.class);
+    assertEquals("hello b?", bound.apply("b", "?"));
+    assertNotSame(bound, Functions.bind(LOOKUP, greet, new FunctionsTest(), Function2E.class));
+    assertThrows(IllegalArgumentException.class, () -> Functions.bind(LOOKUP, greet, "not a receiver", Function2E.class));
+  }
+
+  @Test
+  void testCheckedExceptions() throws NoSuchMethodException {
+    final Method read = method("read", String.class);
+    final Function1E<String, String, IOException> bound = Functions.bind(LOOKUP, read, Function1E.class);
+    assertThrows(IOException.class, () -> bound.apply(""));
+    assertThrows(IllegalArgumentException.class, () -> Functions.bind(LOOKUP, read, Function.class));
+  }
+
+  @Test
+  void testMethodHandles() throws ReflectiveOperationException {
+    final MethodHandle sum3 = LOOKUP.findStatic(FunctionsTest.class, "sum3", MethodType.methodType(int.class, int.class, int.class, int.class));
+    final Function3<Integer, Integer, Integer, Integer> direct = Functions.bind(LOOKUP, sum3, Function3.class);
+    assertEquals(6, direct.apply(1, 2, 3));
+    assertThrows(IllegalArgumentException.class, () -> Functions.bind(LOOKUP, MethodHandles.insertArguments(sum3, 0, 10), Function3.class));
+    final Function<Integer, Integer> partial = Functions.bind(LOOKUP, MethodHandles.insertArguments(sum3, 0, 10, 20), Function.class);
+    assertEquals(33, partial.apply(3));
+    final MethodHandle constructor = LOOKUP.findConstructor(StringBuilder.class, MethodType.methodType(void.class, String.class));
+    final Function<String, StringBuilder> create = Functions.bind(LOOKUP, constructor, Function.class);
+    assertEquals("abc", create.apply("abc").toString());
+  }
+
+  @Test
+  void testSpecialAndVirtualHandlesDoNotShareAFactory() throws ReflectiveOperationException {
+    final MethodType type = MethodType.methodType(String.class);
+    final MethodHandle special = Derived.LOOKUP.findSpecial(Derived.class, "name", type, Derived.class);
+    final MethodHandle virtual = Derived.LOOKUP.findVirtual(Derived.class, "name", type);
+    final Function<Derived, String> exact = Functions.bind(Derived.LOOKUP, special, Function.class);
+    final Function<Derived, String> dispatched = Functions.bind(Derived.LOOKUP, virtual, Function.class);
+    assertEquals("derived", exact.apply(new MoreDerived()));
+    assertEquals("more derived", dispatched.apply(new MoreDerived()));
+    final MethodHandle superclass = Derived.LOOKUP.findSpecial(Base.class, "name", type, Derived.class);
+    final Function<Derived, String> base = Functions.bind(Derived.LOOKUP, superclass, Function.class);
+    assertEquals("base", base.apply(new MoreDerived()));
+  }
+
+  @Test
+  void testSubclassHandleDoesNotShareAFactory() throws ReflectiveOperationException {
+    final MethodHandle subclass = LOOKUP.findVirtual(Derived.class, "kind", MethodType.methodType(String.class));
+    final Function<Derived, String> derived = Functions.bind(LOOKUP, subclass, Function.class);
+    assertEquals("plain", derived.apply(new Derived()));
+    final Function<Base, String> base = Functions.bind(LOOKUP, Base.class.getDeclaredMethod("kind"), Function.class);
+    assertEquals("plain", base.apply(new Base()));
+    final MethodHandle declared = LOOKUP.findVirtual(Base.class, "kind", MethodType.methodType(String.class));
+    final Function<Base, String> handle = Functions.bind(LOOKUP, declared, Function.class);
+    assertEquals("plain", handle.apply(new Base()));
+  }
+
+  @Test
+  void testMismatches() throws NoSuchMethodException {
+    final Method sum3 = method("sum3", int.class, int.class, int.class);
+    assertThrows(IllegalArgumentException.class, () -> Functions.bind(LOOKUP, sum3, Function4.class));
+    assertThrows(IllegalArgumentException.class, () -> Functions.bind(LOOKUP, sum3, String.class));
+    assertThrows(IllegalArgumentException.class, () -> Functions.bind(LOOKUP, method("collect", StringBuilder.class, String.class, String.class), Function3.class));
+  }
+
+  private static Method method(final String name, final Class<?>... parameters) throws NoSuchMethodException {
+    return FunctionsTest.class.getDeclaredMethod(name, parameters);
+  }
+
+  static class Base {
+    String name() {
+      return "base";
+    }
+
+    String kind() {
+      return "plain";
+    }
+  }
+
+  static class Derived extends Base {
+    static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @Override
+    String name() {
+      return "derived";
+    }
+  }
+
+  static class MoreDerived extends Derived {
+    @Override
+    String name() {
+      return "more derived";
+    }
+  }
+}
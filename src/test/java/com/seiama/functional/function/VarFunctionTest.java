@@ -0,0 +1,74 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.function;
+
+import com.seiama.functional.function.exceptional.Function2E;
+import com.seiama.functional.function.exceptional.VarFunctionE;
+import java.io.IOException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VarFunctionTest {
+  @Test
+  void testSpreadsArguments() {
+    final Supplier<String> zero = () -> "zero";
+    final BiFunction<String, Integer, String> repeat = String::repeat;
+    final Function3<Integer, Integer, Integer, Integer> sum3 = (a, b, c) -> a + b + c;
+    final Function16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> sum16 =
+      (a, b, c, d, e, f, g, h, i, j, k, l, m, n, o, p) -> a + b + c + d + e + f + g + h + i + j + k + l + m + n + o + p;
+    final VarFunction<?>[] functions = {VarFunction.of(zero), VarFunction.of(repeat), VarFunction.of(sum3), VarFunction.of(sum16)};
+    final Object[][] args = {{}, {"ab", 2}, {1, 2, 3}, {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16}};
+    final Object[] expected = {"zero", "abab", 6, 136};
+    for (int i = 0; i < functions.length; i++) {
+      assertEquals(args[i].length, functions[i].arity());
+      assertEquals(expected[i], functions[i].applyArgs(args[i]));
+    }
+  }
+
+  @Test
+  void testArityMismatch() {
+    final Function3<Integer, Integer, Integer, Integer> sum3 = (a, b, c) -> a + b + c;
+    final VarFunction<Integer> fn = VarFunction.of(sum3);
+    assertThrows(IllegalArgumentException.class, () -> fn.applyArgs(1, 2));
+    assertThrows(ClassCastException.class, () -> fn.applyArgs(1, 2, "3"));
+  }
+
+  @Test
+  void testExceptional() {
+    final Function2E<String, String, String, IOException> concat = (a, b) -> {
+      if (a.isEmpty()) {
+        throw new IOException("empty");
+      }
+      return a + b;
+    };
+    final VarFunctionE<String, IOException> fn = VarFunctionE.of(concat);
+    assertEquals(2, fn.arity());
+    assertThrows(IOException.class, () -> fn.applyArgs("", "b"));
+    assertThrows(IllegalArgumentException.class, () -> fn.applyArgs("a"));
+  }
+}
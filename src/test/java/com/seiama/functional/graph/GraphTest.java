@@ -0,0 +1,166 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.graph;
+
+import com.seiama.functional.adt.either.Either;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphTest {
+  @Test
+  void testComputesDiamond() throws InterruptedException {
+    final AtomicInteger calls = new AtomicInteger();
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Integer> a = builder.source("a", () -> {
+      calls.incrementAndGet();
+      return 2;
+    });
+    final Node<Integer> b = builder.node("b", a, x -> x * 10);
+    final Node<Integer> c = builder.node("c", a, x -> x + 1);
+    final Node<String> d = builder.node("d", a, b, c, (x, y, z) -> x + ":" + y + ":" + z);
+    final Graph<String> graph = builder.build();
+    for (int i = 0; i < 10; i++) {
+      final Results results = graph.run(ForkJoinPool.commonPool()).right().orElseThrow();
+      assertEquals("2:20:3", results.get(d));
+      assertEquals(20, results.get(b));
+    }
+    assertEquals(10, calls.get());
+  }
+
+  @Test
+  void testDeduplicatesSharedSubcomputations() throws InterruptedException {
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Integer> a = builder.constant("a", 3);
+    final BiFunction<Integer, Integer, Integer> multiply = (x, y) -> x * y;
+    final Node<Integer> square = builder.node("square", a, a, multiply);
+    assertSame(square, builder.node("square again", a, a, multiply));
+    final Node<Integer> sum = builder.node("sum", square, square, Integer::sum);
+    final Results results = builder.build().run().right().orElseThrow();
+    assertEquals(18, results.get(sum));
+    assertEquals(3, results.timings().size());
+  }
+
+  @Test
+  void testDoesNotShareNodesAcrossKinds() throws InterruptedException {
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Integer> a = builder.constant("a", 3);
+    final Function<Integer, Either<String, Integer>> check = x -> Either.right(x);
+    final Node<Either<String, Integer>> plain = builder.node("plain", a, check);
+    final Node<Integer> checked = builder.nodeEither("checked", a, check);
+    assertNotSame(plain, checked);
+    final Results results = builder.build().run().right().orElseThrow();
+    assertEquals(Either.right(3), results.get(plain));
+    assertEquals(3, results.get(checked));
+  }
+
+  @Test
+  void testRunsIndependentNodesInParallel() throws InterruptedException {
+    final CountDownLatch both = new CountDownLatch(2);
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Boolean> left = builder.source("left", () -> this.meet(both));
+    final Node<Boolean> right = builder.source("right", () -> this.meet(both));
+    final Node<Boolean> joined = builder.node("joined", left, right, (x, y) -> x && y);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertEquals(true, builder.build().run(executor).right().orElseThrow().get(joined));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testShortCircuitsOnLeft() throws InterruptedException {
+    final AtomicInteger downstream = new AtomicInteger();
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Integer> a = builder.constant("a", -1);
+    final Node<Integer> checked = builder.nodeEither("checked", a, x -> x < 0 ? Either.left("negative: " + x) : Either.right(x));
+    builder.node("after", checked, x -> downstream.incrementAndGet());
+    assertEquals(Either.left("negative: -1"), builder.build().run());
+    assertEquals(0, downstream.get());
+  }
+
+  @Test
+  void testDefectsAreRethrown() {
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Integer> a = builder.constant("a", 0);
+    builder.node("divide", a, x -> 1 / x);
+    final Graph<String> graph = builder.build();
+    assertThrows(ArithmeticException.class, graph::run);
+  }
+
+  @Test
+  void testReportsTimings() throws InterruptedException {
+    final Graph.Builder<String> builder = Graph.builder();
+    final Node<Integer> slow = builder.source("slow", () -> {
+      this.sleep(20);
+      return 1;
+    });
+    final Node<Integer> fast = builder.node("fast", slow, x -> x + 1);
+    final Results results = builder.build().run().right().orElseThrow();
+    assertTrue(results.elapsed(slow).toMillis() >= 20);
+    assertEquals(List.of("slow", "fast"), List.copyOf(results.timings().keySet()));
+    assertTrue(results.elapsed(fast).compareTo(results.elapsed(slow)) < 0);
+  }
+
+  @Test
+  void testRejectsForeignAndDuplicateNodes() {
+    final Graph.Builder<String> first = Graph.builder();
+    final Node<Integer> a = first.constant("a", 1);
+    assertThrows(IllegalArgumentException.class, () -> first.constant("a", 2));
+    final Graph.Builder<String> second = Graph.builder();
+    assertThrows(IllegalArgumentException.class, () -> second.node("b", a, x -> x));
+  }
+
+  private boolean meet(final CountDownLatch latch) {
+    latch.countDown();
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
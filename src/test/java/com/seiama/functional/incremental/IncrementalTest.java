@@ -0,0 +1,166 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.incremental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalTest {
+  @Test
+  void testRecomputesOnlyAffectedSignals() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(1);
+    final Cell<Integer> b = engine.cell(10);
+    final AtomicInteger left = new AtomicInteger();
+    final AtomicInteger right = new AtomicInteger();
+    final Signal<Integer> doubled = engine.derive(a, x -> {
+      left.incrementAndGet();
+      return x * 2;
+    });
+    final Signal<Integer> negated = engine.derive(b, x -> {
+      right.incrementAndGet();
+      return -x;
+    });
+    final Signal<Integer> sum = engine.derive(doubled, negated, Integer::sum);
+    assertEquals(-8, sum.get());
+    a.set(5);
+    assertEquals(0, sum.get());
+    assertEquals(2, left.get());
+    assertEquals(1, right.get());
+  }
+
+  @Test
+  void testRecomputesEachSignalOncePerWave() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(1);
+    final Signal<Integer> b = engine.derive(a, x -> x + 1);
+    final Signal<Integer> c = engine.derive(a, b, (x, y) -> x * y);
+    final List<Integer> seen = new ArrayList<>();
+    final Signal<Integer> d = engine.derive(a, b, c, (x, y, z) -> {
+      seen.add(x + y + z);
+      return x + y + z;
+    });
+    a.set(2);
+    // d sees a consistent view: no glitch where c is stale
+    assertEquals(List.of(1 + 2 + 2, 2 + 3 + 6), seen);
+    assertEquals(11, d.get());
+  }
+
+  @Test
+  void testEqualityCutoff() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(3);
+    final Signal<Boolean> even = engine.derive(a, x -> x % 2 == 0);
+    final AtomicInteger downstream = new AtomicInteger();
+    engine.derive(even, x -> downstream.incrementAndGet());
+    a.set(5);
+    a.set(7);
+    assertEquals(1, downstream.get());
+    a.set(8);
+    assertEquals(2, downstream.get());
+    a.set(8);
+    assertEquals(2, downstream.get());
+    final Cell<Double> price = engine.cell(1.0);
+    price.cutoff((x, y) -> Math.abs(x - y) < 0.01);
+    final Signal<Double> shown = engine.derive(price, x -> x);
+    price.set(1.001);
+    assertEquals(1.0, shown.get());
+  }
+
+  @Test
+  void testBatchesPropagateOnce() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(1);
+    final Cell<Integer> b = engine.cell(2);
+    final AtomicInteger computed = new AtomicInteger();
+    final Signal<Integer> sum = engine.derive(a, b, (x, y) -> {
+      computed.incrementAndGet();
+      return x + y;
+    });
+    engine.batch(() -> {
+      a.set(10);
+      b.set(20);
+      engine.batch(() -> a.update(x -> x + 1));
+      assertEquals(3, sum.get());
+    });
+    assertEquals(31, sum.get());
+    assertEquals(2, computed.get());
+  }
+
+  @Test
+  void testFailuresAreRetried() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(1);
+    final Signal<Integer> inverse = engine.derive(a, x -> 100 / x);
+    assertThrows(ArithmeticException.class, () -> a.set(0));
+    assertEquals(100, inverse.get());
+    a.set(4);
+    assertEquals(25, inverse.get());
+  }
+
+  @Test
+  void testRejectsUpdatesWhileRecomputing() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(1);
+    final Cell<Integer> b = engine.cell(1);
+    engine.derive(a, x -> {
+      if (x > 1) {
+        b.set(x);
+      }
+      return x;
+    });
+    assertThrows(IllegalStateException.class, () -> a.set(2));
+    assertThrows(IllegalArgumentException.class, () -> Incremental.create().derive(a, x -> x));
+  }
+
+  @Test
+  void testDisposedSignalsAreNotRecomputed() {
+    final Incremental engine = Incremental.create();
+    final Cell<Integer> a = engine.cell(1);
+    final AtomicInteger computed = new AtomicInteger();
+    final Signal<Integer> doubled = engine.derive(a, x -> {
+      computed.incrementAndGet();
+      return x * 2;
+    });
+    final Signal<Integer> quadrupled = engine.derive(doubled, x -> x * 2);
+    assertThrows(IllegalStateException.class, doubled::dispose);
+    quadrupled.dispose();
+    engine.batch(() -> {
+      a.set(2);
+      doubled.dispose();
+    });
+    doubled.dispose();
+    a.set(3);
+    assertEquals(1, computed.get());
+    assertEquals(2, doubled.get());
+    assertTrue(a.dependents.isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> engine.derive(doubled, x -> x));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+  @Test
+  void testBuckets() {
+    for (long value = 0; value < 1 << 20; value++) {
+      final int bucket = Histogram.bucket(value);
+      assertTrue(value <= Histogram.upperBound(bucket));
+      assertTrue(bucket == 0 || value > Histogram.upperBound(bucket - 1));
+    }
+    assertEquals(Long.MAX_VALUE, Histogram.upperBound(Histogram.bucket(Long.MAX_VALUE)));
+  }
+
+  @Test
+  void testSnapshot() {
+    final Histogram histogram = new Histogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i * 1000L);
+    }
+    final Histogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(100, snapshot.count());
+    assertEquals(5_050_000L, snapshot.sum());
+    assertEquals(100_000L, snapshot.max());
+    assertEquals(50_500.0, snapshot.mean());
+    final long median = snapshot.percentile(0.5);
+    assertTrue(median >= 50_000 && median <= 50_000 * 1.125, "median " + median);
+    assertEquals(100_000L, snapshot.percentile(1));
+    assertThrows(IllegalArgumentException.class, () -> snapshot.percentile(1.5));
+  }
+
+  @Test
+  void testEmpty() {
+    final Histogram.Snapshot snapshot = new Histogram().snapshot();
+    assertEquals(0, snapshot.count());
+    assertEquals(0.0, snapshot.mean());
+    assertEquals(0L, snapshot.percentile(0.99));
+  }
+
+  @Test
+  void testConcurrentRecording() throws InterruptedException {
+    final Histogram histogram = new Histogram();
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          histogram.record(j);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(40_000, histogram.snapshot().count());
+    assertEquals(9_999L, histogram.snapshot().max());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import com.seiama.functional.function.Function3;
+import com.seiama.functional.function.exceptional.Function2E;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstrumentedTest {
+  @Test
+  void testRecordsCalls() {
+    final Function3<Integer, Integer, Integer, Integer> sum = Instrumented.wrap("InstrumentedTest.sum", (Function3<Integer, Integer, Integer, Integer>) (a, b, c) -> a + b + c);
+    assertEquals(6, sum.apply(1, 2, 3));
+    assertEquals(9, sum.apply(2, 3, 4));
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics("InstrumentedTest.sum");
+    assertEquals(2, metrics.calls());
+    assertEquals(0, metrics.errors());
+    assertEquals(2, metrics.latency().count());
+  }
+
+  @Test
+  void testRecordsErrorsByType() {
+    final Function2E<String, String, String, IOException> fn = Instrumented.wrap("InstrumentedTest.errors", (Function2E<String, String, String, IOException>) (a, b) -> {
+      if (a.isEmpty()) {
+        throw new IOException(b);
+      }
+      if (b.isEmpty()) {
+        throw new IllegalArgumentException(a);
+      }
+      return a + b;
+    });
+    assertThrows(IOException.class, () -> fn.apply("", "x"));
+    assertThrows(IOException.class, () -> fn.apply("", "y"));
+    assertThrows(IllegalArgumentException.class, () -> fn.apply("x", ""));
+    final InvocationMetrics metrics = MetricsRegistry.global().metrics("InstrumentedTest.errors");
+    assertEquals(3, metrics.calls());
+    assertEquals(3, metrics.errors());
+    assertEquals(Map.of(IOException.class.getName(), 2L, IllegalArgumentException.class.getName(), 1L), metrics.errorsByType());
+  }
+
+  @Test
+  void testRegistry() {
+    final MetricsRegistry registry = MetricsRegistry.create();
+    final InvocationMetrics metrics = registry.metrics("a");
+    assertSame(metrics, registry.metrics("a"));
+    assertEquals(1, registry.all().size());
+  }
+
+  @Test
+  void testExportsMBeans() throws JMException {
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final MetricsRegistry registry = MetricsRegistry.create();
+    registry.metrics("InstrumentedTest.before").success(System.nanoTime(), new InvocationEvent(), null);
+    registry.exportTo(server);
+    registry.metrics("InstrumentedTest.after");
+    try {
+      assertEquals(1L, server.getAttribute(MBeans.objectName("InstrumentedTest.before"), "Calls"));
+      assertEquals("InstrumentedTest.after", server.getAttribute(MBeans.objectName("InstrumentedTest.after"), "Name"));
+      assertThrows(IllegalStateException.class, () -> registry.exportTo(server));
+    } finally {
+      server.unregisterMBean(MBeans.objectName("InstrumentedTest.before"));
+      server.unregisterMBean(MBeans.objectName("InstrumentedTest.after"));
+    }
+  }
+}
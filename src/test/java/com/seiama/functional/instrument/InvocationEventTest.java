@@ -0,0 +1,120 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.instrument;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Function1E;
+import com.seiama.functional.function.exceptional.RunnableE;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+// CHECKSTYLE:OFF
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+// CHECKSTYLE:ON
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvocationEventTest {
+  @Test
+  void testEmitsEvents() throws IOException {
+    final Function1E<String, Either<String, Integer>, IOException> parse = Instrumented.wrap("InvocationEventTest.parse", (Function1E<String, Either<String, Integer>, IOException>) value -> {
+      if (value.isEmpty()) {
+        throw new IOException("empty");
+      }
+      return value.chars().allMatch(Character::isDigit) ? Either.right(Integer.parseInt(value)) : Either.left(value);
+    });
+    final SupplierE<String, RuntimeException> hello = Instrumented.wrap("InvocationEventTest.hello", (SupplierE<String, RuntimeException>) () -> "hello");
+    final List<RecordedEvent> events = record(Map.of(), () -> {
+      parse.apply("12");
+      parse.apply("ab");
+      assertThrows(IOException.class, () -> parse.apply(""));
+      hello.get();
+    });
+    assertEquals(4, events.size());
+    assertEquals(List.of("right", "left", "threw", "returned"), events.stream().map(event -> event.getString("outcome")).collect(Collectors.toList()));
+    assertEquals("InvocationEventTest.parse", events.get(0).getString("name"));
+    assertEquals("InvocationEventTest.hello", events.get(3).getString("name"));
+    assertNull(events.get(0).getClass("exceptionClass"));
+    assertEquals(IOException.class.getName(), events.get(2).getClass("exceptionClass").getName());
+    assertTrue(events.get(0).getDuration().toNanos() >= 0);
+  }
+
+  @Test
+  void testSampling() throws IOException {
+    final SupplierE<String, RuntimeException> fn = Instrumented.wrap("InvocationEventTest.sampled", (SupplierE<String, RuntimeException>) () -> "sampled");
+    final List<RecordedEvent> events = record(Map.of(InvocationEvent.NAME + "#sampling", "1000000"), () -> {
+      for (int i = 0; i < 1000; i++) {
+        fn.get();
+      }
+    });
+    assertTrue(events.size() < 10, "sampled " + events.size());
+  }
+
+  @Test
+  void testDisabledByDefault() throws IOException {
+    final SupplierE<String, RuntimeException> fn = Instrumented.wrap("InvocationEventTest.disabled", (SupplierE<String, RuntimeException>) () -> "disabled");
+    final Path file = Files.createTempFile("functional", ".jfr");
+    try (final Recording recording = new Recording()) {
+      recording.start();
+      fn.get();
+      recording.stop();
+      recording.dump(file);
+      assertTrue(RecordingFile.readAllEvents(file).stream().noneMatch(event -> event.getEventType().getName().equals(InvocationEvent.NAME)));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<RecordedEvent> record(final Map<String, String> settings, final RunnableE<IOException> action) throws IOException {
+    final Path file = Files.createTempFile("functional", ".jfr");
+    try (final Recording recording = new Recording()) {
+      recording.enable(InvocationEvent.NAME).withoutThreshold();
+      final Map<String, String> merged = new HashMap<>(recording.getSettings());
+      merged.putAll(settings);
+      recording.setSettings(merged);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals(InvocationEvent.NAME))
+        .filter(event -> event.getString("name").startsWith("InvocationEventTest."))
+        .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+        .collect(Collectors.toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
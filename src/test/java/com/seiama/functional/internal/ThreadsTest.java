@@ -0,0 +1,56 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.internal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThreadsTest {
+  @Test
+  void testVirtualThreadsAvailability() {
+    assertEquals(Runtime.version().feature() >= 21, Threads.virtualThreadsAvailable());
+  }
+
+  @Test
+  void testPerTaskExecutor() throws ExecutionException, InterruptedException {
+    final ExecutorService executor = Threads.perTaskExecutor("threads-test-");
+    try {
+      final String name = executor.submit(() -> Thread.currentThread().getName()).get();
+      assertTrue(name.startsWith("threads-test-") || Threads.virtualThreadsAvailable() && name.isEmpty(), name);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testDaemonThreadFactory() {
+    final Thread thread = Threads.daemonThreadFactory("threads-test-").newThread(() -> { });
+    assertTrue(thread.isDaemon());
+    assertEquals("threads-test-0", thread.getName());
+  }
+}
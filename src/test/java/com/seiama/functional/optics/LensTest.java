@@ -0,0 +1,130 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.optics;
+
+import com.seiama.functional.adt.either.Either;
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LensTest {
+  private static final Lens<Person, Address> ADDRESS = Lens.of(MethodHandles.lookup(), Person.class, "address", Address.class);
+  private static final Lens<Address, String> CITY = Lens.of(MethodHandles.lookup(), Address.class, "city", String.class);
+  private static final Lens<Person, Integer> AGE = Lens.of(MethodHandles.lookup(), Person.class, "age", Integer.class);
+
+  @Test
+  void testRecordLens() {
+    final Person person = new Person("Ada", 36, new Address("London", "12 Street"));
+    assertEquals(36, AGE.get(person));
+    assertEquals(new Person("Ada", 37, person.address()), AGE.modify(person, age -> age + 1));
+    final Lens<Person, String> city = ADDRESS.andThen(CITY);
+    assertEquals("London", city.get(person));
+    assertEquals(new Person("Ada", 36, new Address("Paris", "12 Street")), city.set(person, "Paris"));
+  }
+
+  @Test
+  void testRecordLensesAreCached() {
+    assertSame(AGE, Lens.of(MethodHandles.lookup(), Person.class, "age", Integer.class));
+  }
+
+  @Test
+  void testRecordLensRunsCompactConstructor() {
+    assertThrows(IllegalArgumentException.class, () -> AGE.set(new Person("Ada", 1, null), -1));
+  }
+
+  @Test
+  void testInvalidRecordLens() {
+    assertThrows(IllegalArgumentException.class, () -> Lens.of(MethodHandles.lookup(), Person.class, "missing", String.class));
+    assertThrows(IllegalArgumentException.class, () -> Lens.of(MethodHandles.lookup(), Person.class, "age", Long.class));
+  }
+
+  @Test
+  void testMatchesHandWrittenCopies() {
+    final Lens<Person, String> city = ADDRESS.andThen(CITY);
+    Person viaLens = new Person("Ada", 0, new Address("a", "b"));
+    Person byHand = viaLens;
+    for (int i = 0; i < 100_000; i++) {
+      final int n = i;
+      viaLens = AGE.set(city.modify(viaLens, c -> c.length() > 8 ? "a" : c + n % 10), n);
+      final String c = byHand.address().city();
+      byHand = new Person(byHand.name(), n, new Address(c.length() > 8 ? "a" : c + n % 10, byHand.address().street()));
+    }
+    assertEquals(byHand, viaLens);
+  }
+
+  @Test
+  void testPrisms() {
+    final Prism<Either<String, Integer>, Integer> right = Prism.right();
+    assertEquals(Optional.of(1), right.preview(Either.right(1)));
+    assertEquals(Optional.empty(), right.preview(Either.left("a")));
+    assertEquals(Either.right(2), right.modify(Either.right(1), i -> i + 1));
+    assertEquals(Either.left("a"), right.modify(Either.left("a"), i -> i + 1));
+    assertEquals(Either.left("b"), Prism.<String, Integer>left().review("b"));
+    assertEquals(Optional.of(3), Prism.<Integer>present().modify(Optional.of(2), i -> i + 1));
+    final Prism<Shape, Circle> circle = Prism.instanceOf(Circle.class);
+    assertEquals(Optional.empty(), circle.preview(new Square(1)));
+  }
+
+  @Test
+  void testAffines() {
+    final Lens<Holder, Either<String, Address>> result = Lens.of(MethodHandles.lookup(), Holder.class, "result", Either.class);
+    final Affine<Holder, String> city = result.andThen(Prism.<String, Address>right()).andThen(CITY.asAffine());
+    final Holder found = new Holder(Either.right(new Address("Oslo", "1 Road")));
+    assertEquals(Optional.of("Oslo"), city.getOption(found));
+    assertEquals(new Holder(Either.right(new Address("OSLO", "1 Road"))), city.modify(found, String::toUpperCase));
+    final Holder missing = new Holder(Either.left("not found"));
+    assertEquals(Optional.empty(), city.getOption(missing));
+    assertSame(missing, city.set(missing, "Bergen"));
+    final Affine<Shape, Double> radius = Prism.<Shape, Circle>instanceOf(Circle.class).andThen(Lens.of(MethodHandles.lookup(), Circle.class, "radius", Double.class));
+    assertEquals(new Circle(2), radius.modify(new Circle(1), r -> r * 2));
+    assertEquals(new Square(1), radius.modify(new Square(1), r -> r * 2));
+  }
+
+  record Address(String city, String street) {
+  }
+
+  record Person(String name, int age, Address address) {
+    Person {
+      if (age < 0) {
+        throw new IllegalArgumentException("age");
+      }
+    }
+  }
+
+  record Holder(Either<String, Address> result) {
+  }
+
+  sealed interface Shape permits Circle, Square {
+  }
+
+  record Circle(double radius) implements Shape {
+  }
+
+  record Square(double side) implements Shape {
+  }
+}
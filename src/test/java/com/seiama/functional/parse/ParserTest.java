@@ -0,0 +1,146 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.parse;
+
+import com.seiama.functional.adt.either.Either;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static com.seiama.functional.parse.Parsers.character;
+import static com.seiama.functional.parse.Parsers.integer;
+import static com.seiama.functional.parse.Parsers.oneOf;
+import static com.seiama.functional.parse.Parsers.seq3;
+import static com.seiama.functional.parse.Parsers.string;
+import static com.seiama.functional.parse.Parsers.takeWhile1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserTest {
+  @Test
+  void testArithmetic() {
+    final Parser<Integer> expression = this.arithmetic();
+    assertEquals(Either.right(7), expression.parse("1+2*3"));
+    assertEquals(Either.right(9), expression.parse("(1+2)*3"));
+    assertEquals(Either.right(-6), expression.parse("-2*(4-1)"));
+  }
+
+  @Test
+  void testErrorsReportFurthestFailure() {
+    final Either<ParseError, Integer> result = this.arithmetic().parse("(1+2*3");
+    final ParseError error = result.left().orElseThrow();
+    assertEquals(6, error.offset());
+    assertTrue(error.expected().contains("')'"), error.message());
+    assertEquals(Either.left(new ParseError(1, Set.of("end of input"))), integer().parse("1x").mapLeft(e -> new ParseError(e.offset(), Set.copyOf(e.expected()))));
+  }
+
+  @Test
+  void testCombinators() {
+    final Parser<List<Integer>> list = integer().sepBy(character(',')).between(character('['), character(']'));
+    assertEquals(Either.right(List.of(1, 22, -3)), list.parse("[1,22,-3]"));
+    assertEquals(Either.right(List.of()), list.parse("[]"));
+    assertEquals(Either.right(Optional.empty()), integer().optional().parse(""));
+    assertEquals(Either.right(List.of('a', 'a')), character('a').many1().parse("aa"));
+    assertTrue(character('a').many1().parse("").left().isPresent());
+    assertEquals(Either.right(Integer.MIN_VALUE), integer().parse("-2147483648"));
+    assertTrue(integer().parse("2147483648").left().isPresent());
+    final Parser<String> keyword = oneOf(string("GET"), string("GETS"), string("POST")).label("method");
+    assertEquals(Set.of("method"), keyword.parse("PUT").left().orElseThrow().expected());
+  }
+
+  @Test
+  void testSlicesDoNotCopy() {
+    final StringBuilder input = new StringBuilder("key=value");
+    final Parser<CharSequence> value = takeWhile1(Character::isLetter, "letter").skip(character('=')).then(takeWhile1(Character::isLetter, "letter"));
+    final CharSequence slice = value.parse(input).right().orElseThrow();
+    input.setCharAt(4, 'V');
+    assertEquals("Value", slice.toString());
+  }
+
+  @Test
+  void testByteBuffers() {
+    final ByteBuffer buffer = ByteBuffer.wrap("xxGET /index.html".getBytes(StandardCharsets.ISO_8859_1));
+    buffer.position(2);
+    final Parser<String> request = seq3(string("GET"), character(' '), takeWhile1(c -> c != ' ', "path"), (method, space, path) -> method + ":" + path);
+    assertEquals(Either.right("GET:/index.html"), request.parse(buffer));
+    assertEquals(2, buffer.position());
+    assertEquals(6, string("GET ").then(character('x')).parse(buffer).left().orElseThrow().offset());
+  }
+
+  @Test
+  void testMemoization() {
+    final AtomicInteger runs = new AtomicInteger();
+    final Parser<Integer> counted = integer().map(value -> {
+      runs.incrementAndGet();
+      return value;
+    }).memo();
+    // each alternative re-parses the leading number from the same offset
+    final Parser<Integer> grammar = oneOf(
+      counted.skip(character('+')).skip(character('+')),
+      counted.skip(character('+')).skip(character('-')),
+      counted.skip(character('+')).skip(character('*'))
+    );
+    assertEquals(Either.right(12), grammar.parse("12+*"));
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  void testParsesLargeInputs() {
+    final Parser<List<Integer>> lines = integer().sepBy(character('\n'));
+    final StringBuilder input = new StringBuilder();
+    long expected = 0;
+    for (int i = 0; i < 200_000; i++) {
+      if (i > 0) {
+        input.append('\n');
+      }
+      input.append(i * 7);
+      expected += i * 7;
+    }
+    final List<Integer> values = lines.parse(input).right().orElseThrow();
+    assertEquals(200_000, values.size());
+    assertEquals(199_999 * 7, values.get(199_999));
+    assertEquals(expected, values.stream().mapToLong(Integer::longValue).sum());
+  }
+
+  private Parser<Integer> arithmetic() {
+    final AtomicReference<Parser<Integer>> expression = new AtomicReference<>();
+    final Parser<Integer> atom = oneOf(integer(), Parsers.lazy(expression::get).between(character('('), character(')')));
+    final Parser<Integer> term = seq3(atom, character('*'), Parsers.lazy(() -> this.product(atom)), (a, op, b) -> a * b).or(atom);
+    expression.set(oneOf(
+      seq3(term, character('+'), Parsers.lazy(expression::get), (a, op, b) -> a + b),
+      seq3(term, character('-'), Parsers.lazy(expression::get), (a, op, b) -> a - b),
+      term
+    ));
+    return expression.get();
+  }
+
+  private Parser<Integer> product(final Parser<Integer> atom) {
+    return atom.sepBy1(character('*')).map(values -> values.stream().reduce(1, (a, b) -> a * b));
+  }
+}
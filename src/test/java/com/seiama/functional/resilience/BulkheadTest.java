@@ -0,0 +1,73 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BulkheadTest {
+  @Test
+  void testSemaphoreRejectsWhenFull() {
+    final Bulkhead bulkhead = Bulkhead.semaphore(1);
+    final Either<Rejected, Either<Rejected, String>> result = bulkhead.call(() -> bulkhead.call(() -> "inner"));
+    assertEquals(Either.right(Either.left(Rejected.BULKHEAD_FULL)), result);
+    assertEquals(1, bulkhead.available());
+    assertEquals(Either.right("outer"), bulkhead.call(() -> "outer"));
+  }
+
+  @Test
+  void testQueue() throws Exception {
+    final Bulkhead bulkhead = Bulkhead.queue(1, 1);
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      final Future<Either<Rejected, Unit>> first = executor.submit(() -> bulkhead.call(() -> {
+        entered.countDown();
+        release.await();
+        return Unit.INSTANCE;
+      }));
+      entered.await();
+      final Future<Either<Rejected, String>> second = executor.submit(() -> bulkhead.call(() -> "queued"));
+      while (bulkhead.waiting() == 0) {
+        Thread.onSpinWait();
+      }
+      assertEquals(Either.left(Rejected.BULKHEAD_FULL), bulkhead.call(() -> "rejected"));
+      release.countDown();
+      assertEquals(Either.right(Unit.INSTANCE), first.get(5, TimeUnit.SECONDS));
+      assertEquals(Either.right("queued"), second.get(5, TimeUnit.SECONDS));
+      assertEquals(0, bulkhead.waiting());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Function3E;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+  private final AtomicInteger calls = new AtomicInteger();
+  private volatile boolean failing = true;
+
+  private String invoke(final String a, final String b, final String c) throws IOException {
+    this.calls.incrementAndGet();
+    if (this.failing) {
+      throw new IOException("down");
+    }
+    return a + b + c;
+  }
+
+  @Test
+  void testOpensAndShortCircuits() throws IOException {
+    final CircuitBreaker breaker = CircuitBreaker.builder().countWindow(4).minimumCalls(4).failureRateThreshold(0.5).build();
+    final Function3E<String, String, String, Either<Rejected, String>, IOException> fn = breaker.wrap(this::invoke);
+    for (int i = 0; i < 4; i++) {
+      assertThrows(IOException.class, () -> fn.apply("a", "b", "c"));
+    }
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    assertEquals(1.0, breaker.failureRate(), 0);
+    final Either<Rejected, String> rejected = fn.apply("a", "b", "c");
+    assertEquals(Either.left(Rejected.CIRCUIT_OPEN), rejected);
+    assertSame(rejected, fn.apply("d", "e", "f"));
+    assertEquals(4, this.calls.get());
+  }
+
+  @Test
+  void testHalfOpenTrials() throws IOException, InterruptedException {
+    final CircuitBreaker breaker = CircuitBreaker.builder().countWindow(2).minimumCalls(2).waitDuration(Duration.ofMillis(20)).trialCalls(2).build();
+    final Function3E<String, String, String, Either<Rejected, String>, IOException> fn = breaker.wrap(this::invoke);
+    assertThrows(IOException.class, () -> fn.apply("a", "b", "c"));
+    assertThrows(IOException.class, () -> fn.apply("a", "b", "c"));
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+    Thread.sleep(40);
+    assertThrows(IOException.class, () -> fn.apply("a", "b", "c"));
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+    Thread.sleep(40);
+    this.failing = false;
+    assertEquals(Either.right("abc"), fn.apply("a", "b", "c"));
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    assertEquals(Either.right("abc"), fn.apply("a", "b", "c"));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    assertEquals(0.0, breaker.failureRate(), 0);
+  }
+
+  @Test
+  void testSuccessesKeepBreakerClosed() throws IOException {
+    final CircuitBreaker breaker = CircuitBreaker.builder().timeWindow(Duration.ofSeconds(10), 10).minimumCalls(4).failureRateThreshold(0.5).build();
+    final Function3E<String, String, String, Either<Rejected, String>, IOException> fn = breaker.wrap(this::invoke);
+    assertThrows(IOException.class, () -> fn.apply("a", "b", "c"));
+    this.failing = false;
+    for (int i = 0; i < 4; i++) {
+      assertEquals(Either.right("abc"), fn.apply("a", "b", "c"));
+    }
+    this.failing = true;
+    assertThrows(IOException.class, () -> fn.apply("a", "b", "c"));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    assertEquals(2.0 / 6, breaker.failureRate(), 0.0001);
+  }
+
+  @Test
+  void testIgnoredExceptionsCountAsSuccess() {
+    final CircuitBreaker breaker = CircuitBreaker.builder().countWindow(2).minimumCalls(1).recordIf(IOException.class::isInstance).build();
+    assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+      throw new IllegalStateException();
+    }));
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+  }
+}
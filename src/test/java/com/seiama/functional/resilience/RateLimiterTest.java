@@ -0,0 +1,55 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.SupplierE;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimiterTest {
+  @Test
+  void testLimitsBursts() {
+    final RateLimiter limiter = RateLimiter.of(3, Duration.ofHours(1));
+    final SupplierE<Either<Rejected, Unit>, RuntimeException> fn = limiter.wrap(() -> { });
+    assertEquals(3, limiter.available());
+    for (int i = 0; i < 3; i++) {
+      assertEquals(Either.right(Unit.INSTANCE), fn.get());
+    }
+    assertEquals(Either.left(Rejected.RATE_LIMITED), fn.get());
+    assertEquals(0, limiter.available());
+  }
+
+  @Test
+  void testReplenishes() throws InterruptedException {
+    final RateLimiter limiter = RateLimiter.of(1, Duration.ofMillis(20));
+    assertEquals(Either.right("a"), limiter.call(() -> "a"));
+    assertEquals(Either.left(Rejected.RATE_LIMITED), limiter.call(() -> "b"));
+    Thread.sleep(40);
+    assertEquals(Either.right("c"), limiter.call(() -> "c"));
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Function2E;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryTest {
+  private static Retry.Builder immediate() {
+    return Retry.builder().backoff(Duration.ZERO, Duration.ZERO, 1);
+  }
+
+  @Test
+  void testSucceedsAfterRetries() throws IOException {
+    final AtomicInteger calls = new AtomicInteger();
+    final Function2E<Integer, Integer, Either<Retry.Exhausted, Integer>, IOException> fn = immediate().maxAttempts(3).build().wrap((Integer a, Integer b) -> {
+      if (calls.incrementAndGet() < 3) {
+        throw new IOException("flaky");
+      }
+      return a + b;
+    });
+    assertEquals(Either.right(3), fn.apply(1, 2));
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void testExhausted() throws IOException {
+    final IOException exception = new IOException("down");
+    final Either<Retry.Exhausted, String> result = immediate().maxAttempts(4).build().call(() -> {
+      throw exception;
+    });
+    assertEquals(Either.left(new Retry.Exhausted(4, exception)), result);
+  }
+
+  @Test
+  void testNonRetryableIsRethrown() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Retry retry = immediate().maxAttempts(5).retryOn(IOException.class).build();
+    assertThrows(IllegalStateException.class, () -> retry.call(() -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException();
+    }));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testInterruptIsNotRetried() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Retry retry = immediate().maxAttempts(5).retryIf(t -> true).build();
+    assertThrows(InterruptedException.class, () -> retry.call(() -> {
+      calls.incrementAndGet();
+      throw new InterruptedException();
+    }));
+    assertFalse(Thread.interrupted());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testBudgetStopsRetries() throws IOException {
+    final RetryBudget budget = RetryBudget.of(2, Duration.ofHours(1));
+    final Retry retry = immediate().maxAttempts(10).budget(budget).build();
+    final AtomicInteger calls = new AtomicInteger();
+    final Either<Retry.Exhausted, Object> result = retry.call(() -> {
+      calls.incrementAndGet();
+      throw new IOException();
+    });
+    assertEquals(3, calls.get());
+    assertEquals(3, result.left().orElseThrow().attempts());
+    assertEquals(0, budget.available());
+  }
+
+  @Test
+  void testDelay() {
+    final Retry retry = Retry.builder().backoff(Duration.ofMillis(100), Duration.ofMillis(300), 2).jitter(0.5).build();
+    for (int i = 0; i < 100; i++) {
+      final long first = retry.delay(1);
+      final long third = retry.delay(3);
+      assertTrue(first > Duration.ofMillis(50).toNanos() && first <= Duration.ofMillis(100).toNanos());
+      assertTrue(third > Duration.ofMillis(150).toNanos() && third <= Duration.ofMillis(300).toNanos());
+    }
+  }
+}
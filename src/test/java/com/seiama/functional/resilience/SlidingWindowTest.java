@@ -0,0 +1,77 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SlidingWindowTest {
+  private static final int SIZE = 8;
+
+  @Test
+  void testCountsStayInRangeWhileResetting() throws InterruptedException {
+    final SlidingWindow window = new SlidingWindow.Count(SIZE);
+    final AtomicBoolean done = new AtomicBoolean();
+    final AtomicReference<String> violation = new AtomicReference<>();
+    final List<Thread> recorders = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      final Thread recorder = new Thread(() -> {
+        while (!done.get()) {
+          check(window.record(ThreadLocalRandom.current().nextBoolean()), violation);
+          check(window.totals(), violation);
+        }
+      });
+      recorder.start();
+      recorders.add(recorder);
+    }
+    for (int i = 0; i < 20_000; i++) {
+      window.reset();
+    }
+    done.set(true);
+    for (final Thread recorder : recorders) {
+      recorder.join();
+    }
+    assertNull(violation.get());
+    window.reset();
+    window.record(true);
+    window.record(false);
+    assertEquals(2, SlidingWindow.calls(window.totals()));
+    assertEquals(1, SlidingWindow.failures(window.totals()));
+  }
+
+  private static void check(final long totals, final AtomicReference<String> violation) {
+    final long calls = SlidingWindow.calls(totals);
+    final long failures = SlidingWindow.failures(totals);
+    if (calls > SIZE || failures > calls) {
+      violation.compareAndSet(null, calls + " calls, " + failures + " failures");
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resilience;
+
+import com.seiama.functional.adt.either.Either;
+import com.seiama.functional.function.exceptional.Function4E;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeoutTest {
+  private static final Duration SHORT = Duration.ofMillis(50);
+
+  @Test
+  void testCompletesInTime() throws IOException {
+    final Function4E<Integer, Integer, Integer, Integer, Either<Timeout.Expired, Integer>, IOException> fn = Timeout.of(Duration.ofSeconds(10)).wrap((Integer a, Integer b, Integer c, Integer d) -> a + b + c + d);
+    assertEquals(Either.right(10), fn.apply(1, 2, 3, 4));
+  }
+
+  @Test
+  void testExpiresAndInterrupts() throws InterruptedException {
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final Either<Timeout.Expired, String> result = Timeout.of(SHORT).call(() -> {
+      try {
+        Thread.sleep(10_000);
+        return "late";
+      } catch (final InterruptedException e) {
+        interrupted.countDown();
+        throw e;
+      }
+    });
+    assertEquals(Either.left(new Timeout.Expired(SHORT)), result);
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testWatchdog() throws InterruptedException {
+    final Timeout timeout = Timeout.watchdog(SHORT);
+    assertEquals(Either.left(new Timeout.Expired(SHORT)), timeout.call(() -> {
+      Thread.sleep(10_000);
+      return "late";
+    }));
+    assertFalse(Thread.currentThread().isInterrupted());
+    assertEquals(Either.right("fast"), timeout.call(() -> "fast"));
+    Thread.sleep(SHORT.toMillis() * 2);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void testExceptionsPropagate() {
+    assertThrows(IOException.class, () -> Timeout.of(SHORT).call(() -> {
+      throw new IOException();
+    }));
+    assertThrows(IOException.class, () -> Timeout.watchdog(SHORT).call(() -> {
+      throw new IOException();
+    }));
+  }
+
+  @Test
+  void testDeadlinePropagates() {
+    assertEquals(Optional.empty(), Timeout.remaining());
+    final Timeout outer = Timeout.of(SHORT);
+    final Timeout inner = Timeout.of(Duration.ofSeconds(10));
+    final Either<Timeout.Expired, Duration> remaining = outer.call(() -> inner.call(() -> Timeout.remaining().orElseThrow()).right().orElseThrow());
+    assertTrue(remaining.right().orElseThrow().compareTo(SHORT) <= 0);
+
+    final AtomicBoolean invoked = new AtomicBoolean();
+    Timeout.watchdog(SHORT).call(() -> {
+      while (!Timeout.remaining().orElseThrow().isZero()) {
+        Thread.onSpinWait();
+      }
+      return inner.call(() -> invoked.getAndSet(true));
+    });
+    assertFalse(invoked.get());
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolTest {
+  @Test
+  void testDisposesWhenFull() {
+    final List<Integer> disposed = new ArrayList<>();
+    final int[] next = new int[1];
+    final Pool<Integer> pool = Pool.builder(() -> next[0]++).capacity(1).dispose(disposed::add).build();
+    final Integer a = pool.borrow();
+    final Integer b = pool.borrow();
+    pool.release(a);
+    pool.release(b);
+    assertEquals(List.of(b), disposed);
+    assertEquals(a, pool.borrow());
+  }
+
+  @Test
+  void testConcurrentBorrowers() throws InterruptedException {
+    final Queue<int[]> created = new ConcurrentLinkedQueue<>();
+    final Pool<int[]> shared = Pool.builder(() -> {
+      final int[] counter = new int[1];
+      created.add(counter);
+      return counter;
+    }).capacity(4).build();
+    final Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          final int[] counter = shared.borrow();
+          counter[0]++;
+          shared.release(counter);
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(shared.idle() <= 4);
+    int total = 0;
+    for (final int[] counter : created) {
+      total += counter[0];
+    }
+    assertEquals(80_000, total);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.resource;
+
+import com.seiama.functional.adt.either.Either;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceTest {
+  @Test
+  void testReleasesInReverseOrder() {
+    final List<String> log = new ArrayList<>();
+    final Resource<String> resource = this.tracked("a", log).flatMap(a -> this.tracked(a + "b", log)).flatMap(b -> this.tracked(b + "c", log));
+    assertEquals(Either.right(3), resource.use(String::length));
+    assertEquals(List.of("acquire a", "acquire ab", "acquire abc", "release abc", "release ab", "release a"), log);
+  }
+
+  @Test
+  void testReleasesAcquiredResourcesWhenAcquireFails() {
+    final List<String> log = new ArrayList<>();
+    final Resource<String> resource = this.tracked("a", log).flatMap(a -> Resource.<String>of(() -> {
+      throw new IOException("boom");
+    }, value -> log.add("never")));
+    final Either<Throwable, Integer> result = resource.use(String::length);
+    assertInstanceOf(IOException.class, result.left().orElseThrow());
+    assertEquals(List.of("acquire a", "release a"), log);
+  }
+
+  @Test
+  void testSuppressesReleaseFailures() {
+    final Either<Throwable, Integer> result = Resource.<String, Integer>bracket(() -> "a", value -> {
+      throw new IllegalStateException("use");
+    }, value -> {
+      throw new IOException("release");
+    });
+    final Throwable failure = result.left().orElseThrow();
+    assertEquals("use", failure.getMessage());
+    assertEquals(1, failure.getSuppressed().length);
+    assertEquals("release", failure.getSuppressed()[0].getMessage());
+  }
+
+  @Test
+  void testReleaseFailureAloneIsTheFailure() {
+    final Either<Throwable, Integer> result = Resource.bracket(() -> "a", String::length, value -> {
+      throw new IOException("release");
+    });
+    assertEquals("release", result.left().orElseThrow().getMessage());
+  }
+
+  @Test
+  void testRethrowsVirtualMachineErrorsAfterReleasing() {
+    final List<String> log = new ArrayList<>();
+    final StackOverflowError error = assertThrows(StackOverflowError.class, () -> this.tracked("a", log).use(value -> {
+      throw new StackOverflowError();
+    }));
+    assertEquals(List.of("acquire a", "release a"), log);
+    final Resource<String> failsToRelease = Resource.of(() -> "b", value -> {
+      throw new OutOfMemoryError("release");
+    });
+    final OutOfMemoryError released = assertThrows(OutOfMemoryError.class, () -> failsToRelease.use(value -> {
+      throw new IOException("use");
+    }));
+    assertEquals("use", released.getSuppressed()[0].getMessage());
+    assertEquals(0, error.getSuppressed().length);
+  }
+
+  @Test
+  void testRestoresInterruptStatusAfterReleasing() {
+    final AtomicBoolean interruptedDuringRelease = new AtomicBoolean();
+    final Either<Throwable, Integer> result = Resource.<String, Integer>bracket(() -> "a", value -> {
+      throw new InterruptedException();
+    }, value -> interruptedDuringRelease.set(Thread.currentThread().isInterrupted()));
+    assertInstanceOf(InterruptedException.class, result.left().orElseThrow());
+    assertFalse(interruptedDuringRelease.get());
+    assertTrue(Thread.interrupted());
+  }
+
+  @Test
+  void testPooledResources() {
+    final List<StringBuilder> created = new ArrayList<>();
+    final Pool<StringBuilder> pool = Pool.builder(() -> {
+      final StringBuilder builder = new StringBuilder();
+      created.add(builder);
+      return builder;
+    }).capacity(2).reset(builder -> builder.setLength(0)).build();
+    for (int i = 0; i < 100; i++) {
+      final String value = "v" + i;
+      assertEquals(Either.right(value), pool.resource().use(builder -> builder.append(value).toString()));
+    }
+    assertEquals(1, created.size());
+    assertEquals(1, pool.idle());
+    assertEquals(0, created.get(0).length());
+  }
+
+  private Resource<String> tracked(final String name, final List<String> log) {
+    return Resource.of(() -> {
+      log.add("acquire " + name);
+      return name;
+    }, value -> log.add("release " + value));
+  }
+}
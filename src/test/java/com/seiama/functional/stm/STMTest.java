@@ -0,0 +1,165 @@
+/*
+ * This file is part of functional, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 Seiama
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.seiama.functional.stm;
+
+import com.seiama.functional.Unit;
+import com.seiama.functional.adt.either.Either;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class STMTest {
+  @Test
+  void testCommit() {
+    final TRef<Integer> a = TRef.of(1);
+    final TRef<Integer> b = TRef.of(2);
+    final Either<STM.Conflict, Integer> result = STM.atomically(() -> {
+      a.set(a.get() + 10);
+      b.update(value -> value * 2);
+      return a.get() + b.get();
+    });
+    assertEquals(Either.right(15), result);
+    assertEquals(11, a.get());
+    assertEquals(4, b.get());
+  }
+
+  @Test
+  void testExceptionRollsBack() {
+    final TRef<String> ref = TRef.of("a");
+    assertThrows(IOException.class, () -> STM.atomically(() -> {
+      ref.set("b");
+      throw new IOException("abort");
+    }));
+    assertEquals("a", ref.get());
+  }
+
+  @Test
+  void testSetOutsideTransaction() {
+    assertThrows(IllegalStateException.class, () -> TRef.of(1).set(2));
+    assertThrows(IllegalStateException.class, STM::retry);
+  }
+
+  @Test
+  void testConcurrentTransfers() throws InterruptedException {
+    final int accounts = 8;
+    final TRef<Long>[] balances = refs(accounts, 1_000L);
+    final Thread[] threads = new Thread[64];
+    for (int t = 0; t < threads.length; t++) {
+      final int seed = t;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          final TRef<Long> from = balances[(seed + i) % accounts];
+          final TRef<Long> to = balances[(seed * 7 + i * 3 + 1) % accounts];
+          STM.atomically(Integer.MAX_VALUE, () -> {
+            from.set(from.get() - 1);
+            to.set(to.get() + 1);
+            return Unit.INSTANCE;
+          });
+        }
+      });
+      threads[t].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    final long total = STM.atomically(() -> {
+      long sum = 0;
+      for (final TRef<Long> balance : balances) {
+        sum += balance.get();
+      }
+      return sum;
+    }).fold(conflict -> -1L, sum -> sum);
+    assertEquals(accounts * 1_000L, total);
+  }
+
+  @Test
+  void testRetryWaitsForChange() throws InterruptedException {
+    final TRef<Integer> ref = TRef.of(0);
+    final CountDownLatch done = new CountDownLatch(1);
+    final Thread waiter = new Thread(() -> {
+      STM.atomically(() -> ref.get() < 3 ? STM.retry() : ref.get());
+      done.countDown();
+    });
+    waiter.start();
+    for (int i = 0; i < 3; i++) {
+      Thread.sleep(10);
+      STM.atomically(() -> ref.set(ref.get() + 1));
+    }
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testOrElse() {
+    final TRef<Integer> ref = TRef.of(0);
+    final Either<STM.Conflict, String> result = STM.atomically(() -> STM.orElse(
+      () -> {
+        ref.set(42);
+        return STM.retry();
+      },
+      () -> "second saw " + ref.get()
+    ));
+    assertEquals(Either.right("second saw 0"), result);
+    assertEquals(0, ref.get());
+  }
+
+  @Test
+  void testConflictLimit() throws InterruptedException {
+    final TRef<Integer> ref = TRef.of(0);
+    final CountDownLatch read = new CountDownLatch(1);
+    final CountDownLatch written = new CountDownLatch(1);
+    final Thread writer = new Thread(() -> {
+      try {
+        read.await();
+      } catch (final InterruptedException e) {
+        return;
+      }
+      STM.atomically(() -> ref.set(1));
+      written.countDown();
+    });
+    writer.start();
+    final Either<STM.Conflict, Integer> result = STM.atomically(1, () -> {
+      final int value = ref.get();
+      read.countDown();
+      written.await();
+      ref.set(value + 1);
+      return value;
+    });
+    assertEquals(Either.left(new STM.Conflict(1)), result);
+    assertEquals(1, ref.get());
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static <T> TRef<T>[] refs(final int count, final T initial) {
+    final TRef<T>[] refs = new TRef[count];
+    for (int i = 0; i < count; i++) {
+      refs[i] = TRef.of(initial);
+    }
+    return refs;
+  }
+}